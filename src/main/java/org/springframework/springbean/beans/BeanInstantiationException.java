@@ -0,0 +1,49 @@
+package org.springframework.springbean.beans;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+public class BeanInstantiationException extends FatalBeanException {
+    private Class<?> beanClass;
+    @Nullable
+    private Constructor<?> constructor;
+    @Nullable
+    private Method constructingMethod;
+
+    public BeanInstantiationException(Class<?> beanClass, String msg) {
+        this(beanClass, msg, (Throwable)null);
+    }
+
+    public BeanInstantiationException(Class<?> beanClass, String msg, @Nullable Throwable cause) {
+        super("Failed to instantiate [" + beanClass.getName() + "]: " + msg, cause);
+        this.beanClass = beanClass;
+    }
+
+    public BeanInstantiationException(Constructor<?> constructor, String msg, @Nullable Throwable cause) {
+        super("Failed to instantiate [" + constructor.getDeclaringClass().getName() + "]: " + msg, cause);
+        this.beanClass = constructor.getDeclaringClass();
+        this.constructor = constructor;
+    }
+
+    public BeanInstantiationException(Method constructingMethod, String msg, @Nullable Throwable cause) {
+        super("Failed to instantiate [" + constructingMethod.getReturnType().getName() + "]: " + msg, cause);
+        this.beanClass = constructingMethod.getReturnType();
+        this.constructingMethod = constructingMethod;
+    }
+
+    public Class<?> getBeanClass() {
+        return this.beanClass;
+    }
+
+    @Nullable
+    public Constructor<?> getConstructor() {
+        return this.constructor;
+    }
+
+    @Nullable
+    public Method getConstructingMethod() {
+        return this.constructingMethod;
+    }
+}
@@ -16,6 +16,7 @@ public class MutablePropertyValues implements PropertyValues, Serializable {
     @Nullable
     private Set<String> processedProperties;
     private volatile boolean converted = false;
+    private volatile int modificationCount;
 
     public MutablePropertyValues() {
         this.propertyValueList = new ArrayList(0);
@@ -98,6 +99,7 @@ public class MutablePropertyValues implements PropertyValues, Serializable {
         }
 
         this.propertyValueList.add(pv);
+        this.propertyValuesModified();
         return this;
     }
 
@@ -112,6 +114,16 @@ public class MutablePropertyValues implements PropertyValues, Serializable {
 
     public void setPropertyValueAt(PropertyValue pv, int i) {
         this.propertyValueList.set(i, pv);
+        this.propertyValuesModified();
+    }
+
+    private void propertyValuesModified() {
+        this.converted = false;
+        ++this.modificationCount;
+    }
+
+    public int getModificationCount() {
+        return this.modificationCount;
     }
 
     private PropertyValue mergeIfRequired(PropertyValue newPv, PropertyValue currentPv) {
@@ -128,11 +140,14 @@ public class MutablePropertyValues implements PropertyValues, Serializable {
     }
 
     public void removePropertyValue(PropertyValue pv) {
-        this.propertyValueList.remove(pv);
+        if (this.propertyValueList.remove(pv)) {
+            this.propertyValuesModified();
+        }
+
     }
 
     public void removePropertyValue(String propertyName) {
-        this.propertyValueList.remove(this.getPropertyValue(propertyName));
+        this.removePropertyValue(this.getPropertyValue(propertyName));
     }
 
     public PropertyValue[] getPropertyValues() {
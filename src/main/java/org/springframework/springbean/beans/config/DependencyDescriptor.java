@@ -12,6 +12,7 @@ import org.springframework.springcore.core.KotlinDetector;
 import org.springframework.springcore.core.MethodParameter;
 import org.springframework.springcore.core.ParameterNameDiscoverer;
 import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.annotation.AnnotationUtils;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -34,6 +35,7 @@ public class DependencyDescriptor extends InjectionPoint implements Serializable
   private String fieldName;
   private final boolean required;
   private final boolean eager;
+  private boolean lazy;
   private int nestingLevel;
   @Nullable
   private Class<?> containingClass;
@@ -83,6 +85,7 @@ public class DependencyDescriptor extends InjectionPoint implements Serializable
     this.containingClass = original.containingClass;
     this.required = original.required;
     this.eager = original.eager;
+    this.lazy = original.lazy;
     this.nestingLevel = original.nestingLevel;
   }
 
@@ -114,6 +117,28 @@ public class DependencyDescriptor extends InjectionPoint implements Serializable
     return this.eager;
   }
 
+  public void setLazy(boolean lazy) {
+    this.lazy = lazy;
+  }
+
+  public boolean isLazy() {
+    if (this.lazy) {
+      return true;
+    } else {
+      Annotation[] var1 = this.getAnnotations();
+      int var2 = var1.length;
+
+      for(int var3 = 0; var3 < var2; ++var3) {
+        Annotation ann = var1[var3];
+        if ("Lazy".equals(ann.annotationType().getSimpleName())) {
+          return !Boolean.FALSE.equals(AnnotationUtils.getValue(ann));
+        }
+      }
+
+      return false;
+    }
+  }
+
   @Nullable
   public Object resolveNotUnique(Class<?> type, Map<String, Object> matchingBeans) throws BeansException {
     throw new NoUniqueBeanDefinitionException(type, matchingBeans.keySet());
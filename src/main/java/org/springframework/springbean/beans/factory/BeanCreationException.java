@@ -0,0 +1,55 @@
+package org.springframework.springbean.beans.factory;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.FatalBeanException;
+
+public class BeanCreationException extends FatalBeanException {
+    @Nullable
+    private final String beanName;
+    @Nullable
+    private final String resourceDescription;
+
+    public BeanCreationException(String msg) {
+        super(msg);
+        this.beanName = null;
+        this.resourceDescription = null;
+    }
+
+    public BeanCreationException(String msg, Throwable cause) {
+        super(msg, cause);
+        this.beanName = null;
+        this.resourceDescription = null;
+    }
+
+    public BeanCreationException(String beanName, String msg) {
+        super("Error creating bean with name '" + beanName + "': " + msg);
+        this.beanName = beanName;
+        this.resourceDescription = null;
+    }
+
+    public BeanCreationException(String beanName, String msg, Throwable cause) {
+        this(beanName, msg);
+        this.initCause(cause);
+    }
+
+    public BeanCreationException(@Nullable String resourceDescription, @Nullable String beanName, String msg) {
+        super("Error creating bean with name '" + beanName + "'" + (resourceDescription != null ? " defined in " + resourceDescription : "") + ": " + msg);
+        this.resourceDescription = resourceDescription;
+        this.beanName = beanName;
+    }
+
+    public BeanCreationException(@Nullable String resourceDescription, String beanName, String msg, Throwable cause) {
+        this(resourceDescription, beanName, msg);
+        this.initCause(cause);
+    }
+
+    @Nullable
+    public String getResourceDescription() {
+        return this.resourceDescription;
+    }
+
+    @Nullable
+    public String getBeanName() {
+        return this.beanName;
+    }
+}
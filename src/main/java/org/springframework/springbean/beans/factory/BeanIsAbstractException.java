@@ -0,0 +1,7 @@
+package org.springframework.springbean.beans.factory;
+
+public class BeanIsAbstractException extends BeanCreationException {
+    public BeanIsAbstractException(String beanName) {
+        super(beanName, "Bean definition is abstract");
+    }
+}
@@ -0,0 +1,5 @@
+package org.springframework.springbean.beans.factory;
+
+public interface DisposableBean {
+  void destroy() throws Exception;
+}
@@ -0,0 +1,8 @@
+package org.springframework.springbean.beans.factory;
+
+import org.springframework.springbean.beans.BeansException;
+
+@FunctionalInterface
+public interface ObjectFactory<T> {
+    T getObject() throws BeansException;
+}
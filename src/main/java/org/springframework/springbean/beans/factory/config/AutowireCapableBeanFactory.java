@@ -2,9 +2,9 @@ package org.springframework.springbean.beans.factory.config;
 
 import org.jetbrains.annotations.Nullable;
 import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.TypeConverter;
 import org.springframework.springbean.beans.config.DependencyDescriptor;
 import org.springframework.springbean.beans.factory.BeanFactory;
-import sun.plugin.com.TypeConverter;
 
 import java.util.Set;
 
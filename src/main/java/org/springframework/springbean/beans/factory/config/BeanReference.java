@@ -0,0 +1,7 @@
+package org.springframework.springbean.beans.factory.config;
+
+import org.springframework.springbean.beans.BeanMetadataElement;
+
+public interface BeanReference extends BeanMetadataElement {
+    String getBeanName();
+}
@@ -0,0 +1,50 @@
+package org.springframework.springbean.beans.factory.config;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springbean.beans.factory.HierarchicalBeanFactory;
+import org.springframework.springbean.beans.factory.ListableBeanFactory;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springcore.core.metrics.StartupTimeline;
+
+public interface ConfigurableListableBeanFactory extends ListableBeanFactory, HierarchicalBeanFactory {
+  void setParentBeanFactory(@Nullable BeanFactory var1) throws IllegalStateException;
+
+  void setBeanClassLoader(@Nullable ClassLoader var1);
+
+  @Nullable
+  ClassLoader getBeanClassLoader();
+
+  void setStartupTimeline(@Nullable StartupTimeline var1);
+
+  @Nullable
+  StartupTimeline getStartupTimeline();
+
+  void registerSingleton(String var1, Object var2);
+
+  boolean containsSingleton(String var1);
+
+  BeanDefinition getBeanDefinition(String var1) throws NoSuchBeanDefinitionException;
+
+  BeanDefinition getMergedBeanDefinition(String var1) throws BeansException;
+
+  boolean isCurrentlyInCreation(String var1);
+
+  void registerDependentBean(String var1, String var2);
+
+  String[] getDependentBeans(String var1);
+
+  String[] getDependenciesForBean(String var1);
+
+  void preInstantiateSingletons() throws BeansException;
+
+  void setDestructionParallelism(int var1);
+
+  void setDestructionTimeout(long var1);
+
+  void destroySingletons();
+
+  @Nullable
+  SingletonDestructionReport getDestructionReport();
+}
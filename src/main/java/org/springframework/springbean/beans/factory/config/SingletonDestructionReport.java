@@ -0,0 +1,70 @@
+package org.springframework.springbean.beans.factory.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class SingletonDestructionReport {
+    private final int beanCount;
+    private final int parallelism;
+    private final long timeoutMillis;
+    private final Map<String, Long> slowestDestroyers;
+    private final Map<String, Throwable> failedDestroyers;
+    private final List<String> timedOutDestroyers;
+    private final long elapsedNanos;
+
+    public SingletonDestructionReport(int beanCount, int parallelism, long timeoutMillis, Map<String, Long> slowestDestroyers, Map<String, Throwable> failedDestroyers, List<String> timedOutDestroyers, long elapsedNanos) {
+        this.beanCount = beanCount;
+        this.parallelism = parallelism;
+        this.timeoutMillis = timeoutMillis;
+        this.slowestDestroyers = Collections.unmodifiableMap(slowestDestroyers);
+        this.failedDestroyers = Collections.unmodifiableMap(failedDestroyers);
+        this.timedOutDestroyers = Collections.unmodifiableList(timedOutDestroyers);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getBeanCount() {
+        return this.beanCount;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    public Map<String, Long> getSlowestDestroyers() {
+        return this.slowestDestroyers;
+    }
+
+    public Map<String, Throwable> getFailedDestroyers() {
+        return this.failedDestroyers;
+    }
+
+    public List<String> getTimedOutDestroyers() {
+        return this.timedOutDestroyers;
+    }
+
+    public SingletonDestructionReport withFailedDestroyer(String name, Throwable failure) {
+        Map<String, Throwable> failed = new LinkedHashMap(this.failedDestroyers.size() + 1);
+        failed.put(name, failure);
+        failed.putAll(this.failedDestroyers);
+        return new SingletonDestructionReport(this.beanCount, this.parallelism, this.timeoutMillis, this.slowestDestroyers, failed, this.timedOutDestroyers, this.elapsedNanos);
+    }
+
+    public boolean isClean() {
+        return this.failedDestroyers.isEmpty() && this.timedOutDestroyers.isEmpty();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+    }
+
+    public String toString() {
+        return "Destroyed " + this.beanCount + " singletons with parallelism " + this.parallelism + " in " + this.getElapsedMillis() + " ms; slowest destroyers (ms): " + this.slowestDestroyers + "; failed: " + this.failedDestroyers.keySet() + "; timed out after " + this.timeoutMillis + " ms: " + this.timedOutDestroyers;
+    }
+}
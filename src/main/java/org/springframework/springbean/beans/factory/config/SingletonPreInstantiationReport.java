@@ -0,0 +1,49 @@
+package org.springframework.springbean.beans.factory.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class SingletonPreInstantiationReport {
+    private final int beanCount;
+    private final int parallelism;
+    private final List<String> criticalPath;
+    private final long criticalPathNanos;
+    private final long elapsedNanos;
+
+    public SingletonPreInstantiationReport(int beanCount, int parallelism, List<String> criticalPath, long criticalPathNanos, long elapsedNanos) {
+        this.beanCount = beanCount;
+        this.parallelism = parallelism;
+        this.criticalPath = Collections.unmodifiableList(criticalPath);
+        this.criticalPathNanos = criticalPathNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getBeanCount() {
+        return this.beanCount;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public List<String> getCriticalPath() {
+        return this.criticalPath;
+    }
+
+    public int getCriticalPathLength() {
+        return this.criticalPath.size();
+    }
+
+    public long getCriticalPathMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.criticalPathNanos);
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+    }
+
+    public String toString() {
+        return "Pre-instantiated " + this.beanCount + " singletons with parallelism " + this.parallelism + " in " + this.getElapsedMillis() + " ms; critical path of " + this.getCriticalPathLength() + " beans took " + this.getCriticalPathMillis() + " ms: " + this.criticalPath;
+    }
+}
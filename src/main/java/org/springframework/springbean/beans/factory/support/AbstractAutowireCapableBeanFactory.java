@@ -0,0 +1,369 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.FatalBeanException;
+import org.springframework.springbean.beans.MutablePropertyValues;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springbean.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springcore.core.ParameterNameDiscoverer;
+import org.springframework.springcore.core.StandardReflectionParameterNameDiscoverer;
+import org.springframework.springcore.core.metrics.StartupTimeline;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFactory implements AutowireCapableBeanFactory {
+    private InstantiationStrategy instantiationStrategy = new MethodHandleInstantiationStrategy();
+    @Nullable
+    private ParameterNameDiscoverer parameterNameDiscoverer = new StandardReflectionParameterNameDiscoverer();
+    private boolean allowCircularReferences = true;
+    private final Map<AbstractAutowireCapableBeanFactory.ClassBeanDefinitionKey, RootBeanDefinition> classBeanDefinitions = new ConcurrentHashMap(64);
+
+    public AbstractAutowireCapableBeanFactory() {
+    }
+
+    public AbstractAutowireCapableBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        super(parentBeanFactory);
+    }
+
+    public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+    }
+
+    protected InstantiationStrategy getInstantiationStrategy() {
+        return this.instantiationStrategy;
+    }
+
+    public void setParameterNameDiscoverer(@Nullable ParameterNameDiscoverer parameterNameDiscoverer) {
+        this.parameterNameDiscoverer = parameterNameDiscoverer;
+    }
+
+    @Nullable
+    protected ParameterNameDiscoverer getParameterNameDiscoverer() {
+        return this.parameterNameDiscoverer;
+    }
+
+    public void setAllowCircularReferences(boolean allowCircularReferences) {
+        this.allowCircularReferences = allowCircularReferences;
+    }
+
+    public boolean isAllowCircularReferences() {
+        return this.allowCircularReferences;
+    }
+
+    public <T> T createBean(Class<T> beanClass) throws BeansException {
+        return (T)this.createBean(beanClass.getName(), this.getClassBeanDefinition(beanClass), (Object[])null);
+    }
+
+    public Object createBean(Class<?> beanClass, int autowireMode, boolean dependencyCheck) throws BeansException {
+        return this.initializeBean(beanClass.getName(), this.autowire(beanClass, autowireMode, dependencyCheck), (RootBeanDefinition)null);
+    }
+
+    public Object autowire(Class<?> beanClass, int autowireMode, boolean dependencyCheck) throws BeansException {
+        RootBeanDefinition bd = this.getClassBeanDefinition(beanClass, autowireMode);
+        String beanName = beanClass.getName();
+        Object bean = this.createBeanInstance(beanName, bd, (Object[])null);
+        if (autowireMode != AUTOWIRE_CONSTRUCTOR) {
+            this.applyPropertyValues(beanName, bd, bean, bd.getPropertyValues(), autowireMode, dependencyCheck);
+        }
+
+        return bean;
+    }
+
+    public void autowireBean(Object existingBean) throws BeansException {
+        Class<?> beanClass = existingBean.getClass();
+        this.populateBean(beanClass.getName(), this.getClassBeanDefinition(beanClass), existingBean);
+    }
+
+    public void autowireBeanProperties(Object existingBean, int autowireMode, boolean dependencyCheck) throws BeansException {
+        if (autowireMode == AUTOWIRE_CONSTRUCTOR) {
+            throw new IllegalArgumentException("AUTOWIRE_CONSTRUCTOR not supported for existing bean instance");
+        } else {
+            Class<?> beanClass = existingBean.getClass();
+            RootBeanDefinition bd = this.getClassBeanDefinition(beanClass, autowireMode);
+            this.applyPropertyValues(beanClass.getName(), bd, existingBean, bd.getPropertyValues(), autowireMode, dependencyCheck);
+        }
+    }
+
+    public void applyBeanPropertyValues(Object existingBean, String beanName) throws BeansException {
+        RootBeanDefinition mbd = this.getMergedLocalBeanDefinition(beanName);
+        this.applyPropertyValues(beanName, mbd, existingBean, mbd.getPropertyValues(), AUTOWIRE_NO, false);
+    }
+
+    private RootBeanDefinition getClassBeanDefinition(Class<?> beanClass) {
+        return this.getClassBeanDefinition(beanClass, AUTOWIRE_NO);
+    }
+
+    private RootBeanDefinition getClassBeanDefinition(Class<?> beanClass, int autowireMode) {
+        return (RootBeanDefinition)this.classBeanDefinitions.computeIfAbsent(new AbstractAutowireCapableBeanFactory.ClassBeanDefinitionKey(beanClass, autowireMode), (key) -> {
+            RootBeanDefinition bd = new RootBeanDefinition(key.beanClass);
+            bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+            bd.setAutowireMode(key.autowireMode);
+            return bd;
+        });
+    }
+
+    protected Object createBean(String beanName, RootBeanDefinition mbd, @Nullable Object[] args) throws BeanCreationException {
+        try {
+            return this.doCreateBean(beanName, mbd, args);
+        } catch (BeanCreationException var5) {
+            throw var5;
+        } catch (Throwable var6) {
+            throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Unexpected exception during bean creation", var6);
+        }
+    }
+
+    protected Object doCreateBean(String beanName, RootBeanDefinition mbd, @Nullable Object[] args) throws BeanCreationException {
+        StartupTimeline timeline = this.getStartupTimeline();
+        long startNanos = timeline != null ? timeline.start() : 0L;
+        Object bean = this.createBeanInstance(beanName, mbd, args);
+        if (timeline != null) {
+            timeline.record("bean.instantiate", beanName, startNanos);
+            startNanos = timeline.start();
+        }
+
+        boolean earlySingletonExposure = mbd.isSingleton() && this.allowCircularReferences && this.isSingletonCurrentlyInCreation(beanName);
+        if (earlySingletonExposure) {
+            this.addSingletonFactory(beanName, () -> {
+                return bean;
+            });
+        }
+
+        this.populateBean(beanName, mbd, bean);
+        if (timeline != null) {
+            timeline.record("bean.populate", beanName, startNanos);
+            startNanos = timeline.start();
+        }
+
+        Object exposedObject = this.initializeBean(beanName, bean, mbd);
+        if (timeline != null) {
+            timeline.record("bean.initialize", beanName, startNanos);
+        }
+
+        this.registerDisposableBeanIfNecessary(beanName, bean, mbd);
+        return exposedObject;
+    }
+
+    protected void registerDisposableBeanIfNecessary(String beanName, Object bean, RootBeanDefinition mbd) {
+        if (mbd.isSingleton() && DisposableBeanAdapter.hasDestroyMethod(bean)) {
+            this.registerDisposableBean(beanName, new DisposableBeanAdapter(bean));
+        }
+
+    }
+
+    protected Object createBeanInstance(String beanName, RootBeanDefinition mbd, @Nullable Object[] args) {
+        if (mbd.getFactoryMethodName() != null) {
+            return this.instantiateUsingFactoryMethod(beanName, mbd, args);
+        } else {
+            Class<?> beanClass = this.resolveBeanClass(mbd, beanName);
+            if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
+                throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Specified class [" + beanClass.getName() + "] is an interface or abstract class");
+            } else {
+                return this.autowireConstructor(beanName, mbd, beanClass, args);
+            }
+        }
+    }
+
+    protected Object autowireConstructor(String beanName, RootBeanDefinition mbd, Class<?> beanClass, @Nullable Object[] explicitArgs) {
+        return (new ConstructorResolver(this)).autowireConstructor(beanName, mbd, beanClass, explicitArgs);
+    }
+
+    protected Object instantiateUsingFactoryMethod(String beanName, RootBeanDefinition mbd, @Nullable Object[] explicitArgs) {
+        return (new ConstructorResolver(this)).instantiateUsingFactoryMethod(beanName, mbd, explicitArgs);
+    }
+
+    protected Object instantiate(String beanName, RootBeanDefinition mbd, Constructor<?> ctor, Object[] args) {
+        try {
+            return this.getInstantiationStrategy().instantiate(mbd, beanName, this, ctor, args);
+        } catch (BeansException var6) {
+            throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Instantiation of bean failed", var6);
+        }
+    }
+
+    protected Object instantiate(String beanName, RootBeanDefinition mbd, @Nullable Object factoryBean, Method factoryMethod, Object[] args) {
+        Object result;
+        try {
+            result = this.getInstantiationStrategy().instantiate(mbd, beanName, this, factoryBean, factoryMethod, args);
+        } catch (BeansException var8) {
+            throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Instantiation of bean failed", var8);
+        }
+
+        if (result == null) {
+            throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Factory method '" + factoryMethod.getName() + "' returned null");
+        } else {
+            return result;
+        }
+    }
+
+    protected void populateBean(String beanName, RootBeanDefinition mbd, Object bean) {
+        this.applyPropertyValues(beanName, mbd, bean, mbd.getPropertyValues(), mbd.getAutowireMode(), false);
+    }
+
+    protected void applyPropertyValues(String beanName, RootBeanDefinition mbd, Object bean, MutablePropertyValues pvs, int autowireMode, boolean dependencyCheck) {
+        if (!pvs.isEmpty() || autowireMode == AUTOWIRE_BY_NAME || autowireMode == AUTOWIRE_BY_TYPE) {
+            Class<?> beanClass = bean.getClass();
+            int injectorMode = autowireMode != AUTOWIRE_BY_NAME && autowireMode != AUTOWIRE_BY_TYPE ? AUTOWIRE_NO : autowireMode;
+            PropertyInjector injector = (PropertyInjector)mbd.propertyInjectors.get(injectorMode);
+            if (injector == null || !injector.isCompiledFor(beanClass, pvs, injectorMode)) {
+                injector = PropertyInjector.compile(this, beanName, mbd, beanClass, pvs, injectorMode);
+                mbd.propertyInjectors.set(injectorMode, injector);
+            }
+
+            injector.inject(this, beanName, mbd, bean, dependencyCheck);
+        }
+    }
+
+    @Nullable
+    protected Method findWriteMethod(Class<?> beanClass, String propertyName, @Nullable Object value) {
+        String setterName = "set" + StringUtils.capitalize(propertyName);
+        List<Method> candidates = new ArrayList(2);
+        Method[] var6 = beanClass.getMethods();
+        int var7 = var6.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            Method method = var6[var8];
+            if (method.getName().equals(setterName) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+                candidates.add(method);
+            }
+        }
+
+        if (candidates.size() > 1) {
+            Iterator var10 = candidates.iterator();
+
+            while(var10.hasNext()) {
+                Method candidate = (Method)var10.next();
+                if (this.canConvert(value, candidate.getParameterTypes()[0])) {
+                    return candidate;
+                }
+            }
+        }
+
+        return candidates.isEmpty() ? null : (Method)candidates.get(0);
+    }
+
+    public Object initializeBean(Object existingBean, String beanName) throws BeansException {
+        return this.initializeBean(beanName, existingBean, (RootBeanDefinition)null);
+    }
+
+    protected Object initializeBean(String beanName, Object bean, @Nullable RootBeanDefinition mbd) {
+        return bean;
+    }
+
+    public Object applyBeanPostProcessorsBeforeInitialization(Object existingBean, String beanName) throws BeansException {
+        return existingBean;
+    }
+
+    public Object applyBeanPostProcessorsAfterInitialization(Object existingBean, String beanName) throws BeansException {
+        return existingBean;
+    }
+
+    public void destroyBean(Object existingBean) {
+        try {
+            (new DisposableBeanAdapter(existingBean)).destroy();
+        } catch (Throwable var3) {
+            throw new FatalBeanException("Invocation of destroy method failed on bean of type [" + existingBean.getClass().getName() + "]", var3);
+        }
+    }
+
+    protected boolean canConvert(@Nullable Object value, Class<?> requiredType) {
+        if (value == null) {
+            return !requiredType.isPrimitive();
+        } else if (ClassUtils.isAssignableValue(requiredType, value)) {
+            return true;
+        } else if (!(value instanceof String)) {
+            return false;
+        } else {
+            Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(requiredType);
+            return Number.class.isAssignableFrom(targetType) || targetType == Boolean.class || targetType == Character.class || targetType == Class.class || targetType.isEnum();
+        }
+    }
+
+    @Nullable
+    protected Object convertIfNecessary(@Nullable Object value, Class<?> requiredType) throws IllegalArgumentException {
+        if (value != null && !ClassUtils.isAssignableValue(requiredType, value)) {
+            if (!(value instanceof String)) {
+                throw new IllegalArgumentException("Cannot convert value of type '" + value.getClass().getName() + "' to required type '" + requiredType.getName() + "'");
+            } else {
+                String text = ((String)value).trim();
+                Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(requiredType);
+                if (targetType == Integer.class) {
+                    return Integer.valueOf(text);
+                } else if (targetType == Long.class) {
+                    return Long.valueOf(text);
+                } else if (targetType == Short.class) {
+                    return Short.valueOf(text);
+                } else if (targetType == Byte.class) {
+                    return Byte.valueOf(text);
+                } else if (targetType == Double.class) {
+                    return Double.valueOf(text);
+                } else if (targetType == Float.class) {
+                    return Float.valueOf(text);
+                } else if (targetType == java.math.BigDecimal.class) {
+                    return new java.math.BigDecimal(text);
+                } else if (targetType == java.math.BigInteger.class) {
+                    return new java.math.BigInteger(text);
+                } else if (targetType == Boolean.class) {
+                    return Boolean.valueOf(text);
+                } else if (targetType == Character.class && text.length() == 1) {
+                    return text.charAt(0);
+                } else if (targetType == Class.class) {
+                    try {
+                        return ClassUtils.forName(text, this.getBeanClassLoader());
+                    } catch (ClassNotFoundException | LinkageError var6) {
+                        throw new IllegalArgumentException("Cannot load class [" + text + "]", var6);
+                    }
+                } else if (targetType.isEnum()) {
+                    return Enum.valueOf((Class)targetType, text);
+                } else {
+                    throw new IllegalArgumentException("Cannot convert value of type 'java.lang.String' to required type '" + requiredType.getName() + "'");
+                }
+            }
+        } else if (value == null && requiredType.isPrimitive()) {
+            throw new IllegalArgumentException("Cannot assign null to primitive type '" + requiredType.getName() + "'");
+        } else {
+            return value;
+        }
+    }
+
+    public Object configureBean(Object existingBean, String beanName) throws BeansException {
+        RootBeanDefinition mbd = this.getMergedLocalBeanDefinition(beanName);
+        this.populateBean(beanName, mbd, existingBean);
+        return this.initializeBean(beanName, existingBean, mbd);
+    }
+
+    private static final class ClassBeanDefinitionKey {
+        private final Class<?> beanClass;
+        private final int autowireMode;
+
+        ClassBeanDefinitionKey(Class<?> beanClass, int autowireMode) {
+            this.beanClass = beanClass;
+            this.autowireMode = autowireMode;
+        }
+
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof AbstractAutowireCapableBeanFactory.ClassBeanDefinitionKey)) {
+                return false;
+            } else {
+                AbstractAutowireCapableBeanFactory.ClassBeanDefinitionKey otherKey = (AbstractAutowireCapableBeanFactory.ClassBeanDefinitionKey)other;
+                return this.beanClass == otherKey.beanClass && this.autowireMode == otherKey.autowireMode;
+            }
+        }
+
+        public int hashCode() {
+            return this.beanClass.hashCode() * 31 + this.autowireMode;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeanMetadataAttributeAccessor;
+import org.springframework.springbean.beans.MutablePropertyValues;
+import org.springframework.springbean.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ObjectUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.util.Arrays;
+
+public abstract class AbstractBeanDefinition extends BeanMetadataAttributeAccessor implements BeanDefinition, Cloneable {
+    public static final String SCOPE_DEFAULT = "";
+    public static final int AUTOWIRE_NO = AutowireCapableBeanFactory.AUTOWIRE_NO;
+    public static final int AUTOWIRE_BY_NAME = AutowireCapableBeanFactory.AUTOWIRE_BY_NAME;
+    public static final int AUTOWIRE_BY_TYPE = AutowireCapableBeanFactory.AUTOWIRE_BY_TYPE;
+    public static final int AUTOWIRE_CONSTRUCTOR = AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR;
+    @Nullable
+    private volatile Object beanClass;
+    @Nullable
+    private String scope;
+    private boolean abstractFlag;
+    private boolean lazyInit;
+    private int autowireMode;
+    @Nullable
+    private String[] dependsOn;
+    private boolean autowireCandidate;
+    private boolean primary;
+    @Nullable
+    private String factoryBeanName;
+    @Nullable
+    private String factoryMethodName;
+    @Nullable
+    private ConstructorArgumentValues constructorArgumentValues;
+    @Nullable
+    private MutablePropertyValues propertyValues;
+    private int role;
+    @Nullable
+    private String description;
+    @Nullable
+    private String resourceDescription;
+
+    protected AbstractBeanDefinition() {
+        this((ConstructorArgumentValues)null, (MutablePropertyValues)null);
+    }
+
+    protected AbstractBeanDefinition(@Nullable ConstructorArgumentValues cargs, @Nullable MutablePropertyValues pvs) {
+        this.scope = SCOPE_DEFAULT;
+        this.autowireCandidate = true;
+        this.role = 0;
+        this.constructorArgumentValues = cargs;
+        this.propertyValues = pvs;
+    }
+
+    protected AbstractBeanDefinition(BeanDefinition original) {
+        this.scope = SCOPE_DEFAULT;
+        this.autowireCandidate = true;
+        this.role = 0;
+        this.setParentName(original.getParentName());
+        this.setBeanClassName(original.getBeanClassName());
+        this.setScope(original.getScope());
+        this.setAbstract(original.isAbstract());
+        this.setLazyInit(original.isLazyInit());
+        this.setFactoryBeanName(original.getFactoryBeanName());
+        this.setFactoryMethodName(original.getFactoryMethodName());
+        this.setRole(original.getRole());
+        this.setSource(original.getSource());
+        this.copyAttributesFrom(original);
+        if (original instanceof AbstractBeanDefinition) {
+            AbstractBeanDefinition originalAbd = (AbstractBeanDefinition)original;
+            this.setAutowireMode(originalAbd.getAutowireMode());
+            if (originalAbd.hasBeanClass()) {
+                this.setBeanClass(originalAbd.getBeanClass());
+            }
+
+            if (originalAbd.hasConstructorArgumentValues()) {
+                this.setConstructorArgumentValues(new ConstructorArgumentValues(original.getConstructorArgumentValues()));
+            }
+
+            if (originalAbd.hasPropertyValues()) {
+                this.setPropertyValues(new MutablePropertyValues(original.getPropertyValues()));
+            }
+        } else {
+            this.setConstructorArgumentValues(new ConstructorArgumentValues(original.getConstructorArgumentValues()));
+            this.setPropertyValues(new MutablePropertyValues(original.getPropertyValues()));
+        }
+
+        this.setDependsOn(original.getDependsOn());
+        this.setAutowireCandidate(original.isAutowireCandidate());
+        this.setPrimary(original.isPrimary());
+        this.setDescription(original.getDescription());
+        this.setResourceDescription(original.getResourceDescription());
+    }
+
+    public void overrideFrom(BeanDefinition other) {
+        if (StringUtils.hasLength(other.getBeanClassName())) {
+            this.setBeanClassName(other.getBeanClassName());
+        }
+
+        if (StringUtils.hasLength(other.getScope())) {
+            this.setScope(other.getScope());
+        }
+
+        this.setAbstract(other.isAbstract());
+        this.setLazyInit(other.isLazyInit());
+        if (StringUtils.hasLength(other.getFactoryBeanName())) {
+            this.setFactoryBeanName(other.getFactoryBeanName());
+        }
+
+        if (StringUtils.hasLength(other.getFactoryMethodName())) {
+            this.setFactoryMethodName(other.getFactoryMethodName());
+        }
+
+        this.setRole(other.getRole());
+        this.setSource(other.getSource());
+        this.copyAttributesFrom(other);
+        if (other instanceof AbstractBeanDefinition) {
+            AbstractBeanDefinition otherAbd = (AbstractBeanDefinition)other;
+            this.setAutowireMode(otherAbd.getAutowireMode());
+            if (otherAbd.hasBeanClass()) {
+                this.setBeanClass(otherAbd.getBeanClass());
+            }
+
+            if (otherAbd.hasConstructorArgumentValues()) {
+                this.getConstructorArgumentValues().addArgumentValues(other.getConstructorArgumentValues());
+            }
+
+            if (otherAbd.hasPropertyValues()) {
+                this.getPropertyValues().addPropertyValues(other.getPropertyValues());
+            }
+        } else {
+            this.getConstructorArgumentValues().addArgumentValues(other.getConstructorArgumentValues());
+            this.getPropertyValues().addPropertyValues(other.getPropertyValues());
+        }
+
+        if (other.getDependsOn() != null) {
+            this.setDependsOn(other.getDependsOn());
+        }
+
+        this.setAutowireCandidate(other.isAutowireCandidate());
+        this.setPrimary(other.isPrimary());
+        this.setDescription(other.getDescription());
+        this.setResourceDescription(other.getResourceDescription());
+    }
+
+    public void setBeanClassName(@Nullable String beanClassName) {
+        this.beanClass = beanClassName;
+    }
+
+    @Nullable
+    public String getBeanClassName() {
+        Object beanClassObject = this.beanClass;
+        return beanClassObject instanceof Class ? ((Class)beanClassObject).getName() : (String)beanClassObject;
+    }
+
+    public void setBeanClass(@Nullable Class<?> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    public Class<?> getBeanClass() throws IllegalStateException {
+        Object beanClassObject = this.beanClass;
+        if (beanClassObject == null) {
+            throw new IllegalStateException("No bean class specified on bean definition");
+        } else if (!(beanClassObject instanceof Class)) {
+            throw new IllegalStateException("Bean class name [" + beanClassObject + "] has not been resolved into an actual Class");
+        } else {
+            return (Class)beanClassObject;
+        }
+    }
+
+    public boolean hasBeanClass() {
+        return this.beanClass instanceof Class;
+    }
+
+    @Nullable
+    public Class<?> resolveBeanClass(@Nullable ClassLoader classLoader) throws ClassNotFoundException {
+        String className = this.getBeanClassName();
+        if (className == null) {
+            return null;
+        } else {
+            Class<?> resolvedClass = ClassUtils.forName(className, classLoader);
+            this.beanClass = resolvedClass;
+            return resolvedClass;
+        }
+    }
+
+    public void setScope(@Nullable String scope) {
+        this.scope = scope;
+    }
+
+    @Nullable
+    public String getScope() {
+        return this.scope;
+    }
+
+    public boolean isSingleton() {
+        return SCOPE_SINGLETON.equals(this.scope) || SCOPE_DEFAULT.equals(this.scope);
+    }
+
+    public boolean isPrototype() {
+        return SCOPE_PROTOTYPE.equals(this.scope);
+    }
+
+    public void setAbstract(boolean abstractFlag) {
+        this.abstractFlag = abstractFlag;
+    }
+
+    public boolean isAbstract() {
+        return this.abstractFlag;
+    }
+
+    public void setLazyInit(boolean lazyInit) {
+        this.lazyInit = lazyInit;
+    }
+
+    public boolean isLazyInit() {
+        return this.lazyInit;
+    }
+
+    public void setAutowireMode(int autowireMode) {
+        this.autowireMode = autowireMode;
+    }
+
+    public int getAutowireMode() {
+        return this.autowireMode;
+    }
+
+    public void setDependsOn(@Nullable String... dependsOn) {
+        this.dependsOn = dependsOn;
+    }
+
+    @Nullable
+    public String[] getDependsOn() {
+        return this.dependsOn;
+    }
+
+    public void setAutowireCandidate(boolean autowireCandidate) {
+        this.autowireCandidate = autowireCandidate;
+    }
+
+    public boolean isAutowireCandidate() {
+        return this.autowireCandidate;
+    }
+
+    public void setPrimary(boolean primary) {
+        this.primary = primary;
+    }
+
+    public boolean isPrimary() {
+        return this.primary;
+    }
+
+    public void setFactoryBeanName(@Nullable String factoryBeanName) {
+        this.factoryBeanName = factoryBeanName;
+    }
+
+    @Nullable
+    public String getFactoryBeanName() {
+        return this.factoryBeanName;
+    }
+
+    public void setFactoryMethodName(@Nullable String factoryMethodName) {
+        this.factoryMethodName = factoryMethodName;
+    }
+
+    @Nullable
+    public String getFactoryMethodName() {
+        return this.factoryMethodName;
+    }
+
+    public void setConstructorArgumentValues(ConstructorArgumentValues constructorArgumentValues) {
+        this.constructorArgumentValues = constructorArgumentValues;
+    }
+
+    public ConstructorArgumentValues getConstructorArgumentValues() {
+        if (this.constructorArgumentValues == null) {
+            this.constructorArgumentValues = new ConstructorArgumentValues();
+        }
+
+        return this.constructorArgumentValues;
+    }
+
+    public boolean hasConstructorArgumentValues() {
+        return this.constructorArgumentValues != null && !this.constructorArgumentValues.isEmpty();
+    }
+
+    public void setPropertyValues(MutablePropertyValues propertyValues) {
+        this.propertyValues = propertyValues;
+    }
+
+    public MutablePropertyValues getPropertyValues() {
+        if (this.propertyValues == null) {
+            this.propertyValues = new MutablePropertyValues();
+        }
+
+        return this.propertyValues;
+    }
+
+    public boolean hasPropertyValues() {
+        return this.propertyValues != null && !this.propertyValues.isEmpty();
+    }
+
+    public void setRole(int role) {
+        this.role = role;
+    }
+
+    public int getRole() {
+        return this.role;
+    }
+
+    public void setDescription(@Nullable String description) {
+        this.description = description;
+    }
+
+    @Nullable
+    public String getDescription() {
+        return this.description;
+    }
+
+    public void setResourceDescription(@Nullable String resourceDescription) {
+        this.resourceDescription = resourceDescription;
+    }
+
+    @Nullable
+    public String getResourceDescription() {
+        return this.resourceDescription;
+    }
+
+    @Nullable
+    public BeanDefinition getOriginatingBeanDefinition() {
+        return null;
+    }
+
+    public Object clone() {
+        return this.cloneBeanDefinition();
+    }
+
+    public abstract AbstractBeanDefinition cloneBeanDefinition();
+
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        } else if (!(other instanceof AbstractBeanDefinition)) {
+            return false;
+        } else {
+            AbstractBeanDefinition that = (AbstractBeanDefinition)other;
+            return ObjectUtils.nullSafeEquals(this.getBeanClassName(), that.getBeanClassName()) && ObjectUtils.nullSafeEquals(this.scope, that.scope) && this.abstractFlag == that.abstractFlag && this.lazyInit == that.lazyInit && this.autowireMode == that.autowireMode && Arrays.equals(this.dependsOn, that.dependsOn) && this.autowireCandidate == that.autowireCandidate && this.primary == that.primary && ObjectUtils.nullSafeEquals(this.factoryBeanName, that.factoryBeanName) && ObjectUtils.nullSafeEquals(this.factoryMethodName, that.factoryMethodName) && this.getConstructorArgumentValues().equals(that.getConstructorArgumentValues()) && this.getPropertyValues().equals(that.getPropertyValues()) && this.role == that.role && super.equals(other);
+        }
+    }
+
+    public int hashCode() {
+        int hashCode = ObjectUtils.nullSafeHashCode(this.getBeanClassName());
+        hashCode = 29 * hashCode + ObjectUtils.nullSafeHashCode(this.scope);
+        hashCode = 29 * hashCode + this.getConstructorArgumentValues().hashCode();
+        hashCode = 29 * hashCode + this.getPropertyValues().hashCode();
+        hashCode = 29 * hashCode + ObjectUtils.nullSafeHashCode(this.factoryBeanName);
+        hashCode = 29 * hashCode + ObjectUtils.nullSafeHashCode(this.factoryMethodName);
+        hashCode = 29 * hashCode + super.hashCode();
+        return hashCode;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder("class [");
+        sb.append(this.getBeanClassName()).append("]");
+        sb.append("; scope=").append(this.scope);
+        sb.append("; abstract=").append(this.abstractFlag);
+        sb.append("; lazyInit=").append(this.lazyInit);
+        sb.append("; autowireMode=").append(this.autowireMode);
+        sb.append("; autowireCandidate=").append(this.autowireCandidate);
+        sb.append("; primary=").append(this.primary);
+        sb.append("; factoryBeanName=").append(this.factoryBeanName);
+        sb.append("; factoryMethodName=").append(this.factoryMethodName);
+        if (this.resourceDescription != null) {
+            sb.append("; defined in ").append(this.resourceDescription);
+        }
+
+        return sb.toString();
+    }
+}
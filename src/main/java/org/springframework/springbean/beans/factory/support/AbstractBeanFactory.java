@@ -0,0 +1,582 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.springbean.beans.factory.BeanDefinitionStoreException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springbean.beans.factory.BeanIsAbstractException;
+import org.springframework.springbean.beans.factory.BeanNotOfRequiredTypeException;
+import org.springframework.springbean.beans.factory.DisposableBean;
+import org.springframework.springbean.beans.factory.HierarchicalBeanFactory;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.metrics.StartupTimeline;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ReflectionUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public abstract class AbstractBeanFactory extends DefaultSingletonBeanRegistry implements HierarchicalBeanFactory {
+    private static final int PARENT_LOOKUP_CACHE_LIMIT = 4096;
+    @Nullable
+    private BeanFactory parentBeanFactory;
+    @Nullable
+    private ClassLoader beanClassLoader = ClassUtils.getDefaultClassLoader();
+    private final ThreadLocal<Set<String>> prototypesCurrentlyInCreation = ThreadLocal.withInitial(HashSet::new);
+    private final Map<String, RootBeanDefinition> mergedBeanDefinitions = new ConcurrentHashMap(256);
+    private final Set<String> beanDefinitionsCurrentlyInMerge = new HashSet();
+    @Nullable
+    private volatile StartupTimeline startupTimeline;
+    private final Map<String, AbstractBeanFactory.ParentLookup> parentLookupCache = new ConcurrentHashMap(64);
+    private final AtomicLong parentLookupGeneration = new AtomicLong();
+    private final Set<AbstractBeanFactory> childBeanFactories = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap(4)));
+
+    public AbstractBeanFactory() {
+    }
+
+    public AbstractBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        this.parentBeanFactory = parentBeanFactory;
+        this.registerWithParentBeanFactory(parentBeanFactory);
+    }
+
+    public Object getBean(String name) throws BeansException {
+        return this.doGetBean(name, (Class)null, (Object[])null);
+    }
+
+    public <T> T getBean(String name, @Nullable Class<T> requiredType) throws BeansException {
+        return this.doGetBean(name, requiredType, (Object[])null);
+    }
+
+    public Object getBean(String name, Object... args) throws BeansException {
+        return this.doGetBean(name, (Class)null, args);
+    }
+
+    public <T> T getBean(String name, @Nullable Class<T> requiredType, @Nullable Object... args) throws BeansException {
+        return this.doGetBean(name, requiredType, args);
+    }
+
+    protected <T> T doGetBean(String name, @Nullable Class<T> requiredType, @Nullable Object[] args) throws BeansException {
+        String beanName = this.transformedBeanName(name);
+        Object sharedInstance = this.getSingleton(beanName);
+        Object bean;
+        if (sharedInstance != null && args == null) {
+            bean = sharedInstance;
+        } else {
+            if (this.isPrototypeCurrentlyInCreation(beanName)) {
+                throw new BeanCurrentlyInCreationException(beanName);
+            }
+
+            BeanFactory parentBeanFactory = this.getParentBeanFactory();
+            if (parentBeanFactory != null && !this.containsBeanDefinition(beanName)) {
+                String nameToLookup = this.originalBeanName(name);
+                BeanFactory owningBeanFactory = this.obtainParentBeanFactoryFor(nameToLookup);
+                if (args != null) {
+                    return (T)owningBeanFactory.getBean(nameToLookup, args);
+                }
+
+                return owningBeanFactory.getBean(nameToLookup, requiredType);
+            }
+
+            RootBeanDefinition bd = this.getMergedLocalBeanDefinition(beanName);
+            if (bd.isAbstract()) {
+                throw new BeanIsAbstractException(beanName);
+            }
+
+            String[] dependsOn = bd.getDependsOn();
+            if (dependsOn != null) {
+                String[] var9 = dependsOn;
+                int var10 = dependsOn.length;
+
+                for(int var11 = 0; var11 < var10; ++var11) {
+                    String dep = var9[var11];
+                    if (this.isDependent(beanName, dep)) {
+                        throw new BeanCreationException(bd.getResourceDescription(), beanName, "Circular depends-on relationship between '" + beanName + "' and '" + dep + "'");
+                    }
+
+                    this.registerDependentBean(dep, beanName);
+                    this.getBean(dep);
+                }
+            }
+
+            if (bd.isSingleton()) {
+                bean = this.getSingleton(beanName, () -> {
+                    return this.createBean(beanName, bd, args);
+                });
+            } else {
+                if (!bd.isPrototype()) {
+                    throw new IllegalStateException("No Scope registered for scope name '" + bd.getScope() + "'");
+                }
+
+                this.beforePrototypeCreation(beanName);
+
+                try {
+                    bean = this.createBean(beanName, bd, args);
+                } finally {
+                    this.afterPrototypeCreation(beanName);
+                }
+            }
+        }
+
+        if (requiredType != null && !requiredType.isInstance(bean)) {
+            throw new BeanNotOfRequiredTypeException(name, requiredType, bean.getClass());
+        } else {
+            return (T)bean;
+        }
+    }
+
+    public boolean containsBean(String name) {
+        String beanName = this.transformedBeanName(name);
+        if (!this.containsSingleton(beanName) && !this.containsBeanDefinition(beanName)) {
+            BeanFactory parentBeanFactory = this.getParentBeanFactory();
+            return parentBeanFactory != null && this.getParentBeanFactoryFor(this.originalBeanName(name)) != null;
+        } else {
+            return true;
+        }
+    }
+
+    public boolean isSingleton(String name) throws NoSuchBeanDefinitionException {
+        String beanName = this.transformedBeanName(name);
+        if (this.getSingleton(beanName, false) != null) {
+            return true;
+        } else {
+            BeanFactory parentBeanFactory = this.getParentBeanFactory();
+            return parentBeanFactory != null && !this.containsBeanDefinition(beanName) ? this.obtainParentBeanFactoryFor(this.originalBeanName(name)).isSingleton(this.originalBeanName(name)) : this.getMergedLocalBeanDefinition(beanName).isSingleton();
+        }
+    }
+
+    public boolean isPrototype(String name) throws NoSuchBeanDefinitionException {
+        String beanName = this.transformedBeanName(name);
+        BeanFactory parentBeanFactory = this.getParentBeanFactory();
+        return parentBeanFactory != null && !this.containsBeanDefinition(beanName) ? this.obtainParentBeanFactoryFor(this.originalBeanName(name)).isPrototype(this.originalBeanName(name)) : this.getMergedLocalBeanDefinition(beanName).isPrototype();
+    }
+
+    public boolean isTypeMatch(String name, ResolvableType typeToMatch) throws NoSuchBeanDefinitionException {
+        String beanName = this.transformedBeanName(name);
+        Object beanInstance = this.getSingleton(beanName, false);
+        if (beanInstance != null) {
+            return typeToMatch.isInstance(beanInstance);
+        } else {
+            BeanFactory parentBeanFactory = this.getParentBeanFactory();
+            if (parentBeanFactory != null && !this.containsBeanDefinition(beanName)) {
+                String nameToLookup = this.originalBeanName(name);
+                return this.obtainParentBeanFactoryFor(nameToLookup).isTypeMatch(nameToLookup, typeToMatch);
+            } else {
+                Class<?> beanType = this.predictBeanType(beanName, this.getMergedLocalBeanDefinition(beanName));
+                return beanType != null && typeToMatch.isAssignableFrom(beanType);
+            }
+        }
+    }
+
+    public boolean isTypeMatch(String name, @Nullable Class<?> typeToMatch) throws NoSuchBeanDefinitionException {
+        return this.isTypeMatch(name, ResolvableType.forRawClass(typeToMatch));
+    }
+
+    @Nullable
+    public Class<?> getType(String name) throws NoSuchBeanDefinitionException {
+        String beanName = this.transformedBeanName(name);
+        Object beanInstance = this.getSingleton(beanName, false);
+        if (beanInstance != null) {
+            return beanInstance.getClass();
+        } else {
+            BeanFactory parentBeanFactory = this.getParentBeanFactory();
+            return parentBeanFactory != null && !this.containsBeanDefinition(beanName) ? this.obtainParentBeanFactoryFor(this.originalBeanName(name)).getType(this.originalBeanName(name)) : this.predictBeanType(beanName, this.getMergedLocalBeanDefinition(beanName));
+        }
+    }
+
+    @Nullable
+    public BeanFactory getParentBeanFactory() {
+        return this.parentBeanFactory;
+    }
+
+    public void setParentBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        if (this.parentBeanFactory != null && this.parentBeanFactory != parentBeanFactory) {
+            throw new IllegalStateException("Already associated with parent BeanFactory: " + this.parentBeanFactory);
+        } else if (this.parentBeanFactory != parentBeanFactory) {
+            this.parentBeanFactory = parentBeanFactory;
+            this.registerWithParentBeanFactory(parentBeanFactory);
+            this.clearParentLookupCache();
+        }
+    }
+
+    private void registerWithParentBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        if (parentBeanFactory instanceof AbstractBeanFactory) {
+            ((AbstractBeanFactory)parentBeanFactory).childBeanFactories.add(this);
+        }
+
+    }
+
+    @Nullable
+    protected BeanFactory getParentBeanFactoryFor(String name) {
+        BeanFactory parentBeanFactory = this.parentBeanFactory;
+        if (parentBeanFactory == null) {
+            return null;
+        } else {
+            long generation = this.parentLookupGeneration.get();
+            AbstractBeanFactory.ParentLookup lookup = (AbstractBeanFactory.ParentLookup)this.parentLookupCache.get(name);
+            if (lookup != null && lookup.generation == generation) {
+                return lookup.beanFactory;
+            } else {
+                BeanFactory candidate = parentBeanFactory;
+
+                while(candidate instanceof AbstractBeanFactory) {
+                    AbstractBeanFactory candidateFactory = (AbstractBeanFactory)candidate;
+                    if (candidateFactory.containsLocalBean(name)) {
+                        this.cacheParentLookup(name, generation, candidateFactory);
+                        return candidateFactory;
+                    }
+
+                    candidate = candidateFactory.getParentBeanFactory();
+                }
+
+                if (candidate == null) {
+                    this.cacheParentLookup(name, generation, (BeanFactory)null);
+                    return null;
+                } else {
+                    return candidate.containsBean(name) ? candidate : null;
+                }
+            }
+        }
+    }
+
+    private BeanFactory obtainParentBeanFactoryFor(String name) throws NoSuchBeanDefinitionException {
+        BeanFactory owningBeanFactory = this.getParentBeanFactoryFor(name);
+        if (owningBeanFactory == null) {
+            throw new NoSuchBeanDefinitionException(name);
+        } else {
+            return owningBeanFactory;
+        }
+    }
+
+    private void cacheParentLookup(String name, long generation, @Nullable BeanFactory owningBeanFactory) {
+        if (this.parentLookupCache.size() >= PARENT_LOOKUP_CACHE_LIMIT) {
+            this.parentLookupCache.clear();
+        }
+
+        this.parentLookupCache.put(name, new AbstractBeanFactory.ParentLookup(generation, owningBeanFactory));
+    }
+
+    protected void clearParentLookupCache() {
+        this.parentLookupGeneration.incrementAndGet();
+        this.parentLookupCache.clear();
+        this.invalidateChildParentLookups();
+    }
+
+    protected void invalidateChildParentLookups() {
+        AbstractBeanFactory[] children;
+        synchronized(this.childBeanFactories) {
+            children = (AbstractBeanFactory[])this.childBeanFactories.toArray(new AbstractBeanFactory[0]);
+        }
+
+        AbstractBeanFactory[] var2 = children;
+        int var3 = children.length;
+
+        for(int var4 = 0; var4 < var3; ++var4) {
+            AbstractBeanFactory child = var2[var4];
+            child.clearParentLookupCache();
+        }
+
+    }
+
+    public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
+        super.registerSingleton(beanName, singletonObject);
+        this.invalidateChildParentLookups();
+    }
+
+    public void destroySingleton(String beanName) {
+        try {
+            super.destroySingleton(beanName);
+        } finally {
+            this.invalidateChildParentLookups();
+        }
+
+    }
+
+    public void destroySingletons() {
+        try {
+            super.destroySingletons();
+        } finally {
+            this.invalidateChildParentLookups();
+        }
+
+    }
+
+    public void registerAlias(String name, String alias) {
+        super.registerAlias(name, alias);
+        this.invalidateChildParentLookups();
+    }
+
+    public void removeAlias(String alias) {
+        super.removeAlias(alias);
+        this.invalidateChildParentLookups();
+    }
+
+    public String[] getAliases(String name) {
+        String beanName = this.transformedBeanName(name);
+        boolean local = this.containsSingleton(beanName) || this.containsBeanDefinition(beanName);
+        if (local && beanName.equals(name)) {
+            return super.getAliases(beanName);
+        } else {
+            List<String> aliases = new ArrayList();
+            String prefix = name.startsWith(BeanFactory.FACTORY_BEAN_PREFIX) ? BeanFactory.FACTORY_BEAN_PREFIX : "";
+            String fullBeanName = prefix + beanName;
+            if (!fullBeanName.equals(name)) {
+                aliases.add(fullBeanName);
+            }
+
+            String[] retrievedAliases = super.getAliases(beanName);
+            String[] var8 = retrievedAliases;
+            int var9 = retrievedAliases.length;
+
+            for(int var10 = 0; var10 < var9; ++var10) {
+                String retrievedAlias = var8[var10];
+                String alias = prefix + retrievedAlias;
+                if (!alias.equals(name)) {
+                    aliases.add(alias);
+                }
+            }
+
+            if (!local) {
+                BeanFactory parentBeanFactory = this.getParentBeanFactory();
+                if (parentBeanFactory != null) {
+                    aliases.addAll(Arrays.asList(parentBeanFactory.getAliases(fullBeanName)));
+                }
+            }
+
+            return StringUtils.toStringArray(aliases);
+        }
+    }
+
+    public boolean containsLocalBean(String name) {
+        String beanName = this.transformedBeanName(name);
+        return this.containsSingleton(beanName) || this.containsBeanDefinition(beanName);
+    }
+
+    public void setBeanClassLoader(@Nullable ClassLoader beanClassLoader) {
+        this.beanClassLoader = beanClassLoader != null ? beanClassLoader : ClassUtils.getDefaultClassLoader();
+    }
+
+    @Nullable
+    public ClassLoader getBeanClassLoader() {
+        return this.beanClassLoader;
+    }
+
+    public void setStartupTimeline(@Nullable StartupTimeline startupTimeline) {
+        this.startupTimeline = startupTimeline;
+    }
+
+    @Nullable
+    public StartupTimeline getStartupTimeline() {
+        return this.startupTimeline;
+    }
+
+    protected void destroyBean(String beanName, DisposableBean bean) throws Exception {
+        StartupTimeline timeline = this.startupTimeline;
+        long startNanos = timeline != null ? timeline.start() : 0L;
+
+        try {
+            super.destroyBean(beanName, bean);
+        } finally {
+            if (timeline != null) {
+                timeline.record("bean.destroy", beanName, startNanos);
+            }
+
+        }
+
+    }
+
+    public BeanDefinition getMergedBeanDefinition(String name) throws BeansException {
+        String beanName = this.transformedBeanName(name);
+        BeanFactory parentBeanFactory = this.getParentBeanFactory();
+        return !this.containsBeanDefinition(beanName) && parentBeanFactory instanceof ConfigurableListableBeanFactory ? ((ConfigurableListableBeanFactory)parentBeanFactory).getMergedBeanDefinition(beanName) : this.getMergedLocalBeanDefinition(beanName);
+    }
+
+    protected RootBeanDefinition getMergedLocalBeanDefinition(String beanName) throws BeansException {
+        RootBeanDefinition mbd = (RootBeanDefinition)this.mergedBeanDefinitions.get(beanName);
+        return mbd != null && !mbd.stale ? mbd : this.getMergedBeanDefinition(beanName, this.getBeanDefinition(beanName));
+    }
+
+    protected RootBeanDefinition getMergedBeanDefinition(String beanName, BeanDefinition bd) throws BeanDefinitionStoreException {
+        synchronized(this.mergedBeanDefinitions) {
+            RootBeanDefinition mbd = (RootBeanDefinition)this.mergedBeanDefinitions.get(beanName);
+            if (mbd != null && !mbd.stale) {
+                return mbd;
+            } else if (!this.beanDefinitionsCurrentlyInMerge.add(beanName)) {
+                throw new BeanDefinitionStoreException(bd.getResourceDescription(), beanName, "Circular parent relationship detected for bean definition '" + beanName + "'");
+            } else {
+                try {
+                    if (bd.getParentName() == null) {
+                        mbd = new RootBeanDefinition(bd);
+                    } else {
+                        BeanDefinition pbd;
+                        try {
+                            String parentBeanName = this.transformedBeanName(bd.getParentName());
+                            if (!beanName.equals(parentBeanName)) {
+                                pbd = this.getMergedBeanDefinition(parentBeanName);
+                            } else {
+                                BeanFactory parent = this.getParentBeanFactory();
+                                if (!(parent instanceof ConfigurableListableBeanFactory)) {
+                                    throw new NoSuchBeanDefinitionException(parentBeanName, "Parent name '" + parentBeanName + "' is equal to bean name '" + beanName + "': cannot be resolved without a ConfigurableListableBeanFactory parent");
+                                }
+
+                                pbd = ((ConfigurableListableBeanFactory)parent).getMergedBeanDefinition(parentBeanName);
+                            }
+                        } catch (NoSuchBeanDefinitionException var11) {
+                            throw new BeanDefinitionStoreException(bd.getResourceDescription(), beanName, "Could not resolve parent bean definition '" + bd.getParentName() + "'", var11);
+                        }
+
+                        mbd = new RootBeanDefinition(pbd);
+                        mbd.overrideFrom(bd);
+                    }
+
+                    if (!StringUtils.hasLength(mbd.getScope())) {
+                        mbd.setScope(BeanDefinition.SCOPE_SINGLETON);
+                    }
+
+                    this.mergedBeanDefinitions.put(beanName, mbd);
+                } finally {
+                    this.beanDefinitionsCurrentlyInMerge.remove(beanName);
+                }
+
+                return mbd;
+            }
+        }
+    }
+
+    protected void clearMergedBeanDefinition(String beanName) {
+        synchronized(this.mergedBeanDefinitions) {
+            RootBeanDefinition mbd = (RootBeanDefinition)this.mergedBeanDefinitions.remove(beanName);
+            if (mbd != null) {
+                mbd.stale = true;
+            }
+
+        }
+    }
+
+    protected String transformedBeanName(String name) {
+        String beanName = name;
+
+        while(beanName.startsWith(BeanFactory.FACTORY_BEAN_PREFIX)) {
+            beanName = beanName.substring(BeanFactory.FACTORY_BEAN_PREFIX.length());
+        }
+
+        return this.canonicalName(beanName);
+    }
+
+    protected String originalBeanName(String name) {
+        String beanName = this.transformedBeanName(name);
+        if (name.startsWith(BeanFactory.FACTORY_BEAN_PREFIX)) {
+            beanName = BeanFactory.FACTORY_BEAN_PREFIX + beanName;
+        }
+
+        return beanName;
+    }
+
+    protected boolean isPrototypeCurrentlyInCreation(String beanName) {
+        return ((Set)this.prototypesCurrentlyInCreation.get()).contains(beanName);
+    }
+
+    protected void beforePrototypeCreation(String beanName) {
+        ((Set)this.prototypesCurrentlyInCreation.get()).add(beanName);
+    }
+
+    protected void afterPrototypeCreation(String beanName) {
+        ((Set)this.prototypesCurrentlyInCreation.get()).remove(beanName);
+    }
+
+    protected boolean isActuallyInCreation(String beanName) {
+        return this.isSingletonCurrentlyInCreation(beanName) || this.isPrototypeCurrentlyInCreation(beanName);
+    }
+
+    @Nullable
+    protected Class<?> predictBeanType(String beanName, BeanDefinition bd) {
+        String factoryMethodName = bd.getFactoryMethodName();
+        if (factoryMethodName == null) {
+            return this.resolveBeanClass(bd);
+        } else {
+            String factoryBeanName = bd.getFactoryBeanName();
+            Class<?> factoryClass;
+            if (factoryBeanName != null) {
+                factoryClass = this.containsBeanDefinition(factoryBeanName) ? this.resolveBeanClass(this.getMergedLocalBeanDefinition(factoryBeanName)) : null;
+            } else {
+                factoryClass = this.resolveBeanClass(bd);
+            }
+
+            return factoryClass != null ? this.getTypeForFactoryMethod(factoryClass, factoryMethodName) : null;
+        }
+    }
+
+    @Nullable
+    private Class<?> getTypeForFactoryMethod(Class<?> factoryClass, String factoryMethodName) {
+        Class<?> commonType = null;
+        Method[] var4 = ReflectionUtils.getUniqueDeclaredMethods(factoryClass);
+        int var5 = var4.length;
+
+        for(int var6 = 0; var6 < var5; ++var6) {
+            Method candidate = var4[var6];
+            if (candidate.getName().equals(factoryMethodName)) {
+                commonType = commonType == null ? candidate.getReturnType() : ClassUtils.determineCommonAncestor(commonType, candidate.getReturnType());
+                if (commonType == null) {
+                    return null;
+                }
+            }
+        }
+
+        return commonType;
+    }
+
+    @Nullable
+    protected Class<?> resolveBeanClass(BeanDefinition bd) {
+        if (bd instanceof AbstractBeanDefinition && ((AbstractBeanDefinition)bd).hasBeanClass()) {
+            return ((AbstractBeanDefinition)bd).getBeanClass();
+        } else if (bd.getBeanClassName() == null) {
+            return null;
+        } else {
+            try {
+                return bd instanceof AbstractBeanDefinition ? ((AbstractBeanDefinition)bd).resolveBeanClass(this.beanClassLoader) : ClassUtils.forName(bd.getBeanClassName(), this.beanClassLoader);
+            } catch (LinkageError | ClassNotFoundException var4) {
+                return null;
+            }
+        }
+    }
+
+    protected Class<?> resolveBeanClass(BeanDefinition bd, String beanName) throws BeanCreationException {
+        Class<?> beanClass = this.resolveBeanClass(bd);
+        if (beanClass == null) {
+            throw new BeanCreationException(bd.getResourceDescription(), beanName, "Cannot load bean class [" + bd.getBeanClassName() + "]");
+        } else {
+            return beanClass;
+        }
+    }
+
+    public abstract boolean containsBeanDefinition(String beanName);
+
+    public abstract BeanDefinition getBeanDefinition(String beanName) throws NoSuchBeanDefinitionException;
+
+    protected abstract Object createBean(String beanName, RootBeanDefinition mbd, @Nullable Object[] args) throws BeanCreationException;
+
+    private static final class ParentLookup {
+        private final long generation;
+        @Nullable
+        private final BeanFactory beanFactory;
+
+        ParentLookup(long generation, @Nullable BeanFactory beanFactory) {
+            this.generation = generation;
+            this.beanFactory = beanFactory;
+        }
+    }
+}
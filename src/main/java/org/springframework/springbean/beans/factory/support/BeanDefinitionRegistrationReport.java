@@ -0,0 +1,41 @@
+package org.springframework.springbean.beans.factory.support;
+
+import java.util.concurrent.TimeUnit;
+
+public final class BeanDefinitionRegistrationReport {
+    private final int beanDefinitionCount;
+    private final int overriddenCount;
+    private final int resetCount;
+    private final long elapsedNanos;
+
+    public BeanDefinitionRegistrationReport(int beanDefinitionCount, int overriddenCount, int resetCount, long elapsedNanos) {
+        this.beanDefinitionCount = beanDefinitionCount;
+        this.overriddenCount = overriddenCount;
+        this.resetCount = resetCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getBeanDefinitionCount() {
+        return this.beanDefinitionCount;
+    }
+
+    public int getOverriddenCount() {
+        return this.overriddenCount;
+    }
+
+    public int getResetCount() {
+        return this.resetCount;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.elapsedNanos);
+    }
+
+    public String toString() {
+        return "Registered " + this.beanDefinitionCount + " bean definitions (" + this.overriddenCount + " overridden, " + this.resetCount + " reset) in " + this.getElapsedMillis() + " ms";
+    }
+}
@@ -5,9 +5,13 @@ import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionExceptio
 import org.springframework.springbean.beans.factory.config.BeanDefinition;
 import org.springframework.springcore.core.AliasRegistry;
 
+import java.util.Map;
+
 public interface BeanDefinitionRegistry extends AliasRegistry {
     void registerBeanDefinition(String var1, BeanDefinition var2) throws BeanDefinitionStoreException;
 
+    BeanDefinitionRegistrationReport registerBeanDefinitions(Map<String, BeanDefinition> var1) throws BeanDefinitionStoreException;
+
     void removeBeanDefinition(String var1) throws NoSuchBeanDefinitionException;
 
     BeanDefinition getBeanDefinition(String var1) throws NoSuchBeanDefinitionException;
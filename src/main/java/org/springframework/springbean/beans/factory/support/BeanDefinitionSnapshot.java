@@ -0,0 +1,535 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.MutablePropertyValues;
+import org.springframework.springbean.beans.PropertyValue;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.springbean.beans.factory.config.RuntimeBeanReference;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BeanDefinitionSnapshot {
+    private static final int MAGIC = 0x42445353;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_ROOT = 1;
+    private static final int FLAG_ABSTRACT = 2;
+    private static final int FLAG_LAZY_INIT = 4;
+    private static final int FLAG_PRIMARY = 8;
+    private static final int FLAG_AUTOWIRE_CANDIDATE = 16;
+    private static final int FLAG_OPTIONAL = 1;
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_BOOLEAN = 2;
+    private static final byte VALUE_INTEGER = 3;
+    private static final byte VALUE_LONG = 4;
+    private static final byte VALUE_DOUBLE = 5;
+    private static final byte VALUE_BEAN_REFERENCE = 6;
+    private static final byte VALUE_PARENT_BEAN_REFERENCE = 7;
+    private final String fingerprint;
+    private final Map<String, BeanDefinition> beanDefinitions;
+    private final Map<String, String> aliases;
+    private final Map<String, String[]> constructorParameterTypes;
+
+    private BeanDefinitionSnapshot(String fingerprint, Map<String, BeanDefinition> beanDefinitions, Map<String, String> aliases, Map<String, String[]> constructorParameterTypes) {
+        this.fingerprint = fingerprint;
+        this.beanDefinitions = beanDefinitions;
+        this.aliases = aliases;
+        this.constructorParameterTypes = constructorParameterTypes;
+    }
+
+    public String getFingerprint() {
+        return this.fingerprint;
+    }
+
+    public int getBeanDefinitionCount() {
+        return this.beanDefinitions.size();
+    }
+
+    public Map<String, BeanDefinition> getBeanDefinitions() {
+        return Collections.unmodifiableMap(this.beanDefinitions);
+    }
+
+    public BeanDefinitionRegistrationReport applyTo(DefaultListableBeanFactory beanFactory) {
+        BeanDefinitionRegistrationReport report = beanFactory.registerBeanDefinitions(this.beanDefinitions);
+        this.aliases.forEach((alias, name) -> {
+            beanFactory.registerAlias(name, alias);
+        });
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        this.constructorParameterTypes.forEach((beanName, parameterTypeNames) -> {
+            RootBeanDefinition mbd = beanFactory.getMergedLocalBeanDefinition(beanName);
+
+            try {
+                Class<?>[] parameterTypes = new Class[parameterTypeNames.length];
+
+                for(int i = 0; i < parameterTypeNames.length; ++i) {
+                    parameterTypes[i] = ClassUtils.forName(parameterTypeNames[i], classLoader);
+                }
+
+                ConstructorResolver.setAutowiredConstructor(mbd, mbd.resolveBeanClass(classLoader).getDeclaredConstructor(parameterTypes));
+            } catch (NoSuchMethodException | ClassNotFoundException | LinkageError var7) {
+            }
+
+        });
+        return report;
+    }
+
+    public static void write(DefaultListableBeanFactory beanFactory, String fingerprint, Path file) throws IOException {
+        Assert.notNull(beanFactory, "BeanFactory must not be null");
+        Assert.notNull(fingerprint, "Fingerprint must not be null");
+        Assert.notNull(file, "Snapshot file must not be null");
+        BeanDefinitionSnapshot.Writer writer = new BeanDefinitionSnapshot.Writer();
+        String[] beanNames = beanFactory.getBeanDefinitionNames();
+        writer.writeString(fingerprint);
+        writer.writeVarInt(beanNames.length);
+        String[] var5 = beanNames;
+        int var6 = beanNames.length;
+
+        for(int var7 = 0; var7 < var6; ++var7) {
+            String beanName = var5[var7];
+            writer.writeString(beanName);
+            writer.writeBeanDefinition(beanName, beanFactory.getBeanDefinition(beanName));
+        }
+
+        Map<String, String> aliases = new LinkedHashMap();
+        Map<String, String[]> constructorParameterTypes = new LinkedHashMap();
+        var5 = beanNames;
+        var6 = beanNames.length;
+
+        for(int var7 = 0; var7 < var6; ++var7) {
+            String beanName = var5[var7];
+            String[] beanAliases = beanFactory.getAliases(beanName);
+
+            for(int i = 0; i < beanAliases.length; ++i) {
+                aliases.put(beanAliases[i], beanName);
+            }
+
+            Constructor<?> constructor = ConstructorResolver.getAutowiredConstructor(beanFactory.getMergedLocalBeanDefinition(beanName));
+            if (constructor != null) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                String[] parameterTypeNames = new String[parameterTypes.length];
+
+                for(int i = 0; i < parameterTypes.length; ++i) {
+                    parameterTypeNames[i] = parameterTypes[i].getName();
+                }
+
+                constructorParameterTypes.put(beanName, parameterTypeNames);
+            }
+        }
+
+        writer.writeVarInt(aliases.size());
+        aliases.forEach((alias, name) -> {
+            writer.writeString(alias);
+            writer.writeString(name);
+        });
+        writer.writeVarInt(constructorParameterTypes.size());
+        constructorParameterTypes.forEach((beanName, parameterTypeNames) -> {
+            writer.writeString(beanName);
+            writer.writeStrings(parameterTypeNames);
+        });
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.writeTo(out);
+            }
+
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+    }
+
+    public static BeanDefinitionSnapshot read(Path file) throws IOException {
+        Assert.notNull(file, "Snapshot file must not be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            return (new BeanDefinitionSnapshot.Reader(buffer, file)).readSnapshot();
+        }
+    }
+
+    public String toString() {
+        return "BeanDefinitionSnapshot with " + this.beanDefinitions.size() + " bean definitions, " + this.aliases.size() + " aliases and " + this.constructorParameterTypes.size() + " resolved constructors";
+    }
+
+    private static final class Writer {
+        private final Map<String, Integer> strings = new LinkedHashMap(256);
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        private final DataOutputStream out;
+
+        Writer() {
+            this.out = new DataOutputStream(this.body);
+        }
+
+        void writeBeanDefinition(String beanName, BeanDefinition bd) {
+            if (!(bd instanceof AbstractBeanDefinition)) {
+                throw new IllegalStateException("Bean definition '" + beanName + "' of type [" + bd.getClass().getName() + "] cannot be written to a snapshot");
+            } else {
+                AbstractBeanDefinition abd = (AbstractBeanDefinition)bd;
+                int flags = 0;
+                if (abd instanceof RootBeanDefinition) {
+                    flags |= FLAG_ROOT;
+                }
+
+                if (abd.isAbstract()) {
+                    flags |= FLAG_ABSTRACT;
+                }
+
+                if (abd.isLazyInit()) {
+                    flags |= FLAG_LAZY_INIT;
+                }
+
+                if (abd.isPrimary()) {
+                    flags |= FLAG_PRIMARY;
+                }
+
+                if (abd.isAutowireCandidate()) {
+                    flags |= FLAG_AUTOWIRE_CANDIDATE;
+                }
+
+                this.writeVarInt(flags);
+                this.writeString(abd.getBeanClassName());
+                this.writeString(abd.getParentName());
+                this.writeString(abd.getScope());
+                this.writeVarInt(abd.getAutowireMode());
+                this.writeVarInt(abd.getRole());
+                this.writeStrings(abd.getDependsOn());
+                this.writeString(abd.getFactoryBeanName());
+                this.writeString(abd.getFactoryMethodName());
+                this.writeString(abd.getDescription());
+                this.writeString(abd.getResourceDescription());
+                ConstructorArgumentValues cargs = abd.getConstructorArgumentValues();
+                this.writeVarInt(cargs.getIndexedArgumentValues().size());
+                cargs.getIndexedArgumentValues().forEach((index, valueHolder) -> {
+                    this.writeVarInt(index);
+                    this.writeValueHolder(beanName, valueHolder);
+                });
+                this.writeVarInt(cargs.getGenericArgumentValues().size());
+                Iterator var6 = cargs.getGenericArgumentValues().iterator();
+
+                while(var6.hasNext()) {
+                    ConstructorArgumentValues.ValueHolder valueHolder = (ConstructorArgumentValues.ValueHolder)var6.next();
+                    this.writeValueHolder(beanName, valueHolder);
+                }
+
+                List<PropertyValue> propertyValues = abd.getPropertyValues().getPropertyValueList();
+                this.writeVarInt(propertyValues.size());
+                var6 = propertyValues.iterator();
+
+                while(var6.hasNext()) {
+                    PropertyValue pv = (PropertyValue)var6.next();
+                    this.writeString(pv.getName());
+                    this.writeVarInt(pv.isOptional() ? FLAG_OPTIONAL : 0);
+                    this.writeValue(beanName, pv.getValue());
+                }
+
+            }
+        }
+
+        private void writeValueHolder(String beanName, ConstructorArgumentValues.ValueHolder valueHolder) {
+            this.writeString(valueHolder.getType());
+            this.writeString(valueHolder.getName());
+            this.writeValue(beanName, valueHolder.getValue());
+        }
+
+        private void writeValue(String beanName, @Nullable Object value) {
+            try {
+                if (value == null) {
+                    this.out.writeByte(VALUE_NULL);
+                } else if (value instanceof String) {
+                    this.out.writeByte(VALUE_STRING);
+                    this.writeString((String)value);
+                } else if (value instanceof Boolean) {
+                    this.out.writeByte(VALUE_BOOLEAN);
+                    this.out.writeBoolean((Boolean)value);
+                } else if (value instanceof Integer) {
+                    this.out.writeByte(VALUE_INTEGER);
+                    this.out.writeInt((Integer)value);
+                } else if (value instanceof Long) {
+                    this.out.writeByte(VALUE_LONG);
+                    this.out.writeLong((Long)value);
+                } else if (value instanceof Double) {
+                    this.out.writeByte(VALUE_DOUBLE);
+                    this.out.writeDouble((Double)value);
+                } else {
+                    if (!(value instanceof RuntimeBeanReference)) {
+                        throw new IllegalStateException("Value of type [" + value.getClass().getName() + "] in bean definition '" + beanName + "' cannot be written to a snapshot");
+                    }
+
+                    RuntimeBeanReference reference = (RuntimeBeanReference)value;
+                    this.out.writeByte(reference.isToParent() ? VALUE_PARENT_BEAN_REFERENCE : VALUE_BEAN_REFERENCE);
+                    this.writeString(reference.getBeanName());
+                }
+
+            } catch (IOException var4) {
+                throw new IllegalStateException(var4);
+            }
+        }
+
+        void writeStrings(@Nullable String[] values) {
+            if (values == null) {
+                this.writeVarInt(0);
+            } else {
+                this.writeVarInt(values.length + 1);
+
+                for(int i = 0; i < values.length; ++i) {
+                    this.writeString(values[i]);
+                }
+            }
+
+        }
+
+        void writeString(@Nullable String value) {
+            if (value == null) {
+                this.writeVarInt(0);
+            } else {
+                Integer index = (Integer)this.strings.get(value);
+                if (index == null) {
+                    index = this.strings.size();
+                    this.strings.put(value, index);
+                }
+
+                this.writeVarInt(index + 1);
+            }
+
+        }
+
+        void writeVarInt(int value) {
+            writeVarInt(this.out, value);
+        }
+
+        void writeTo(OutputStream target) throws IOException {
+            DataOutputStream header = new DataOutputStream(target);
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT_VERSION);
+            writeVarInt(header, this.strings.size());
+            Iterator var3 = this.strings.keySet().iterator();
+
+            while(var3.hasNext()) {
+                byte[] bytes = ((String)var3.next()).getBytes(StandardCharsets.UTF_8);
+                writeVarInt(header, bytes.length);
+                header.write(bytes);
+            }
+
+            this.out.flush();
+            this.body.writeTo(header);
+            header.flush();
+        }
+
+        private static void writeVarInt(DataOutputStream out, int value) {
+            try {
+                while((value & -128) != 0) {
+                    out.writeByte(value & 127 | 128);
+                    value >>>= 7;
+                }
+
+                out.writeByte(value);
+            } catch (IOException var3) {
+                throw new IllegalStateException(var3);
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final Path file;
+        private String[] strings;
+
+        Reader(ByteBuffer buffer, Path file) {
+            this.buffer = buffer;
+            this.file = file;
+        }
+
+        BeanDefinitionSnapshot readSnapshot() throws IOException {
+            if (this.buffer.remaining() >= 8 && this.buffer.getInt() == MAGIC) {
+                int version = this.buffer.getInt();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Unsupported bean definition snapshot version " + version + " in " + this.file);
+                } else {
+                    this.strings = new String[this.readVarInt()];
+
+                    for(int i = 0; i < this.strings.length; ++i) {
+                        byte[] bytes = new byte[this.readVarInt()];
+                        this.buffer.get(bytes);
+                        this.strings[i] = new String(bytes, StandardCharsets.UTF_8);
+                    }
+
+                    String fingerprint = this.readString();
+                    int beanDefinitionCount = this.readVarInt();
+                    Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap((int)((float)beanDefinitionCount / 0.75F) + 1);
+
+                    for(int i = 0; i < beanDefinitionCount; ++i) {
+                        String beanName = this.readString();
+                        beanDefinitions.put(beanName, this.readBeanDefinition());
+                    }
+
+                    int aliasCount = this.readVarInt();
+                    Map<String, String> aliases = new LinkedHashMap();
+
+                    for(int i = 0; i < aliasCount; ++i) {
+                        aliases.put(this.readString(), this.readString());
+                    }
+
+                    int constructorCount = this.readVarInt();
+                    Map<String, String[]> constructorParameterTypes = new LinkedHashMap();
+
+                    for(int i = 0; i < constructorCount; ++i) {
+                        constructorParameterTypes.put(this.readString(), this.readStrings());
+                    }
+
+                    return new BeanDefinitionSnapshot(fingerprint, beanDefinitions, aliases, constructorParameterTypes);
+                }
+            } else {
+                throw new IOException("Not a bean definition snapshot: " + this.file);
+            }
+        }
+
+        private AbstractBeanDefinition readBeanDefinition() {
+            int flags = this.readVarInt();
+            String beanClassName = this.readString();
+            String parentName = this.readString();
+            Object bd;
+            if ((flags & FLAG_ROOT) != 0) {
+                bd = new RootBeanDefinition();
+            } else {
+                bd = new GenericBeanDefinition();
+                ((AbstractBeanDefinition)bd).setParentName(parentName);
+            }
+
+            AbstractBeanDefinition abd = (AbstractBeanDefinition)bd;
+            abd.setBeanClassName(beanClassName);
+            abd.setAbstract((flags & FLAG_ABSTRACT) != 0);
+            abd.setLazyInit((flags & FLAG_LAZY_INIT) != 0);
+            abd.setPrimary((flags & FLAG_PRIMARY) != 0);
+            abd.setAutowireCandidate((flags & FLAG_AUTOWIRE_CANDIDATE) != 0);
+            abd.setScope(this.readString());
+            abd.setAutowireMode(this.readVarInt());
+            abd.setRole(this.readVarInt());
+            abd.setDependsOn(this.readStrings());
+            abd.setFactoryBeanName(this.readString());
+            abd.setFactoryMethodName(this.readString());
+            abd.setDescription(this.readString());
+            abd.setResourceDescription(this.readString());
+            ConstructorArgumentValues cargs = new ConstructorArgumentValues();
+            int indexedCount = this.readVarInt();
+
+            for(int i = 0; i < indexedCount; ++i) {
+                int index = this.readVarInt();
+                cargs.addIndexedArgumentValue(index, this.readValueHolder());
+            }
+
+            int genericCount = this.readVarInt();
+
+            for(int i = 0; i < genericCount; ++i) {
+                cargs.addGenericArgumentValue(this.readValueHolder());
+            }
+
+            abd.setConstructorArgumentValues(cargs);
+            int propertyCount = this.readVarInt();
+            MutablePropertyValues pvs = new MutablePropertyValues();
+
+            for(int i = 0; i < propertyCount; ++i) {
+                String name = this.readString();
+                boolean optional = (this.readVarInt() & FLAG_OPTIONAL) != 0;
+                PropertyValue pv = new PropertyValue(name, this.readValue());
+                pv.setOptional(optional);
+                pvs.addPropertyValue(pv);
+            }
+
+            abd.setPropertyValues(pvs);
+            return abd;
+        }
+
+        private ConstructorArgumentValues.ValueHolder readValueHolder() {
+            String type = this.readString();
+            String name = this.readString();
+            return new ConstructorArgumentValues.ValueHolder(this.readValue(), type, name);
+        }
+
+        @Nullable
+        private Object readValue() {
+            byte tag = this.buffer.get();
+            switch(tag) {
+                case VALUE_NULL:
+                    return null;
+                case VALUE_STRING:
+                    return this.readString();
+                case VALUE_BOOLEAN:
+                    return this.buffer.get() != 0;
+                case VALUE_INTEGER:
+                    return this.buffer.getInt();
+                case VALUE_LONG:
+                    return this.buffer.getLong();
+                case VALUE_DOUBLE:
+                    return this.buffer.getDouble();
+                case VALUE_BEAN_REFERENCE:
+                    return new RuntimeBeanReference(this.readString());
+                case VALUE_PARENT_BEAN_REFERENCE:
+                    return new RuntimeBeanReference(this.readString(), true);
+                default:
+                    throw new IllegalStateException("Unknown value tag " + tag + " in bean definition snapshot " + this.file);
+            }
+        }
+
+        @Nullable
+        private String[] readStrings() {
+            int length = this.readVarInt();
+            if (length == 0) {
+                return null;
+            } else {
+                String[] values = new String[length - 1];
+
+                for(int i = 0; i < values.length; ++i) {
+                    values[i] = this.readString();
+                }
+
+                return values;
+            }
+        }
+
+        @Nullable
+        private String readString() {
+            int index = this.readVarInt();
+            return index == 0 ? null : this.strings[index - 1];
+        }
+
+        private int readVarInt() {
+            int value = 0;
+
+            for(int shift = 0; shift < 32; shift += 7) {
+                byte b = this.buffer.get();
+                value |= (b & 127) << shift;
+                if ((b & 128) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalStateException("Malformed variable-length integer in bean definition snapshot " + this.file);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.BeanReference;
+import org.springframework.springbean.beans.factory.config.RuntimeBeanReference;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class BeanDefinitionValueResolver {
+    private final AbstractBeanFactory beanFactory;
+    private final String beanName;
+    private final BeanDefinition beanDefinition;
+
+    BeanDefinitionValueResolver(AbstractBeanFactory beanFactory, String beanName, BeanDefinition beanDefinition) {
+        this.beanFactory = beanFactory;
+        this.beanName = beanName;
+        this.beanDefinition = beanDefinition;
+    }
+
+    @Nullable
+    public Object resolveValueIfNecessary(Object argName, @Nullable Object value) {
+        if (value instanceof BeanReference) {
+            return this.resolveReference(argName, (BeanReference)value);
+        } else if (value instanceof List) {
+            List<?> original = (List)value;
+            List<Object> resolved = new ArrayList(original.size());
+            int i = 0;
+
+            for(Iterator var6 = original.iterator(); var6.hasNext(); ++i) {
+                Object element = var6.next();
+                resolved.add(this.resolveValueIfNecessary(argName + "[" + i + "]", element));
+            }
+
+            return resolved;
+        } else if (value instanceof Set) {
+            Set<Object> resolved = new LinkedHashSet(((Set)value).size());
+            Iterator var8 = ((Set)value).iterator();
+
+            while(var8.hasNext()) {
+                Object element = var8.next();
+                resolved.add(this.resolveValueIfNecessary(argName, element));
+            }
+
+            return resolved;
+        } else if (value instanceof Map) {
+            Map<Object, Object> resolved = new LinkedHashMap(((Map)value).size());
+            ((Map<?, ?>)value).forEach((key, element) -> {
+                resolved.put(this.resolveValueIfNecessary(argName, key), this.resolveValueIfNecessary(argName + "[" + key + "]", element));
+            });
+            return resolved;
+        } else {
+            return value;
+        }
+    }
+
+    static boolean requiresResolution(@Nullable Object value) {
+        return value instanceof BeanReference || value instanceof List || value instanceof Set || value instanceof Map;
+    }
+
+    @Nullable
+    private Object resolveReference(Object argName, BeanReference ref) {
+        try {
+            String refName = ref.getBeanName();
+            if (ref instanceof RuntimeBeanReference && ((RuntimeBeanReference)ref).isToParent()) {
+                BeanFactory parentBeanFactory = this.beanFactory.getParentBeanFactory();
+                if (parentBeanFactory == null) {
+                    throw new BeanCreationException(this.beanDefinition.getResourceDescription(), this.beanName, "Can't resolve reference to bean '" + refName + "' in parent factory: no parent factory available");
+                } else {
+                    return parentBeanFactory.getBean(refName);
+                }
+            } else {
+                Object bean = this.beanFactory.getBean(refName);
+                this.beanFactory.registerDependentBean(refName, this.beanName);
+                return bean;
+            }
+        } catch (BeansException var5) {
+            throw new BeanCreationException(this.beanDefinition.getResourceDescription(), this.beanName, "Cannot resolve reference to bean '" + ref.getBeanName() + "' while setting " + argName, var5);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class BeanTypeIndex {
+    private static final String[] NO_BEAN_NAMES = new String[0];
+    private final Map<String, BeanTypeIndex.IndexedBean> indexedBeans = new ConcurrentHashMap(256);
+    private final Map<Class<?>, Set<String>> beanNamesByType = new ConcurrentHashMap(256);
+    private final Map<Class<?>, BeanTypeIndex.TypeViews> viewsByType = new ConcurrentHashMap(256);
+
+    BeanTypeIndex() {
+    }
+
+    void register(String beanName, long sequence, BeanDefinition beanDefinition, @Nullable Class<?> beanType) {
+        this.remove(beanName);
+        if (!beanDefinition.isAbstract() && beanType != null) {
+            this.index(beanName, new BeanTypeIndex.IndexedBean(sequence, beanType, beanDefinition.isSingleton(), beanDefinition.getFactoryBeanName() != null));
+        }
+    }
+
+    void registerSingleton(String beanName, long sequence, Class<?> beanType) {
+        this.remove(beanName);
+        this.index(beanName, new BeanTypeIndex.IndexedBean(sequence, beanType, true, false));
+    }
+
+    private void index(String beanName, BeanTypeIndex.IndexedBean indexedBean) {
+        this.indexedBeans.put(beanName, indexedBean);
+        Class[] var3 = indexedBean.types;
+        int var4 = var3.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            Class<?> type = var3[var5];
+            ((Set)this.beanNamesByType.computeIfAbsent(type, (key) -> {
+                return ConcurrentHashMap.newKeySet();
+            })).add(beanName);
+            this.viewsByType.remove(type);
+        }
+
+    }
+
+    void remove(String beanName) {
+        BeanTypeIndex.IndexedBean indexedBean = (BeanTypeIndex.IndexedBean)this.indexedBeans.remove(beanName);
+        if (indexedBean != null) {
+            Class[] var3 = indexedBean.types;
+            int var4 = var3.length;
+
+            for(int var5 = 0; var5 < var4; ++var5) {
+                Class<?> type = var3[var5];
+                Set<String> beanNames = (Set)this.beanNamesByType.get(type);
+                if (beanNames != null) {
+                    beanNames.remove(beanName);
+                }
+
+                this.viewsByType.remove(type);
+            }
+        }
+
+    }
+
+    @Nullable
+    Class<?> getBeanType(String beanName) {
+        BeanTypeIndex.IndexedBean indexedBean = (BeanTypeIndex.IndexedBean)this.indexedBeans.get(beanName);
+        return indexedBean != null ? indexedBean.beanType : null;
+    }
+
+    String[] getBeanNamesForType(@Nullable Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+        Class<?> typeToMatch = type != null ? type : Object.class;
+        BeanTypeIndex.TypeViews views = this.obtainViews(typeToMatch);
+        int viewIndex = (includeNonSingletons ? 1 : 0) | (allowEagerInit ? 2 : 0);
+        String[] beanNames = (String[])views.beanNames.get(viewIndex);
+        if (beanNames == null) {
+            beanNames = this.buildView(typeToMatch, includeNonSingletons, allowEagerInit);
+            views.beanNames.set(viewIndex, beanNames);
+        }
+
+        return beanNames;
+    }
+
+    Object getTypeGeneration(@Nullable Class<?> type) {
+        return this.obtainViews(type != null ? type : Object.class);
+    }
+
+    private BeanTypeIndex.TypeViews obtainViews(Class<?> type) {
+        BeanTypeIndex.TypeViews views = (BeanTypeIndex.TypeViews)this.viewsByType.get(type);
+        if (views == null) {
+            views = new BeanTypeIndex.TypeViews();
+            BeanTypeIndex.TypeViews existing = (BeanTypeIndex.TypeViews)this.viewsByType.putIfAbsent(type, views);
+            if (existing != null) {
+                views = existing;
+            }
+        }
+
+        return views;
+    }
+
+    private String[] buildView(Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+        Set<String> candidates = (Set)this.beanNamesByType.get(type);
+        if (candidates != null && !candidates.isEmpty()) {
+            List<Map.Entry<String, BeanTypeIndex.IndexedBean>> matches = new ArrayList(candidates.size());
+
+            for (String beanName : candidates) {
+                BeanTypeIndex.IndexedBean indexedBean = (BeanTypeIndex.IndexedBean)this.indexedBeans.get(beanName);
+                if (indexedBean != null && (includeNonSingletons || indexedBean.singleton) && (allowEagerInit || !indexedBean.requiresEagerInit)) {
+                    matches.add(new AbstractMap.SimpleImmutableEntry(beanName, indexedBean));
+                }
+            }
+
+            matches.sort(Comparator.comparingLong((entry) -> {
+                return ((BeanTypeIndex.IndexedBean)entry.getValue()).sequence;
+            }));
+            String[] beanNames = new String[matches.size()];
+
+            for(int i = 0; i < beanNames.length; ++i) {
+                beanNames[i] = (String)((Map.Entry)matches.get(i)).getKey();
+            }
+
+            return beanNames;
+        } else {
+            return NO_BEAN_NAMES;
+        }
+    }
+
+    private static Class<?>[] collectTypes(Class<?> beanType) {
+        Set<Class<?>> types = new LinkedHashSet();
+
+        for(Class<?> current = beanType; current != null; current = current.getSuperclass()) {
+            types.add(current);
+            collectInterfaces(current, types);
+        }
+
+        if (beanType.isInterface()) {
+            types.add(Object.class);
+        }
+
+        return (Class[])types.toArray(new Class[0]);
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> types) {
+        Class[] var2 = type.getInterfaces();
+        int var3 = var2.length;
+
+        for(int var4 = 0; var4 < var3; ++var4) {
+            Class<?> ifc = var2[var4];
+            if (types.add(ifc)) {
+                collectInterfaces(ifc, types);
+            }
+        }
+
+    }
+
+    private static final class TypeViews {
+        private final AtomicReferenceArray<String[]> beanNames = new AtomicReferenceArray(4);
+
+        TypeViews() {
+        }
+    }
+
+    private static final class IndexedBean {
+        private final long sequence;
+        private final Class<?> beanType;
+        private final Class<?>[] types;
+        private final boolean singleton;
+        private final boolean requiresEagerInit;
+
+        IndexedBean(long sequence, Class<?> beanType, boolean singleton, boolean requiresEagerInit) {
+            this.sequence = sequence;
+            this.beanType = beanType;
+            this.types = BeanTypeIndex.collectTypes(beanType);
+            this.singleton = singleton;
+            this.requiresEagerInit = requiresEagerInit;
+        }
+    }
+}
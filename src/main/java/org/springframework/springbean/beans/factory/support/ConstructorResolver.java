@@ -0,0 +1,363 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.TypeConverter;
+import org.springframework.springbean.beans.config.DependencyDescriptor;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.springcore.core.MethodParameter;
+import org.springframework.springcore.core.ParameterNameDiscoverer;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ReflectionUtils;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+class ConstructorResolver {
+    private static final Object AUTOWIRED_ARGUMENT_MARKER = new Object();
+    private final AbstractAutowireCapableBeanFactory beanFactory;
+
+    ConstructorResolver(AbstractAutowireCapableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Nullable
+    static Constructor<?> getAutowiredConstructor(RootBeanDefinition mbd) {
+        synchronized(mbd.constructorArgumentLock) {
+            if (!(mbd.resolvedConstructorOrFactoryMethod instanceof Constructor)) {
+                return null;
+            } else if (mbd.resolvedConstructorArguments != null) {
+                return mbd.resolvedConstructorArguments.length == 0 ? (Constructor)mbd.resolvedConstructorOrFactoryMethod : null;
+            } else if (mbd.preparedConstructorArguments == null) {
+                return null;
+            } else {
+                Object[] var2 = mbd.preparedConstructorArguments;
+                int var3 = var2.length;
+
+                for(int var4 = 0; var4 < var3; ++var4) {
+                    Object preparedArgument = var2[var4];
+                    if (preparedArgument != AUTOWIRED_ARGUMENT_MARKER) {
+                        return null;
+                    }
+                }
+
+                return (Constructor)mbd.resolvedConstructorOrFactoryMethod;
+            }
+        }
+    }
+
+    static void setAutowiredConstructor(RootBeanDefinition mbd, Constructor<?> constructor) {
+        synchronized(mbd.constructorArgumentLock) {
+            mbd.resolvedConstructorOrFactoryMethod = constructor;
+            if (constructor.getParameterCount() == 0) {
+                mbd.resolvedConstructorArguments = new Object[0];
+                mbd.preparedConstructorArguments = null;
+            } else {
+                Object[] preparedArguments = new Object[constructor.getParameterCount()];
+                Arrays.fill(preparedArguments, AUTOWIRED_ARGUMENT_MARKER);
+                mbd.resolvedConstructorArguments = null;
+                mbd.preparedConstructorArguments = preparedArguments;
+            }
+
+        }
+    }
+
+    public Object autowireConstructor(String beanName, RootBeanDefinition mbd, Class<?> beanClass, @Nullable Object[] explicitArgs) {
+        Executable cachedExecutable = this.getCachedExecutable(mbd, explicitArgs);
+        if (cachedExecutable instanceof Constructor) {
+            Object[] argsToUse = this.resolveCachedArguments(beanName, mbd, cachedExecutable, explicitArgs);
+            if (argsToUse != null) {
+                return this.beanFactory.instantiate(beanName, mbd, (Constructor)cachedExecutable, argsToUse);
+            }
+        }
+
+        Constructor<?>[] candidates = beanClass.getDeclaredConstructors();
+        Arrays.sort(candidates, (c1, c2) -> {
+            boolean p1 = Modifier.isPublic(c1.getModifiers());
+            boolean p2 = Modifier.isPublic(c2.getModifiers());
+            return p1 != p2 ? (p1 ? -1 : 1) : c2.getParameterCount() - c1.getParameterCount();
+        });
+        BeanDefinitionValueResolver valueResolver = new BeanDefinitionValueResolver(this.beanFactory, beanName, mbd);
+        Constructor[] var8 = candidates;
+        int var9 = candidates.length;
+
+        for(int var10 = 0; var10 < var9; ++var10) {
+            Constructor<?> candidate = var8[var10];
+            ConstructorResolver.ArgumentsHolder argsHolder = this.createArgumentArray(beanName, mbd, candidate, explicitArgs, valueResolver);
+            if (argsHolder != null) {
+                argsHolder.storeCache(mbd, candidate, explicitArgs != null);
+                return this.beanFactory.instantiate(beanName, mbd, candidate, argsHolder.arguments);
+            }
+        }
+
+        throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Could not resolve matching constructor (hint: specify index/type/name arguments for simple parameters to avoid type ambiguities)");
+    }
+
+    public Object instantiateUsingFactoryMethod(String beanName, RootBeanDefinition mbd, @Nullable Object[] explicitArgs) {
+        String factoryBeanName = mbd.getFactoryBeanName();
+        Object factoryBean;
+        Class<?> factoryClass;
+        boolean isStatic;
+        if (factoryBeanName != null) {
+            if (factoryBeanName.equals(beanName)) {
+                throw new BeanCreationException(mbd.getResourceDescription(), beanName, "factory-bean reference points back to the same bean definition");
+            }
+
+            factoryBean = this.beanFactory.getBean(factoryBeanName);
+            this.beanFactory.registerDependentBean(factoryBeanName, beanName);
+            factoryClass = factoryBean.getClass();
+            isStatic = false;
+        } else {
+            factoryBean = null;
+            factoryClass = this.beanFactory.resolveBeanClass(mbd, beanName);
+            isStatic = true;
+        }
+
+        Executable cachedExecutable = this.getCachedExecutable(mbd, explicitArgs);
+        if (cachedExecutable instanceof Method && ((Method)cachedExecutable).getDeclaringClass().isAssignableFrom(factoryClass)) {
+            Object[] argsToUse = this.resolveCachedArguments(beanName, mbd, cachedExecutable, explicitArgs);
+            if (argsToUse != null) {
+                return this.beanFactory.instantiate(beanName, mbd, factoryBean, (Method)cachedExecutable, argsToUse);
+            }
+        }
+
+        BeanDefinitionValueResolver valueResolver = new BeanDefinitionValueResolver(this.beanFactory, beanName, mbd);
+        Method[] var10 = ReflectionUtils.getUniqueDeclaredMethods(factoryClass);
+        int var11 = var10.length;
+
+        for(int var12 = 0; var12 < var11; ++var12) {
+            Method candidate = var10[var12];
+            if (Modifier.isStatic(candidate.getModifiers()) == isStatic && candidate.getName().equals(mbd.getFactoryMethodName())) {
+                ConstructorResolver.ArgumentsHolder argsHolder = this.createArgumentArray(beanName, mbd, candidate, explicitArgs, valueResolver);
+                if (argsHolder != null) {
+                    argsHolder.storeCache(mbd, candidate, explicitArgs != null);
+                    return this.beanFactory.instantiate(beanName, mbd, factoryBean, candidate, argsHolder.arguments);
+                }
+            }
+        }
+
+        throw new BeanCreationException(mbd.getResourceDescription(), beanName, "No matching factory method found: " + (factoryBeanName != null ? "factory bean '" + factoryBeanName + "'; " : "") + "factory method '" + mbd.getFactoryMethodName() + "'");
+    }
+
+    @Nullable
+    private Executable getCachedExecutable(RootBeanDefinition mbd, @Nullable Object[] explicitArgs) {
+        synchronized(mbd.constructorArgumentLock) {
+            return explicitArgs != null ? mbd.resolvedExplicitArgsConstructorOrFactoryMethod : mbd.resolvedConstructorOrFactoryMethod;
+        }
+    }
+
+    @Nullable
+    private Object[] resolveCachedArguments(String beanName, RootBeanDefinition mbd, Executable executable, @Nullable Object[] explicitArgs) {
+        Class<?>[] paramTypes = executable.getParameterTypes();
+        if (explicitArgs != null) {
+            return this.convertExplicitArguments(paramTypes, explicitArgs);
+        } else {
+            Object[] argsToResolve;
+            synchronized(mbd.constructorArgumentLock) {
+                if (mbd.resolvedConstructorArguments != null) {
+                    return mbd.resolvedConstructorArguments;
+                }
+
+                argsToResolve = mbd.preparedConstructorArguments;
+            }
+
+            if (argsToResolve == null) {
+                return null;
+            } else {
+                BeanDefinitionValueResolver valueResolver = new BeanDefinitionValueResolver(this.beanFactory, beanName, mbd);
+                Object[] resolvedArgs = new Object[argsToResolve.length];
+
+                for(int i = 0; i < argsToResolve.length; ++i) {
+                    Object argValue = argsToResolve[i];
+                    if (argValue == AUTOWIRED_ARGUMENT_MARKER) {
+                        argValue = this.resolveAutowiredArgument(beanName, executable, i, (Set)null);
+                    } else if (BeanDefinitionValueResolver.requiresResolution(argValue)) {
+                        argValue = this.beanFactory.convertIfNecessary(valueResolver.resolveValueIfNecessary("constructor argument " + i, argValue), paramTypes[i]);
+                    }
+
+                    resolvedArgs[i] = argValue;
+                }
+
+                return resolvedArgs;
+            }
+        }
+    }
+
+    @Nullable
+    private Object[] convertExplicitArguments(Class<?>[] paramTypes, Object[] explicitArgs) {
+        if (paramTypes.length != explicitArgs.length) {
+            return null;
+        } else {
+            Object[] args = new Object[paramTypes.length];
+
+            for(int i = 0; i < paramTypes.length; ++i) {
+                if (!this.beanFactory.canConvert(explicitArgs[i], paramTypes[i])) {
+                    return null;
+                }
+
+                args[i] = this.beanFactory.convertIfNecessary(explicitArgs[i], paramTypes[i]);
+            }
+
+            return args;
+        }
+    }
+
+    @Nullable
+    private String[] getParameterNames(Executable candidate) {
+        if (candidate instanceof Constructor) {
+            ConstructorProperties cp = (ConstructorProperties)candidate.getAnnotation(ConstructorProperties.class);
+            if (cp != null) {
+                String[] names = cp.value();
+                if (names.length != candidate.getParameterCount()) {
+                    throw new IllegalStateException("Constructor annotated with @ConstructorProperties but not corresponding to actual number of parameters (" + candidate.getParameterCount() + "): " + candidate);
+                }
+
+                return names;
+            }
+        }
+
+        ParameterNameDiscoverer pnd = this.beanFactory.getParameterNameDiscoverer();
+        if (pnd == null) {
+            return null;
+        } else {
+            return candidate instanceof Constructor ? pnd.getParameterNames((Constructor)candidate) : pnd.getParameterNames((Method)candidate);
+        }
+    }
+
+    @Nullable
+    private ConstructorResolver.ArgumentsHolder createArgumentArray(String beanName, RootBeanDefinition mbd, Executable candidate, @Nullable Object[] explicitArgs, BeanDefinitionValueResolver valueResolver) {
+        Class<?>[] paramTypes = candidate.getParameterTypes();
+        if (explicitArgs != null) {
+            Object[] args = this.convertExplicitArguments(paramTypes, explicitArgs);
+            return args != null ? new ConstructorResolver.ArgumentsHolder(args, (Object[])null, (ConstructorArgumentValues.ValueHolder[])null, false) : null;
+        } else {
+            ConstructorArgumentValues cargs = mbd.getConstructorArgumentValues();
+            if (paramTypes.length < cargs.getArgumentCount()) {
+                return null;
+            } else {
+                Object[] args = new Object[paramTypes.length];
+                Object[] preparedArgs = new Object[paramTypes.length];
+                ConstructorArgumentValues.ValueHolder[] sourceHolders = new ConstructorArgumentValues.ValueHolder[paramTypes.length];
+                Set<ConstructorArgumentValues.ValueHolder> usedValueHolders = new HashSet(paramTypes.length);
+                Set<String> autowiredBeanNames = new LinkedHashSet(4);
+                String[] paramNames = !cargs.isEmpty() ? this.getParameterNames(candidate) : null;
+                boolean resolveNecessary = false;
+
+                for(int i = 0; i < paramTypes.length; ++i) {
+                    String paramName = paramNames != null ? paramNames[i] : "";
+                    ConstructorArgumentValues.ValueHolder valueHolder = cargs.getArgumentValue(i, paramTypes[i], paramName, usedValueHolders);
+                    if (valueHolder == null) {
+                        if (mbd.getAutowireMode() != AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR) {
+                            return null;
+                        }
+
+                        try {
+                            args[i] = this.resolveAutowiredArgument(beanName, candidate, i, autowiredBeanNames);
+                        } catch (NoSuchBeanDefinitionException var20) {
+                            return null;
+                        }
+
+                        preparedArgs[i] = AUTOWIRED_ARGUMENT_MARKER;
+                        resolveNecessary = true;
+                        continue;
+                    }
+
+                    usedValueHolders.add(valueHolder);
+                    Object originalValue = valueHolder.getValue();
+                    Object convertedValue;
+                    if (valueHolder.isConverted() && ClassUtils.isAssignableValue(paramTypes[i], valueHolder.getConvertedValue())) {
+                        convertedValue = valueHolder.getConvertedValue();
+                        preparedArgs[i] = convertedValue;
+                    } else {
+                        boolean needsResolution = BeanDefinitionValueResolver.requiresResolution(originalValue);
+                        Object resolvedValue = needsResolution ? valueResolver.resolveValueIfNecessary("constructor argument " + i, originalValue) : originalValue;
+                        if (!this.beanFactory.canConvert(resolvedValue, paramTypes[i])) {
+                            return null;
+                        }
+
+                        convertedValue = this.beanFactory.convertIfNecessary(resolvedValue, paramTypes[i]);
+                        if (needsResolution) {
+                            resolveNecessary = true;
+                            preparedArgs[i] = originalValue;
+                        } else {
+                            preparedArgs[i] = convertedValue;
+                            sourceHolders[i] = valueHolder;
+                        }
+                    }
+
+                    args[i] = convertedValue;
+                }
+
+                if (usedValueHolders.size() != cargs.getArgumentCount()) {
+                    return null;
+                } else {
+                    Iterator var21 = autowiredBeanNames.iterator();
+
+                    while(var21.hasNext()) {
+                        String autowiredBeanName = (String)var21.next();
+                        this.beanFactory.registerDependentBean(autowiredBeanName, beanName);
+                    }
+
+                    return new ConstructorResolver.ArgumentsHolder(args, preparedArgs, sourceHolders, resolveNecessary);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Object resolveAutowiredArgument(String beanName, Executable executable, int index, @Nullable Set<String> autowiredBeanNames) {
+        DependencyDescriptor descriptor = new DependencyDescriptor(MethodParameter.forExecutable(executable, index), true);
+        return this.beanFactory.resolveDependency(descriptor, beanName, autowiredBeanNames, (TypeConverter)null);
+    }
+
+    private static class ArgumentsHolder {
+        final Object[] arguments;
+        @Nullable
+        final Object[] preparedArguments;
+        @Nullable
+        final ConstructorArgumentValues.ValueHolder[] sourceHolders;
+        final boolean resolveNecessary;
+
+        ArgumentsHolder(Object[] arguments, @Nullable Object[] preparedArguments, @Nullable ConstructorArgumentValues.ValueHolder[] sourceHolders, boolean resolveNecessary) {
+            this.arguments = arguments;
+            this.preparedArguments = preparedArguments;
+            this.sourceHolders = sourceHolders;
+            this.resolveNecessary = resolveNecessary;
+        }
+
+        void storeCache(RootBeanDefinition mbd, Executable executable, boolean explicitArgs) {
+            synchronized(mbd.constructorArgumentLock) {
+                if (explicitArgs) {
+                    mbd.resolvedExplicitArgsConstructorOrFactoryMethod = executable;
+                } else {
+                    mbd.resolvedConstructorOrFactoryMethod = executable;
+                    if (this.resolveNecessary) {
+                        mbd.resolvedConstructorArguments = null;
+                        mbd.preparedConstructorArguments = this.preparedArguments;
+                    } else {
+                        mbd.resolvedConstructorArguments = this.arguments;
+                        mbd.preparedConstructorArguments = null;
+                    }
+                }
+            }
+
+            if (this.sourceHolders != null) {
+                for(int i = 0; i < this.sourceHolders.length; ++i) {
+                    if (this.sourceHolders[i] != null) {
+                        this.sourceHolders[i].setConvertedValue(this.arguments[i]);
+                    }
+                }
+            }
+
+        }
+    }
+}
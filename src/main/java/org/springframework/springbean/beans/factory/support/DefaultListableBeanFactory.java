@@ -0,0 +1,975 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.TypeConverter;
+import org.springframework.springbean.beans.config.DependencyDescriptor;
+import org.springframework.springbean.beans.factory.BeanDefinitionStoreException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springbean.beans.factory.ListableBeanFactory;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springbean.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.BeanReference;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.springbean.beans.factory.config.NamedBeanHolder;
+import org.springframework.springbean.beans.factory.config.SingletonPreInstantiationReport;
+import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.annotation.AnnotationUtils;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ObjectUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFactory implements ConfigurableListableBeanFactory, BeanDefinitionRegistry {
+    private static final String QUALIFIER_ANNOTATION_NAME = "Qualifier";
+    private boolean allowBeanDefinitionOverriding = true;
+    private int preInstantiationParallelism = 1;
+    @Nullable
+    private volatile SingletonPreInstantiationReport preInstantiationReport;
+    private final Map<String, BeanDefinition> beanDefinitionMap = new ConcurrentHashMap(256);
+    private final Map<String, Long> beanDefinitionOrder = new ConcurrentHashMap(256);
+    private final AtomicLong registrationSequence = new AtomicLong();
+    private final AtomicLong beanDefinitionVersion = new AtomicLong();
+    private final BeanTypeIndex beanTypeIndex = new BeanTypeIndex();
+    private final Set<String> manualSingletonNames = ConcurrentHashMap.newKeySet(16);
+    private final Map<String, Set<String>> childBeanDefinitionNames = new ConcurrentHashMap(16);
+    private final Map<DefaultListableBeanFactory.DependencyResolutionKey, DefaultListableBeanFactory.DependencyResolutionPlan> dependencyResolutionPlans = new ConcurrentHashMap(256);
+    @Nullable
+    private volatile DefaultListableBeanFactory.BeanDefinitionNamesSnapshot beanDefinitionNamesSnapshot;
+
+    public DefaultListableBeanFactory() {
+    }
+
+    public DefaultListableBeanFactory(@Nullable BeanFactory parentBeanFactory) {
+        super(parentBeanFactory);
+    }
+
+    public void setAllowBeanDefinitionOverriding(boolean allowBeanDefinitionOverriding) {
+        this.allowBeanDefinitionOverriding = allowBeanDefinitionOverriding;
+    }
+
+    public boolean isAllowBeanDefinitionOverriding() {
+        return this.allowBeanDefinitionOverriding;
+    }
+
+    public void setPreInstantiationParallelism(int preInstantiationParallelism) {
+        Assert.isTrue(preInstantiationParallelism > 0, "Pre-instantiation parallelism must be positive");
+        this.preInstantiationParallelism = preInstantiationParallelism;
+    }
+
+    public int getPreInstantiationParallelism() {
+        return this.preInstantiationParallelism;
+    }
+
+    @Nullable
+    public SingletonPreInstantiationReport getPreInstantiationReport() {
+        return this.preInstantiationReport;
+    }
+
+    public void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) throws BeanDefinitionStoreException {
+        Assert.hasText(beanName, "Bean name must not be empty");
+        Assert.notNull(beanDefinition, "BeanDefinition must not be null");
+        synchronized(this.beanDefinitionMap) {
+            BeanDefinition existingDefinition = (BeanDefinition)this.beanDefinitionMap.get(beanName);
+            this.checkBeanDefinitionOverriding(beanName, beanDefinition, existingDefinition);
+            this.putBeanDefinition(beanName, beanDefinition, existingDefinition);
+            this.beanDefinitionVersion.incrementAndGet();
+            this.resetBeanDefinition(beanName, existingDefinition != null || this.containsSingleton(beanName));
+        }
+
+        this.invalidateChildParentLookups();
+    }
+
+    public BeanDefinitionRegistrationReport registerBeanDefinitions(Map<String, BeanDefinition> beanDefinitions) throws BeanDefinitionStoreException {
+        Assert.notNull(beanDefinitions, "BeanDefinition map must not be null");
+        long startTime = System.nanoTime();
+        synchronized(this.beanDefinitionMap) {
+            Iterator var5 = beanDefinitions.entrySet().iterator();
+
+            while(var5.hasNext()) {
+                Map.Entry<String, BeanDefinition> entry = (Map.Entry)var5.next();
+                Assert.hasText((String)entry.getKey(), "Bean name must not be empty");
+                Assert.notNull(entry.getValue(), "BeanDefinition must not be null");
+                this.checkBeanDefinitionOverriding((String)entry.getKey(), (BeanDefinition)entry.getValue(), (BeanDefinition)this.beanDefinitionMap.get(entry.getKey()));
+            }
+
+            int overriddenCount = 0;
+            var5 = beanDefinitions.entrySet().iterator();
+
+            while(var5.hasNext()) {
+                Map.Entry<String, BeanDefinition> entry = (Map.Entry)var5.next();
+                BeanDefinition existingDefinition = (BeanDefinition)this.beanDefinitionMap.get(entry.getKey());
+                this.putBeanDefinition((String)entry.getKey(), (BeanDefinition)entry.getValue(), existingDefinition);
+                if (existingDefinition != null) {
+                    ++overriddenCount;
+                }
+            }
+
+            this.beanDefinitionVersion.incrementAndGet();
+            int resetCount = this.resetBeanDefinitions(beanDefinitions.keySet(), true);
+            this.invalidateChildParentLookups();
+            return new BeanDefinitionRegistrationReport(beanDefinitions.size(), overriddenCount, resetCount, System.nanoTime() - startTime);
+        }
+    }
+
+    public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
+        super.registerSingleton(beanName, singletonObject);
+        synchronized(this.beanDefinitionMap) {
+            if (!this.beanDefinitionMap.containsKey(beanName)) {
+                this.manualSingletonNames.add(beanName);
+                this.beanTypeIndex.registerSingleton(beanName, this.registrationSequence.incrementAndGet(), singletonObject.getClass());
+            }
+        }
+    }
+
+    protected void removeSingleton(String beanName) {
+        super.removeSingleton(beanName);
+        if (this.manualSingletonNames.remove(beanName)) {
+            this.beanTypeIndex.remove(beanName);
+        }
+
+    }
+
+    protected void clearSingletonCache() {
+        super.clearSingletonCache();
+        Iterator var1 = this.manualSingletonNames.iterator();
+
+        while(var1.hasNext()) {
+            String beanName = (String)var1.next();
+            this.beanTypeIndex.remove(beanName);
+        }
+
+        this.manualSingletonNames.clear();
+    }
+
+    private void checkBeanDefinitionOverriding(String beanName, BeanDefinition beanDefinition, @Nullable BeanDefinition existingDefinition) throws BeanDefinitionStoreException {
+        if (existingDefinition != null && !this.isAllowBeanDefinitionOverriding()) {
+            throw new BeanDefinitionStoreException(beanDefinition.getResourceDescription(), beanName, "Cannot register bean definition [" + beanDefinition + "] for bean '" + beanName + "': There is already [" + existingDefinition + "] bound.");
+        }
+    }
+
+    private void putBeanDefinition(String beanName, BeanDefinition beanDefinition, @Nullable BeanDefinition existingDefinition) {
+        if (existingDefinition != null) {
+            this.unlinkFromParent(beanName, existingDefinition);
+            this.beanTypeIndex.remove(beanName);
+        } else {
+            this.beanDefinitionOrder.put(beanName, this.registrationSequence.incrementAndGet());
+        }
+
+        this.linkToParent(beanName, beanDefinition);
+        this.beanDefinitionMap.put(beanName, beanDefinition);
+    }
+
+    public void removeBeanDefinition(String beanName) throws NoSuchBeanDefinitionException {
+        Assert.hasText(beanName, "'beanName' must not be empty");
+        synchronized(this.beanDefinitionMap) {
+            BeanDefinition existingDefinition = (BeanDefinition)this.beanDefinitionMap.remove(beanName);
+            if (existingDefinition == null) {
+                throw new NoSuchBeanDefinitionException(beanName);
+            }
+
+            this.beanDefinitionOrder.remove(beanName);
+            this.beanTypeIndex.remove(beanName);
+            this.unlinkFromParent(beanName, existingDefinition);
+            this.dependencyResolutionPlans.keySet().removeIf((key) -> {
+                return beanName.equals(key.beanName);
+            });
+            this.beanDefinitionVersion.incrementAndGet();
+            this.resetBeanDefinition(beanName, true);
+        }
+
+        this.invalidateChildParentLookups();
+    }
+
+    private void linkToParent(String beanName, BeanDefinition bd) {
+        String parentName = bd.getParentName();
+        if (parentName != null) {
+            ((Set)this.childBeanDefinitionNames.computeIfAbsent(this.transformedBeanName(parentName), (key) -> {
+                return ConcurrentHashMap.newKeySet(4);
+            })).add(beanName);
+        }
+
+    }
+
+    private void unlinkFromParent(String beanName, BeanDefinition bd) {
+        String parentName = bd.getParentName();
+        if (parentName != null) {
+            this.childBeanDefinitionNames.computeIfPresent(this.transformedBeanName(parentName), (key, children) -> {
+                children.remove(beanName);
+                return children.isEmpty() ? null : children;
+            });
+        }
+
+    }
+
+    protected void resetBeanDefinition(String beanName, boolean removeSingletons) {
+        this.resetBeanDefinitions(Collections.singleton(beanName), removeSingletons);
+    }
+
+    protected int resetBeanDefinitions(Collection<String> beanNames, boolean removeSingletons) {
+        Set<String> affected = new LinkedHashSet();
+        LinkedList<String> queue = new LinkedList(beanNames);
+
+        while(!queue.isEmpty()) {
+            String name = (String)queue.removeFirst();
+            if (affected.add(name)) {
+                Set<String> children = (Set)this.childBeanDefinitionNames.get(name);
+                if (children != null) {
+                    queue.addAll(children);
+                }
+            }
+        }
+
+        Iterator var6 = affected.iterator();
+
+        while(var6.hasNext()) {
+            String name = (String)var6.next();
+            this.clearMergedBeanDefinition(name);
+            if (removeSingletons) {
+                this.removeSingleton(name);
+            }
+        }
+
+        var6 = affected.iterator();
+
+        while(var6.hasNext()) {
+            String name = (String)var6.next();
+            this.refreshBeanTypeIndex(name);
+        }
+
+        return affected.size();
+    }
+
+    private void refreshBeanTypeIndex(String beanName) {
+        BeanDefinition bd = (BeanDefinition)this.beanDefinitionMap.get(beanName);
+        if (bd != null) {
+            RootBeanDefinition mbd;
+            try {
+                mbd = this.getMergedLocalBeanDefinition(beanName);
+            } catch (BeansException var5) {
+                this.beanTypeIndex.remove(beanName);
+                return;
+            }
+
+            Class<?> beanType = mbd.isAbstract() ? null : this.predictBeanType(beanName, mbd);
+            this.beanDefinitionMap.computeIfPresent(beanName, (name, current) -> {
+                if (current == bd) {
+                    this.beanTypeIndex.register(name, (Long)this.beanDefinitionOrder.get(name), mbd, beanType);
+                }
+
+                return current;
+            });
+        }
+    }
+
+    public BeanDefinition getBeanDefinition(String beanName) throws NoSuchBeanDefinitionException {
+        BeanDefinition bd = (BeanDefinition)this.beanDefinitionMap.get(beanName);
+        if (bd == null) {
+            throw new NoSuchBeanDefinitionException(beanName);
+        } else {
+            return bd;
+        }
+    }
+
+    public boolean containsBeanDefinition(String beanName) {
+        Assert.notNull(beanName, "Bean name must not be null");
+        return this.beanDefinitionMap.containsKey(beanName);
+    }
+
+    public String[] getBeanDefinitionNames() {
+        long version = this.beanDefinitionVersion.get();
+        DefaultListableBeanFactory.BeanDefinitionNamesSnapshot snapshot = this.beanDefinitionNamesSnapshot;
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new DefaultListableBeanFactory.BeanDefinitionNamesSnapshot(version, this.sortedBeanDefinitionNames());
+            this.beanDefinitionNamesSnapshot = snapshot;
+        }
+
+        return snapshot.names;
+    }
+
+    public int getBeanDefinitionCount() {
+        return this.beanDefinitionMap.size();
+    }
+
+    public boolean isBeanNameInUse(String beanName) {
+        return this.isAlias(beanName) || this.containsLocalBean(beanName) || this.hasDependentBean(beanName);
+    }
+
+    public <T> T getBean(Class<T> requiredType) throws BeansException {
+        return this.getBean(requiredType, (Object[])null);
+    }
+
+    public <T> T getBean(Class<T> requiredType, @Nullable Object... args) throws BeansException {
+        NamedBeanHolder<T> namedBean = this.resolveNamedBean(requiredType, args);
+        if (namedBean != null) {
+            return namedBean.getBeanInstance();
+        } else {
+            BeanFactory parent = this.getParentBeanFactory();
+            if (parent != null) {
+                return args != null ? parent.getBean(requiredType, args) : parent.getBean(requiredType);
+            } else {
+                throw new NoSuchBeanDefinitionException(requiredType);
+            }
+        }
+    }
+
+    public <T> NamedBeanHolder<T> resolveNamedBean(Class<T> requiredType) throws BeansException {
+        NamedBeanHolder<T> namedBean = this.resolveNamedBean(requiredType, (Object[])null);
+        if (namedBean == null) {
+            throw new NoSuchBeanDefinitionException(requiredType);
+        } else {
+            return namedBean;
+        }
+    }
+
+    @Nullable
+    private <T> NamedBeanHolder<T> resolveNamedBean(Class<T> requiredType, @Nullable Object[] args) throws BeansException {
+        Assert.notNull(requiredType, "Required type must not be null");
+        String[] candidateNames = this.getBeanNamesForType(requiredType);
+        if (candidateNames.length == 1) {
+            String beanName = candidateNames[0];
+            return new NamedBeanHolder(beanName, this.getBean(beanName, requiredType, args));
+        } else if (candidateNames.length > 1) {
+            String primaryCandidate = null;
+            String[] var5 = candidateNames;
+            int var6 = candidateNames.length;
+
+            for(int var7 = 0; var7 < var6; ++var7) {
+                String candidateName = var5[var7];
+                RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(candidateName);
+                if (bd != null && bd.isPrimary()) {
+                    if (primaryCandidate != null) {
+                        throw new NoUniqueBeanDefinitionException(requiredType, candidateNames.length, "more than one 'primary' bean found among candidates: " + Arrays.asList(candidateNames));
+                    }
+
+                    primaryCandidate = candidateName;
+                }
+            }
+
+            if (primaryCandidate == null) {
+                throw new NoUniqueBeanDefinitionException(requiredType, candidateNames);
+            } else {
+                return new NamedBeanHolder(primaryCandidate, this.getBean(primaryCandidate, requiredType, args));
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Nullable
+    public Object resolveDependency(DependencyDescriptor descriptor, @Nullable String requestingBeanName) throws BeansException {
+        return this.resolveDependency(descriptor, requestingBeanName, (Set)null, (TypeConverter)null);
+    }
+
+    @Nullable
+    public Object resolveDependency(DependencyDescriptor descriptor, @Nullable String requestingBeanName, @Nullable Set<String> autowiredBeanNames, @Nullable TypeConverter typeConverter) throws BeansException {
+        return descriptor.isLazy() && descriptor.getDependencyType().isInterface() ? this.buildLazyResolutionProxy(descriptor, requestingBeanName) : this.doResolveDependency(descriptor, requestingBeanName, autowiredBeanNames);
+    }
+
+    protected Object buildLazyResolutionProxy(DependencyDescriptor descriptor, @Nullable String requestingBeanName) {
+        Class<?> dependencyType = descriptor.getDependencyType();
+        ClassLoader classLoader = this.getBeanClassLoader();
+        if (classLoader == null || !ClassUtils.isVisible(dependencyType, classLoader)) {
+            classLoader = dependencyType.getClassLoader();
+        }
+
+        return Proxy.newProxyInstance(classLoader, new Class[]{dependencyType}, new LazyResolutionInvocationHandler(this, descriptor, requestingBeanName));
+    }
+
+    @Nullable
+    protected Object doResolveDependency(DependencyDescriptor descriptor, @Nullable String requestingBeanName, @Nullable Set<String> autowiredBeanNames) throws BeansException {
+        Object shortcut = descriptor.resolveShortcut(this);
+        if (shortcut != null) {
+            return shortcut;
+        } else {
+            DefaultListableBeanFactory.DependencyResolutionPlan plan = this.obtainDependencyResolutionPlan(descriptor, requestingBeanName);
+            if (plan.multiple) {
+                return this.resolveMultipleBeans(descriptor, plan, autowiredBeanNames);
+            } else {
+                Class<?> type = descriptor.getDependencyType();
+                String[] candidateNames = plan.beanNames;
+                if (candidateNames.length == 0) {
+                    if (descriptor.isRequired()) {
+                        throw new NoSuchBeanDefinitionException(type, "expected at least 1 bean which qualifies as autowire candidate. Dependency: " + descriptor);
+                    } else {
+                        return null;
+                    }
+                } else if (candidateNames.length > 1) {
+                    Map<String, Object> matchingBeans = new LinkedHashMap(candidateNames.length);
+                    String[] var8 = candidateNames;
+                    int var9 = candidateNames.length;
+
+                    for(int var10 = 0; var10 < var9; ++var10) {
+                        String candidateName = var8[var10];
+                        matchingBeans.put(candidateName, type);
+                    }
+
+                    return descriptor.resolveNotUnique(type, matchingBeans);
+                } else {
+                    if (autowiredBeanNames != null) {
+                        autowiredBeanNames.add(candidateNames[0]);
+                    }
+
+                    return descriptor.resolveCandidate(candidateNames[0], type, this);
+                }
+            }
+        }
+    }
+
+    private DefaultListableBeanFactory.DependencyResolutionPlan obtainDependencyResolutionPlan(DependencyDescriptor descriptor, @Nullable String requestingBeanName) {
+        DefaultListableBeanFactory.DependencyResolutionKey key = new DefaultListableBeanFactory.DependencyResolutionKey(descriptor, requestingBeanName);
+        DefaultListableBeanFactory.DependencyResolutionPlan plan = (DefaultListableBeanFactory.DependencyResolutionPlan)this.dependencyResolutionPlans.get(key);
+        if (plan == null || !plan.isCurrent(this)) {
+            plan = this.createDependencyResolutionPlan(descriptor, requestingBeanName);
+            if (plan.isCacheable()) {
+                this.dependencyResolutionPlans.put(key, plan);
+            }
+        }
+
+        return plan;
+    }
+
+    private DefaultListableBeanFactory.DependencyResolutionPlan createDependencyResolutionPlan(DependencyDescriptor descriptor, @Nullable String requestingBeanName) {
+        ResolvableType elementType = this.getMultipleBeansElementType(descriptor);
+        Class<?> elementClass = null;
+        Object[] elementGeneration = null;
+        if (elementType != null) {
+            elementClass = elementType.resolve();
+            elementGeneration = this.getTypeGenerations(elementClass);
+            List<String> candidateNames = this.findAutowireCandidates(requestingBeanName, elementType, descriptor);
+            if (!candidateNames.isEmpty()) {
+                return new DefaultListableBeanFactory.DependencyResolutionPlan(elementClass, elementGeneration, (Class)null, (Object[])null, true, StringUtils.toStringArray(candidateNames));
+            }
+        }
+
+        ResolvableType dependencyType = descriptor.getResolvableType();
+        Class<?> dependencyClass = dependencyType.resolve(Object.class);
+        Object[] dependencyGeneration = this.getTypeGenerations(dependencyClass);
+        List<String> candidateNames = this.findAutowireCandidates(requestingBeanName, dependencyType, descriptor);
+        String[] beanNames;
+        if (candidateNames.size() > 1) {
+            String autowiredBeanName = this.determineAutowireCandidate(candidateNames, descriptor);
+            beanNames = autowiredBeanName != null ? new String[]{autowiredBeanName} : StringUtils.toStringArray(candidateNames);
+        } else {
+            beanNames = StringUtils.toStringArray(candidateNames);
+        }
+
+        return new DefaultListableBeanFactory.DependencyResolutionPlan(elementClass, elementGeneration, dependencyClass, dependencyGeneration, false, beanNames);
+    }
+
+    @Nullable
+    private ResolvableType getMultipleBeansElementType(DependencyDescriptor descriptor) {
+        Class<?> type = descriptor.getDependencyType();
+        ResolvableType elementType;
+        if (type.isArray()) {
+            elementType = descriptor.getResolvableType().getComponentType();
+        } else if (Collection.class.isAssignableFrom(type) && type.isInterface()) {
+            elementType = descriptor.getResolvableType().asCollection().getGeneric(new int[]{0});
+        } else {
+            if (Map.class != type) {
+                return null;
+            }
+
+            ResolvableType mapType = descriptor.getResolvableType().asMap();
+            if (String.class != mapType.resolveGeneric(new int[]{0})) {
+                return null;
+            }
+
+            elementType = mapType.getGeneric(new int[]{1});
+        }
+
+        return elementType.resolve() != null ? elementType : null;
+    }
+
+    private Object resolveMultipleBeans(DependencyDescriptor descriptor, DefaultListableBeanFactory.DependencyResolutionPlan plan, @Nullable Set<String> autowiredBeanNames) {
+        Class<?> type = descriptor.getDependencyType();
+        Class<?> elementType = plan.elementType;
+        Map<String, Object> resolvedBeans = new LinkedHashMap(plan.beanNames.length);
+        String[] var6 = plan.beanNames;
+        int var7 = var6.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            String candidateName = var6[var8];
+            resolvedBeans.put(candidateName, descriptor.resolveCandidate(candidateName, elementType, this));
+        }
+
+        if (autowiredBeanNames != null) {
+            autowiredBeanNames.addAll(resolvedBeans.keySet());
+        }
+
+        if (type.isArray()) {
+            Object result = Array.newInstance(elementType, resolvedBeans.size());
+            int i = 0;
+
+            for(Iterator var10 = resolvedBeans.values().iterator(); var10.hasNext(); ++i) {
+                Array.set(result, i, var10.next());
+            }
+
+            return result;
+        } else if (Map.class == type) {
+            return resolvedBeans;
+        } else {
+            return Set.class.isAssignableFrom(type) ? new LinkedHashSet(resolvedBeans.values()) : new ArrayList(resolvedBeans.values());
+        }
+    }
+
+    @Nullable
+    private Object[] getTypeGenerations(Class<?> type) {
+        List<Object> generations = new ArrayList(2);
+        generations.add(this.beanTypeIndex.getTypeGeneration(type));
+
+        BeanFactory parent;
+        for(parent = this.getParentBeanFactory(); parent instanceof DefaultListableBeanFactory; parent = ((DefaultListableBeanFactory)parent).getParentBeanFactory()) {
+            generations.add(((DefaultListableBeanFactory)parent).beanTypeIndex.getTypeGeneration(type));
+        }
+
+        return parent == null ? generations.toArray() : null;
+    }
+
+    private String[] getBeanNamesForTypeIncludingAncestors(ResolvableType type) {
+        String[] beanNames = this.getBeanNamesForType(type);
+        BeanFactory parent = this.getParentBeanFactory();
+        if (!(parent instanceof ListableBeanFactory)) {
+            return beanNames;
+        } else {
+            String[] parentBeanNames = parent instanceof DefaultListableBeanFactory ? ((DefaultListableBeanFactory)parent).getBeanNamesForTypeIncludingAncestors(type) : ((ListableBeanFactory)parent).getBeanNamesForType(type);
+            if (parentBeanNames.length == 0) {
+                return beanNames;
+            } else {
+                Set<String> result = new LinkedHashSet(Arrays.asList(beanNames));
+                String[] var5 = parentBeanNames;
+                int var6 = parentBeanNames.length;
+
+                for(int var7 = 0; var7 < var6; ++var7) {
+                    String beanName = var5[var7];
+                    if (!this.containsLocalBean(beanName)) {
+                        result.add(beanName);
+                    }
+                }
+
+                return StringUtils.toStringArray(result);
+            }
+        }
+    }
+
+    protected List<String> findAutowireCandidates(@Nullable String beanName, ResolvableType requiredType, DependencyDescriptor descriptor) {
+        String[] candidateNames = this.getBeanNamesForTypeIncludingAncestors(requiredType);
+        List<String> result = new ArrayList(candidateNames.length);
+        String[] var6 = candidateNames;
+        int var7 = candidateNames.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            String candidate = var6[var8];
+            if (!this.isSelfReference(beanName, candidate) && this.isAutowireCandidate(candidate, descriptor)) {
+                result.add(candidate);
+            }
+        }
+
+        if (result.isEmpty() && beanName != null) {
+            String[] var10 = candidateNames;
+            int var11 = candidateNames.length;
+
+            for(int var12 = 0; var12 < var11; ++var12) {
+                String candidate = var10[var12];
+                if (this.isSelfReference(beanName, candidate) && this.isAutowireCandidate(candidate, descriptor)) {
+                    result.add(candidate);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Nullable
+    protected String determineAutowireCandidate(List<String> candidateNames, DependencyDescriptor descriptor) {
+        String primaryCandidate = null;
+        Iterator var4 = candidateNames.iterator();
+
+        while(var4.hasNext()) {
+            String candidateName = (String)var4.next();
+            RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(candidateName);
+            if (bd != null && bd.isPrimary()) {
+                if (primaryCandidate != null) {
+                    throw new NoUniqueBeanDefinitionException(descriptor.getDependencyType(), candidateNames.size(), "more than one 'primary' bean found among candidates: " + candidateNames);
+                }
+
+                primaryCandidate = candidateName;
+            }
+        }
+
+        if (primaryCandidate != null) {
+            return primaryCandidate;
+        } else {
+            String dependencyName = descriptor.getDependencyName();
+            if (dependencyName != null) {
+                Iterator var8 = candidateNames.iterator();
+
+                while(var8.hasNext()) {
+                    String candidateName = (String)var8.next();
+                    if (this.matchesBeanName(candidateName, dependencyName)) {
+                        return candidateName;
+                    }
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private boolean isSelfReference(@Nullable String beanName, String candidateName) {
+        return beanName != null && beanName.equals(candidateName);
+    }
+
+    private boolean isAutowireCandidate(String beanName, DependencyDescriptor descriptor) {
+        RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(beanName);
+        return (bd == null || bd.isAutowireCandidate()) && this.isQualifierMatch(beanName, descriptor);
+    }
+
+    private boolean isQualifierMatch(String beanName, DependencyDescriptor descriptor) {
+        Annotation[] var3 = descriptor.getAnnotations();
+        int var4 = var3.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            Annotation ann = var3[var5];
+            if (QUALIFIER_ANNOTATION_NAME.equals(ann.annotationType().getSimpleName())) {
+                Object qualifier = AnnotationUtils.getValue(ann);
+                if (qualifier instanceof String && !((String)qualifier).isEmpty() && !this.matchesBeanName(beanName, (String)qualifier)) {
+                    Annotation beanQualifier = this.findAnnotationOnBean(beanName, ann.annotationType());
+                    if (beanQualifier == null || !qualifier.equals(AnnotationUtils.getValue(beanQualifier))) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean matchesBeanName(String beanName, String candidateName) {
+        return candidateName.equals(beanName) || ObjectUtils.containsElement(this.getAliases(beanName), candidateName);
+    }
+
+    public void registerAlias(String name, String alias) {
+        super.registerAlias(name, alias);
+        this.dependencyResolutionPlans.clear();
+    }
+
+    public void removeAlias(String alias) {
+        super.removeAlias(alias);
+        this.dependencyResolutionPlans.clear();
+    }
+
+    public <T> Map<String, T> getBeansOfType(@Nullable Class<T> type) throws BeansException {
+        return this.getBeansOfType(type, true, true);
+    }
+
+    public <T> Map<String, T> getBeansOfType(@Nullable Class<T> type, boolean includeNonSingletons, boolean allowEagerInit) throws BeansException {
+        String[] beanNames = this.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+        Map<String, T> result = new LinkedHashMap(beanNames.length);
+        String[] var6 = beanNames;
+        int var7 = beanNames.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            String beanName = var6[var8];
+            result.put(beanName, (T)this.getBean(beanName));
+        }
+
+        return result;
+    }
+
+    public String[] getBeanNamesForAnnotation(Class<? extends Annotation> annotationType) {
+        String[] beanNames = this.getBeanDefinitionNames();
+        List<String> result = new ArrayList();
+        String[] var4 = beanNames;
+        int var5 = beanNames.length;
+
+        for(int var6 = 0; var6 < var5; ++var6) {
+            String beanName = var4[var6];
+            RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(beanName);
+            if (bd != null && !bd.isAbstract() && this.findAnnotationOnBean(beanName, annotationType) != null) {
+                result.add(beanName);
+            }
+        }
+
+        return StringUtils.toStringArray(result);
+    }
+
+    public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) throws BeansException {
+        String[] beanNames = this.getBeanNamesForAnnotation(annotationType);
+        Map<String, Object> result = new LinkedHashMap(beanNames.length);
+        String[] var4 = beanNames;
+        int var5 = beanNames.length;
+
+        for(int var6 = 0; var6 < var5; ++var6) {
+            String beanName = var4[var6];
+            result.put(beanName, this.getBean(beanName));
+        }
+
+        return result;
+    }
+
+    @Nullable
+    public <A extends Annotation> A findAnnotationOnBean(String beanName, Class<A> annotationType) throws NoSuchBeanDefinitionException {
+        Class<?> beanType = this.getType(beanName);
+        return beanType != null ? AnnotationUtils.findAnnotation(beanType, annotationType) : null;
+    }
+
+    public String[] getBeanNamesForType(ResolvableType type) {
+        Class<?> resolved = type.resolve();
+        if (resolved != null && type.hasGenerics()) {
+            String[] candidateNames = this.beanTypeIndex.getBeanNamesForType(resolved, true, true);
+            List<String> result = new ArrayList(candidateNames.length);
+            String[] var4 = candidateNames;
+            int var5 = candidateNames.length;
+
+            for(int var6 = 0; var6 < var5; ++var6) {
+                String beanName = var4[var6];
+                Class<?> beanType = this.beanTypeIndex.getBeanType(beanName);
+                if (beanType != null && type.isAssignableFrom(ResolvableType.forClass(beanType))) {
+                    result.add(beanName);
+                }
+            }
+
+            return StringUtils.toStringArray(result);
+        } else {
+            return this.getBeanNamesForType(resolved, true, true);
+        }
+    }
+
+    public String[] getBeanNamesForType(@Nullable Class<?> type) {
+        return this.getBeanNamesForType(type, true, true);
+    }
+
+    public String[] getBeanNamesForType(@Nullable Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+        return this.beanTypeIndex.getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
+    }
+
+    public void preInstantiateSingletons() throws BeansException {
+        String[] beanNames = this.getBeanDefinitionNames();
+        List<String> candidateNames = new ArrayList(beanNames.length);
+        String[] var3 = beanNames;
+        int var4 = beanNames.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            String beanName = var3[var5];
+            RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(beanName);
+            if (bd != null && !bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+                candidateNames.add(beanName);
+            }
+        }
+
+        if (this.preInstantiationParallelism > 1 && candidateNames.size() > 1) {
+            SingletonPreInstantiationGraph graph = SingletonPreInstantiationGraph.build(candidateNames, this::getPreInstantiationDependencies);
+            this.preInstantiationReport = graph.execute(this.preInstantiationParallelism, this::preInstantiateSingleton);
+        } else {
+            Iterator var7 = candidateNames.iterator();
+
+            while(var7.hasNext()) {
+                String beanName = (String)var7.next();
+                this.preInstantiateSingleton(beanName);
+            }
+        }
+
+    }
+
+    protected void preInstantiateSingleton(String beanName) {
+        this.getBean(beanName);
+    }
+
+    protected Collection<String> getPreInstantiationDependencies(String beanName) {
+        Set<String> dependencies = new LinkedHashSet();
+        this.collectDependencies(beanName, dependencies, new HashSet());
+        return dependencies;
+    }
+
+    private void collectDependencies(String beanName, Set<String> dependencies, Set<String> visited) {
+        RootBeanDefinition bd = this.getMergedBeanDefinitionIfPresent(beanName);
+        if (bd != null && visited.add(beanName)) {
+            List<String> directDependencies = new ArrayList();
+            String[] dependsOn = bd.getDependsOn();
+            if (dependsOn != null) {
+                String[] var7 = dependsOn;
+                int var8 = dependsOn.length;
+
+                for(int var9 = 0; var9 < var8; ++var9) {
+                    String dependsOnBean = var7[var9];
+                    directDependencies.add(this.canonicalName(dependsOnBean));
+                }
+            }
+
+            ConstructorArgumentValues cargs = bd.getConstructorArgumentValues();
+            if (cargs != null && !cargs.isEmpty()) {
+                Iterator var11 = cargs.getIndexedArgumentValues().values().iterator();
+
+                while(var11.hasNext()) {
+                    ConstructorArgumentValues.ValueHolder valueHolder = (ConstructorArgumentValues.ValueHolder)var11.next();
+                    this.addBeanReference(valueHolder.getValue(), directDependencies);
+                }
+
+                var11 = cargs.getGenericArgumentValues().iterator();
+
+                while(var11.hasNext()) {
+                    ConstructorArgumentValues.ValueHolder valueHolder = (ConstructorArgumentValues.ValueHolder)var11.next();
+                    this.addBeanReference(valueHolder.getValue(), directDependencies);
+                }
+            }
+
+            Iterator var13 = directDependencies.iterator();
+
+            while(var13.hasNext()) {
+                String dependency = (String)var13.next();
+                RootBeanDefinition dependencyBd = this.getMergedBeanDefinitionIfPresent(dependency);
+                if (dependencyBd != null && dependencyBd.isSingleton() && !dependencyBd.isLazyInit()) {
+                    dependencies.add(dependency);
+                } else {
+                    this.collectDependencies(dependency, dependencies, visited);
+                }
+            }
+
+        }
+    }
+
+    @Nullable
+    private RootBeanDefinition getMergedBeanDefinitionIfPresent(String beanName) {
+        if (!this.containsBeanDefinition(beanName)) {
+            BeanFactory parent = this.getParentBeanFactory();
+            return parent instanceof DefaultListableBeanFactory && !this.containsLocalBean(beanName) ? ((DefaultListableBeanFactory)parent).getMergedBeanDefinitionIfPresent(beanName) : null;
+        } else {
+            try {
+                return this.getMergedLocalBeanDefinition(beanName);
+            } catch (NoSuchBeanDefinitionException var3) {
+                return null;
+            }
+        }
+    }
+
+    private void addBeanReference(@Nullable Object value, List<String> dependencies) {
+        if (value instanceof BeanReference) {
+            dependencies.add(this.canonicalName(((BeanReference)value).getBeanName()));
+        }
+
+    }
+
+    private String[] sortedBeanDefinitionNames() {
+        List<Map.Entry<String, Long>> entries = new ArrayList(this.beanDefinitionOrder.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        String[] names = new String[entries.size()];
+
+        for(int i = 0; i < names.length; ++i) {
+            names[i] = (String)((Map.Entry)entries.get(i)).getKey();
+        }
+
+        return names;
+    }
+
+    public String toString() {
+        return this.getClass().getName() + "@" + Integer.toHexString(this.hashCode()) + ": defining beans [" + String.join(",", this.getBeanDefinitionNames()) + "]";
+    }
+
+    private static final class BeanDefinitionNamesSnapshot {
+        private final long version;
+        private final String[] names;
+
+        BeanDefinitionNamesSnapshot(long version, String[] names) {
+            this.version = version;
+            this.names = names;
+        }
+    }
+
+    private static final class DependencyResolutionKey {
+        private final DependencyDescriptor descriptor;
+        @Nullable
+        private final String beanName;
+
+        DependencyResolutionKey(DependencyDescriptor descriptor, @Nullable String beanName) {
+            this.descriptor = descriptor;
+            this.beanName = beanName;
+        }
+
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (!(other instanceof DefaultListableBeanFactory.DependencyResolutionKey)) {
+                return false;
+            } else {
+                DefaultListableBeanFactory.DependencyResolutionKey otherKey = (DefaultListableBeanFactory.DependencyResolutionKey)other;
+                return this.descriptor.equals(otherKey.descriptor) && ObjectUtils.nullSafeEquals(this.beanName, otherKey.beanName);
+            }
+        }
+
+        public int hashCode() {
+            return this.descriptor.hashCode() * 29 + ObjectUtils.nullSafeHashCode(this.beanName);
+        }
+    }
+
+    private static final class DependencyResolutionPlan {
+        @Nullable
+        private final Class<?> elementType;
+        @Nullable
+        private final Object[] elementGeneration;
+        @Nullable
+        private final Class<?> dependencyType;
+        @Nullable
+        private final Object[] dependencyGeneration;
+        private final boolean multiple;
+        private final String[] beanNames;
+
+        DependencyResolutionPlan(@Nullable Class<?> elementType, @Nullable Object[] elementGeneration, @Nullable Class<?> dependencyType, @Nullable Object[] dependencyGeneration, boolean multiple, String[] beanNames) {
+            this.elementType = elementType;
+            this.elementGeneration = elementGeneration;
+            this.dependencyType = dependencyType;
+            this.dependencyGeneration = dependencyGeneration;
+            this.multiple = multiple;
+            this.beanNames = beanNames;
+        }
+
+        boolean isCacheable() {
+            return (this.elementType == null || this.elementGeneration != null) && (this.dependencyType == null || this.dependencyGeneration != null);
+        }
+
+        boolean isCurrent(DefaultListableBeanFactory beanFactory) {
+            return isCurrent(beanFactory, this.elementType, this.elementGeneration) && isCurrent(beanFactory, this.dependencyType, this.dependencyGeneration);
+        }
+
+        private static boolean isCurrent(DefaultListableBeanFactory beanFactory, @Nullable Class<?> type, @Nullable Object[] generations) {
+            if (type == null) {
+                return true;
+            } else if (generations == null) {
+                return false;
+            } else {
+                int i = 0;
+
+                BeanFactory current;
+                for(current = beanFactory; current instanceof DefaultListableBeanFactory; current = ((DefaultListableBeanFactory)current).getParentBeanFactory()) {
+                    if (i >= generations.length || ((DefaultListableBeanFactory)current).beanTypeIndex.getTypeGeneration(type) != generations[i]) {
+                        return false;
+                    }
+
+                    ++i;
+                }
+
+                return current == null && i == generations.length;
+            }
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.FatalBeanException;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.BeanCurrentlyInCreationException;
+import org.springframework.springbean.beans.factory.DisposableBean;
+import org.springframework.springbean.beans.factory.ObjectFactory;
+import org.springframework.springbean.beans.factory.config.SingletonDestructionReport;
+import org.springframework.springcore.core.SimpleAliasRegistry;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry {
+    private final Map<String, Object> singletonObjects = new ConcurrentHashMap(256);
+    private final Map<String, Object> earlySingletonObjects = new ConcurrentHashMap(16);
+    private final Map<String, ObjectFactory<?>> singletonFactories = new ConcurrentHashMap(16);
+    private final Set<String> registeredSingletons = Collections.newSetFromMap(new ConcurrentHashMap(256));
+    private final Map<String, ReentrantLock> singletonCreationLocks = new ConcurrentHashMap(256);
+    private final Map<String, Thread> singletonsCurrentlyInCreation = new ConcurrentHashMap(16);
+    private final Map<Thread, String> singletonsAwaitedByThread = new HashMap(16);
+    private final Set<String> inCreationCheckExclusions = Collections.newSetFromMap(new ConcurrentHashMap(16));
+    private final Map<String, Set<String>> dependentBeanMap = new ConcurrentHashMap(64);
+    private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap(64);
+    private final Map<String, DisposableBean> disposableBeans = new LinkedHashMap();
+    private volatile boolean singletonsCurrentlyInDestruction = false;
+    private int destructionParallelism = 1;
+    private long destructionTimeout = 30000L;
+    @Nullable
+    private volatile SingletonDestructionReport destructionReport;
+
+    public DefaultSingletonBeanRegistry() {
+    }
+
+    public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
+        Assert.notNull(beanName, "Bean name must not be null");
+        Assert.notNull(singletonObject, "Singleton object must not be null");
+        ReentrantLock lock;
+        do {
+            lock = this.getSingletonCreationLock(beanName);
+            lock.lock();
+        } while(!this.holdsCurrentSingletonCreationLock(beanName, lock));
+
+        try {
+            Object oldObject = this.singletonObjects.get(beanName);
+            if (oldObject != null) {
+                throw new IllegalStateException("Could not register object [" + singletonObject + "] under bean name '" + beanName + "': there is already object [" + oldObject + "] bound");
+            }
+
+            this.addSingleton(beanName, singletonObject);
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    protected void addSingleton(String beanName, Object singletonObject) {
+        this.singletonObjects.put(beanName, singletonObject);
+        this.singletonFactories.remove(beanName);
+        this.earlySingletonObjects.remove(beanName);
+        this.registeredSingletons.add(beanName);
+    }
+
+    protected void addSingletonFactory(String beanName, ObjectFactory<?> singletonFactory) {
+        Assert.notNull(singletonFactory, "Singleton factory must not be null");
+        if (!this.singletonObjects.containsKey(beanName)) {
+            this.singletonFactories.put(beanName, singletonFactory);
+            this.earlySingletonObjects.remove(beanName);
+            this.registeredSingletons.add(beanName);
+        }
+
+    }
+
+    @Nullable
+    public Object getSingleton(String beanName) {
+        return this.getSingleton(beanName, true);
+    }
+
+    @Nullable
+    protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+        Object singletonObject = this.singletonObjects.get(beanName);
+        if (singletonObject == null && this.singletonsCurrentlyInCreation.get(beanName) == Thread.currentThread()) {
+            singletonObject = this.getEarlySingleton(beanName, allowEarlyReference);
+        }
+
+        return singletonObject;
+    }
+
+    @Nullable
+    private Object getEarlySingleton(String beanName, boolean allowEarlyReference) {
+        Object singletonObject = this.earlySingletonObjects.get(beanName);
+        if (singletonObject == null && allowEarlyReference) {
+            ObjectFactory<?> singletonFactory = (ObjectFactory)this.singletonFactories.remove(beanName);
+            if (singletonFactory != null) {
+                singletonObject = singletonFactory.getObject();
+                Object existing = this.earlySingletonObjects.putIfAbsent(beanName, singletonObject);
+                if (existing != null) {
+                    singletonObject = existing;
+                }
+            } else {
+                singletonObject = this.earlySingletonObjects.get(beanName);
+            }
+        }
+
+        return singletonObject;
+    }
+
+    public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+        Assert.notNull(beanName, "Bean name must not be null");
+        Object singletonObject = this.singletonObjects.get(beanName);
+        if (singletonObject != null) {
+            return singletonObject;
+        } else {
+            ReentrantLock lock;
+            do {
+                lock = this.getSingletonCreationLock(beanName);
+                if (!lock.tryLock()) {
+                    Object earlyReference = this.awaitSingletonCreationLock(beanName, lock);
+                    if (earlyReference != null) {
+                        return earlyReference;
+                    }
+                }
+            } while(!this.holdsCurrentSingletonCreationLock(beanName, lock));
+
+            try {
+                singletonObject = this.singletonObjects.get(beanName);
+                if (singletonObject == null) {
+                    if (this.singletonsCurrentlyInDestruction) {
+                        throw new BeanCreationException(beanName, "Singleton bean creation not allowed while singletons of this factory are in destruction (Do not request a bean from a BeanFactory in a destroy method implementation!)");
+                    }
+
+                    this.beforeSingletonCreation(beanName);
+
+                    try {
+                        singletonObject = singletonFactory.getObject();
+                    } catch (IllegalStateException var11) {
+                        singletonObject = this.singletonObjects.get(beanName);
+                        if (singletonObject == null) {
+                            this.removeSingleton(beanName);
+                            throw var11;
+                        }
+                    } catch (RuntimeException | Error var12) {
+                        this.removeSingleton(beanName);
+                        throw var12;
+                    } finally {
+                        this.afterSingletonCreation(beanName);
+                    }
+
+                    this.addSingleton(beanName, singletonObject);
+                }
+            } finally {
+                lock.unlock();
+                if (!this.singletonObjects.containsKey(beanName)) {
+                    this.removeSingletonCreationLock(beanName);
+                }
+            }
+
+            return singletonObject;
+        }
+    }
+
+    @Nullable
+    private Object awaitSingletonCreationLock(String beanName, ReentrantLock lock) {
+        Thread currentThread = Thread.currentThread();
+        synchronized(this.singletonsAwaitedByThread) {
+            if (this.wouldDeadlock(beanName, currentThread)) {
+                Object earlyReference = this.getEarlySingleton(beanName, true);
+                if (earlyReference == null) {
+                    throw new BeanCurrentlyInCreationException(beanName, "Requested bean is currently in creation in another thread that waits for a bean held by the current thread: Is there an unresolvable circular reference?");
+                }
+
+                return earlyReference;
+            }
+
+            this.singletonsAwaitedByThread.put(currentThread, beanName);
+        }
+
+        try {
+            lock.lock();
+        } finally {
+            synchronized(this.singletonsAwaitedByThread) {
+                this.singletonsAwaitedByThread.remove(currentThread);
+            }
+        }
+
+        return null;
+    }
+
+    private boolean wouldDeadlock(String beanName, Thread currentThread) {
+        Set<Thread> visited = new HashSet();
+        String awaitedBean = beanName;
+
+        while(awaitedBean != null) {
+            Thread owner = (Thread)this.singletonsCurrentlyInCreation.get(awaitedBean);
+            if (owner == null) {
+                return false;
+            }
+
+            if (owner == currentThread) {
+                return true;
+            }
+
+            if (!visited.add(owner)) {
+                return false;
+            }
+
+            awaitedBean = (String)this.singletonsAwaitedByThread.get(owner);
+        }
+
+        return false;
+    }
+
+    private ReentrantLock getSingletonCreationLock(String beanName) {
+        return (ReentrantLock)this.singletonCreationLocks.computeIfAbsent(beanName, (key) -> {
+            return new ReentrantLock();
+        });
+    }
+
+    private boolean holdsCurrentSingletonCreationLock(String beanName, ReentrantLock lock) {
+        if (this.singletonCreationLocks.get(beanName) == lock) {
+            return true;
+        } else {
+            lock.unlock();
+            return false;
+        }
+    }
+
+    private void removeSingletonCreationLock(String beanName) {
+        ReentrantLock lock = (ReentrantLock)this.singletonCreationLocks.get(beanName);
+        if (lock != null && !lock.isHeldByCurrentThread() && lock.tryLock()) {
+            try {
+                this.singletonCreationLocks.remove(beanName, lock);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+    protected void removeSingleton(String beanName) {
+        this.singletonObjects.remove(beanName);
+        this.singletonFactories.remove(beanName);
+        this.earlySingletonObjects.remove(beanName);
+        this.registeredSingletons.remove(beanName);
+        this.removeSingletonCreationLock(beanName);
+    }
+
+    public boolean containsSingleton(String beanName) {
+        return this.singletonObjects.containsKey(beanName);
+    }
+
+    public String[] getSingletonNames() {
+        return StringUtils.toStringArray(this.registeredSingletons);
+    }
+
+    public int getSingletonCount() {
+        return this.registeredSingletons.size();
+    }
+
+    public void setCurrentlyInCreation(String beanName, boolean inCreation) {
+        Assert.notNull(beanName, "Bean name must not be null");
+        if (!inCreation) {
+            this.inCreationCheckExclusions.add(beanName);
+        } else {
+            this.inCreationCheckExclusions.remove(beanName);
+        }
+
+    }
+
+    public boolean isCurrentlyInCreation(String beanName) {
+        Assert.notNull(beanName, "Bean name must not be null");
+        return !this.inCreationCheckExclusions.contains(beanName) && this.isActuallyInCreation(beanName);
+    }
+
+    protected boolean isActuallyInCreation(String beanName) {
+        return this.isSingletonCurrentlyInCreation(beanName);
+    }
+
+    public boolean isSingletonCurrentlyInCreation(String beanName) {
+        return this.singletonsCurrentlyInCreation.containsKey(beanName);
+    }
+
+    protected void beforeSingletonCreation(String beanName) {
+        if (!this.inCreationCheckExclusions.contains(beanName) && this.singletonsCurrentlyInCreation.putIfAbsent(beanName, Thread.currentThread()) != null) {
+            throw new BeanCurrentlyInCreationException(beanName);
+        }
+    }
+
+    protected void afterSingletonCreation(String beanName) {
+        if (!this.inCreationCheckExclusions.contains(beanName) && this.singletonsCurrentlyInCreation.remove(beanName) == null) {
+            throw new IllegalStateException("Singleton '" + beanName + "' isn't currently in creation");
+        }
+    }
+
+    public void registerDependentBean(String beanName, String dependentBeanName) {
+        String canonicalName = this.canonicalName(beanName);
+        Set<String> dependentBeans = (Set)this.dependentBeanMap.computeIfAbsent(canonicalName, (key) -> {
+            return Collections.synchronizedSet(new LinkedHashSet(8));
+        });
+        if (dependentBeans.add(dependentBeanName)) {
+            ((Set)this.dependenciesForBeanMap.computeIfAbsent(dependentBeanName, (key) -> {
+                return Collections.synchronizedSet(new LinkedHashSet(8));
+            })).add(canonicalName);
+        }
+    }
+
+    protected boolean isDependent(String beanName, String dependentBeanName) {
+        return this.isDependent(beanName, dependentBeanName, (Set)null);
+    }
+
+    private boolean isDependent(String beanName, String dependentBeanName, @Nullable Set<String> alreadySeen) {
+        if (alreadySeen != null && alreadySeen.contains(beanName)) {
+            return false;
+        } else {
+            String canonicalName = this.canonicalName(beanName);
+            Set<String> dependentBeans = (Set)this.dependentBeanMap.get(canonicalName);
+            if (dependentBeans == null) {
+                return false;
+            } else if (dependentBeans.contains(dependentBeanName)) {
+                return true;
+            } else {
+                String[] transitiveDependents;
+                synchronized(dependentBeans) {
+                    transitiveDependents = StringUtils.toStringArray(dependentBeans);
+                }
+
+                String[] var7 = transitiveDependents;
+                int var8 = transitiveDependents.length;
+
+                for(int var9 = 0; var9 < var8; ++var9) {
+                    String transitiveDependency = var7[var9];
+                    if (alreadySeen == null) {
+                        alreadySeen = new HashSet();
+                    }
+
+                    alreadySeen.add(beanName);
+                    if (this.isDependent(transitiveDependency, dependentBeanName, alreadySeen)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        }
+    }
+
+    protected boolean hasDependentBean(String beanName) {
+        return this.dependentBeanMap.containsKey(beanName);
+    }
+
+    public String[] getDependentBeans(String beanName) {
+        Set<String> dependentBeans = (Set)this.dependentBeanMap.get(beanName);
+        if (dependentBeans == null) {
+            return new String[0];
+        } else {
+            synchronized(dependentBeans) {
+                return StringUtils.toStringArray(dependentBeans);
+            }
+        }
+    }
+
+    public String[] getDependenciesForBean(String beanName) {
+        Set<String> dependenciesForBean = (Set)this.dependenciesForBeanMap.get(beanName);
+        if (dependenciesForBean == null) {
+            return new String[0];
+        } else {
+            synchronized(dependenciesForBean) {
+                return StringUtils.toStringArray(dependenciesForBean);
+            }
+        }
+    }
+
+    public void setDestructionParallelism(int destructionParallelism) {
+        Assert.isTrue(destructionParallelism > 0, "Destruction parallelism must be positive");
+        this.destructionParallelism = destructionParallelism;
+    }
+
+    public int getDestructionParallelism() {
+        return this.destructionParallelism;
+    }
+
+    public void setDestructionTimeout(long destructionTimeout) {
+        Assert.isTrue(destructionTimeout > 0L, "Destruction timeout must be positive");
+        this.destructionTimeout = destructionTimeout;
+    }
+
+    public long getDestructionTimeout() {
+        return this.destructionTimeout;
+    }
+
+    @Nullable
+    public SingletonDestructionReport getDestructionReport() {
+        return this.destructionReport;
+    }
+
+    public void registerDisposableBean(String beanName, DisposableBean bean) {
+        synchronized(this.disposableBeans) {
+            this.disposableBeans.put(beanName, bean);
+        }
+    }
+
+    public void destroySingletons() {
+        this.singletonsCurrentlyInDestruction = true;
+
+        try {
+            List<String> disposableBeanNames;
+            synchronized(this.disposableBeans) {
+                disposableBeanNames = new ArrayList(this.disposableBeans.keySet());
+            }
+
+            Collections.reverse(disposableBeanNames);
+            List<String> beanNames = new ArrayList(disposableBeanNames);
+            Set<String> disposableBeanNameSet = new HashSet(disposableBeanNames);
+            Iterator var4 = this.registeredSingletons.iterator();
+
+            while(var4.hasNext()) {
+                String beanName = (String)var4.next();
+                if (!disposableBeanNameSet.contains(beanName)) {
+                    beanNames.add(beanName);
+                }
+            }
+
+            SingletonDestructionGraph graph = SingletonDestructionGraph.build(beanNames, (beanName) -> {
+                return Arrays.asList(this.getDependentBeans(beanName));
+            });
+            this.destructionReport = graph.execute(this.destructionParallelism, this.destructionTimeout, this::destroySingletonInGraph);
+            this.clearSingletonCache();
+            this.dependentBeanMap.clear();
+            this.dependenciesForBeanMap.clear();
+        } finally {
+            this.singletonsCurrentlyInDestruction = false;
+        }
+
+    }
+
+    private void destroySingletonInGraph(String beanName) throws Exception {
+        this.removeSingleton(beanName);
+        DisposableBean disposableBean;
+        synchronized(this.disposableBeans) {
+            disposableBean = (DisposableBean)this.disposableBeans.remove(beanName);
+        }
+
+        if (disposableBean != null) {
+            this.destroyBean(beanName, disposableBean);
+        }
+
+    }
+
+    protected void clearSingletonCache() {
+        this.singletonObjects.clear();
+        this.singletonFactories.clear();
+        this.earlySingletonObjects.clear();
+        this.registeredSingletons.clear();
+        synchronized(this.disposableBeans) {
+            this.disposableBeans.clear();
+        }
+
+        Iterator var1 = (new ArrayList(this.singletonCreationLocks.keySet())).iterator();
+
+        while(var1.hasNext()) {
+            String beanName = (String)var1.next();
+            this.removeSingletonCreationLock(beanName);
+        }
+    }
+
+    public void destroySingleton(String beanName) {
+        this.removeSingleton(beanName);
+        DisposableBean disposableBean;
+        synchronized(this.disposableBeans) {
+            disposableBean = (DisposableBean)this.disposableBeans.remove(beanName);
+        }
+
+        Set<String> dependentBeans = (Set)this.dependentBeanMap.remove(beanName);
+        if (dependentBeans != null) {
+            String[] dependentBeanNames;
+            synchronized(dependentBeans) {
+                dependentBeanNames = StringUtils.toStringArray(dependentBeans);
+            }
+
+            String[] var5 = dependentBeanNames;
+            int var6 = dependentBeanNames.length;
+
+            for(int var7 = 0; var7 < var6; ++var7) {
+                String dependentBeanName = var5[var7];
+                this.destroySingleton(dependentBeanName);
+            }
+        }
+
+        this.dependentBeanMap.values().forEach((dependents) -> {
+            dependents.remove(beanName);
+        });
+        this.dependenciesForBeanMap.remove(beanName);
+        if (disposableBean != null) {
+            try {
+                this.destroyBean(beanName, disposableBean);
+            } catch (Throwable var9) {
+                throw new FatalBeanException("Destruction of bean with name '" + beanName + "' threw an exception", var9);
+            }
+        }
+
+    }
+
+    protected void destroyBean(String beanName, DisposableBean bean) throws Exception {
+        bean.destroy();
+    }
+}
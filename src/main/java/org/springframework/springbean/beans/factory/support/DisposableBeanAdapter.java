@@ -0,0 +1,28 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.springframework.springbean.beans.factory.DisposableBean;
+
+final class DisposableBeanAdapter implements DisposableBean {
+    private final Object bean;
+
+    DisposableBeanAdapter(Object bean) {
+        this.bean = bean;
+    }
+
+    static boolean hasDestroyMethod(Object bean) {
+        return bean instanceof DisposableBean || bean instanceof AutoCloseable;
+    }
+
+    public void destroy() throws Exception {
+        if (this.bean instanceof DisposableBean) {
+            ((DisposableBean)this.bean).destroy();
+        } else if (this.bean instanceof AutoCloseable) {
+            ((AutoCloseable)this.bean).close();
+        }
+
+    }
+
+    public String toString() {
+        return "DisposableBeanAdapter for bean of type [" + this.bean.getClass().getName() + "]";
+    }
+}
@@ -0,0 +1,44 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springcore.utils.ObjectUtils;
+
+public class GenericBeanDefinition extends AbstractBeanDefinition {
+    @Nullable
+    private String parentName;
+
+    public GenericBeanDefinition() {
+    }
+
+    public GenericBeanDefinition(BeanDefinition original) {
+        super(original);
+    }
+
+    public void setParentName(@Nullable String parentName) {
+        this.parentName = parentName;
+    }
+
+    @Nullable
+    public String getParentName() {
+        return this.parentName;
+    }
+
+    public AbstractBeanDefinition cloneBeanDefinition() {
+        return new GenericBeanDefinition(this);
+    }
+
+    public boolean equals(Object other) {
+        return this == other || other instanceof GenericBeanDefinition && ObjectUtils.nullSafeEquals(this.parentName, ((GenericBeanDefinition)other).parentName) && super.equals(other);
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Generic bean");
+        if (this.parentName != null) {
+            sb.append(" with parent '").append(this.parentName).append("'");
+        }
+
+        sb.append(": ").append(super.toString());
+        return sb.toString();
+    }
+}
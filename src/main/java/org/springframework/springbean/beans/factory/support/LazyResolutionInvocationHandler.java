@@ -0,0 +1,75 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.config.DependencyDescriptor;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springcore.utils.ReflectionUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+final class LazyResolutionInvocationHandler implements InvocationHandler {
+    private final DefaultListableBeanFactory beanFactory;
+    private final DependencyDescriptor descriptor;
+    @Nullable
+    private final String beanName;
+    @Nullable
+    private volatile Object target;
+
+    LazyResolutionInvocationHandler(DefaultListableBeanFactory beanFactory, DependencyDescriptor descriptor, @Nullable String beanName) {
+        this.beanFactory = beanFactory;
+        this.descriptor = descriptor;
+        this.beanName = beanName;
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String methodName = method.getName();
+        if (methodName.equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        } else if (methodName.equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        } else {
+            Object target = this.getTarget();
+
+            try {
+                ReflectionUtils.makeAccessible(method);
+                return method.invoke(target, args);
+            } catch (InvocationTargetException var7) {
+                throw var7.getTargetException();
+            }
+        }
+    }
+
+    Object getTarget() {
+        Object target = this.target;
+        if (target == null) {
+            synchronized(this) {
+                target = this.target;
+                if (target == null) {
+                    Set<String> autowiredBeanNames = this.beanName != null ? new LinkedHashSet(2) : null;
+                    target = this.beanFactory.doResolveDependency(this.descriptor, this.beanName, autowiredBeanNames);
+                    if (target == null) {
+                        throw new NoSuchBeanDefinitionException(this.descriptor.getDependencyType(), "Optional dependency not present for lazy injection point");
+                    }
+
+                    if (autowiredBeanNames != null) {
+                        Iterator var3 = autowiredBeanNames.iterator();
+
+                        while(var3.hasNext()) {
+                            String autowiredBeanName = (String)var3.next();
+                            this.beanFactory.registerDependentBean(autowiredBeanName, this.beanName);
+                        }
+                    }
+
+                    this.target = target;
+                }
+            }
+        }
+
+        return target;
+    }
+}
@@ -0,0 +1,121 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeanInstantiationException;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public class MethodHandleInstantiationStrategy extends SimpleInstantiationStrategy {
+    private static final MethodHandleInstantiationStrategy.Instantiator REFLECTIVE = (target, args) -> {
+        throw new IllegalStateException("Reflective instantiation marker must not be invoked");
+    };
+    private final Map<Executable, MethodHandleInstantiationStrategy.Instantiator> instantiatorCache = new ConcurrentHashMap(64);
+
+    public MethodHandleInstantiationStrategy() {
+    }
+
+    public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner, Constructor<?> ctor, Object... args) throws BeansException {
+        if (bd.isSingleton()) {
+            return super.instantiate(bd, beanName, owner, ctor, args);
+        } else {
+            MethodHandleInstantiationStrategy.Instantiator instantiator = (MethodHandleInstantiationStrategy.Instantiator)this.instantiatorCache.computeIfAbsent(ctor, (key) -> {
+                return this.createInstantiator(ctor);
+            });
+            if (instantiator == REFLECTIVE) {
+                return super.instantiate(bd, beanName, owner, ctor, args);
+            } else {
+                try {
+                    return instantiator.instantiate((Object)null, args);
+                } catch (Error var8) {
+                    throw var8;
+                } catch (Throwable var9) {
+                    throw new BeanInstantiationException(ctor, "Constructor threw exception", var9);
+                }
+            }
+        }
+    }
+
+    public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner, @Nullable Object factoryBean, Method factoryMethod, Object... args) throws BeansException {
+        if (bd.isSingleton()) {
+            return super.instantiate(bd, beanName, owner, factoryBean, factoryMethod, args);
+        } else {
+            MethodHandleInstantiationStrategy.Instantiator instantiator = (MethodHandleInstantiationStrategy.Instantiator)this.instantiatorCache.computeIfAbsent(factoryMethod, (key) -> {
+                return this.createInstantiator(factoryMethod);
+            });
+            if (instantiator == REFLECTIVE) {
+                return super.instantiate(bd, beanName, owner, factoryBean, factoryMethod, args);
+            } else {
+                try {
+                    return instantiator.instantiate(factoryBean, args);
+                } catch (Error var9) {
+                    throw var9;
+                } catch (Throwable var10) {
+                    throw new BeanInstantiationException(factoryMethod, "Factory method '" + factoryMethod.getName() + "' threw exception", var10);
+                }
+            }
+        }
+    }
+
+    protected MethodHandleInstantiationStrategy.Instantiator createInstantiator(Constructor<?> ctor) {
+        try {
+            Class<?> declaringClass = ctor.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            if (ctor.getParameterCount() == 0 && Modifier.isPublic(ctor.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers()) && ClassUtils.isVisible(declaringClass, MethodHandleInstantiationStrategy.class.getClassLoader())) {
+                MethodHandle handle = lookup.unreflectConstructor(ctor);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class), MethodType.methodType(Object.class), handle, MethodType.methodType(declaringClass));
+                Supplier<?> supplier = (Supplier)site.getTarget().invoke();
+                return (target, args) -> {
+                    return supplier.get();
+                };
+            } else {
+                ReflectionUtils.makeAccessible(ctor);
+                MethodHandle handle = lookup.unreflectConstructor(ctor).asFixedArity();
+                MethodHandle spreader = handle.asType(handle.type().generic()).asSpreader(Object[].class, ctor.getParameterCount());
+                return (target, args) -> {
+                    return (Object)spreader.invokeExact(args);
+                };
+            }
+        } catch (Throwable var7) {
+            return REFLECTIVE;
+        }
+    }
+
+    protected MethodHandleInstantiationStrategy.Instantiator createInstantiator(Method factoryMethod) {
+        try {
+            ReflectionUtils.makeAccessible(factoryMethod);
+            MethodHandle handle = MethodHandles.lookup().unreflect(factoryMethod).asFixedArity();
+            MethodHandle spreader = handle.asType(handle.type().generic()).asSpreader(Object[].class, factoryMethod.getParameterCount());
+            if (Modifier.isStatic(factoryMethod.getModifiers())) {
+                return (target, args) -> {
+                    return (Object)spreader.invokeExact(args);
+                };
+            } else {
+                return (target, args) -> {
+                    return (Object)spreader.invokeExact(target, args);
+                };
+            }
+        } catch (Throwable var4) {
+            return REFLECTIVE;
+        }
+    }
+
+    @FunctionalInterface
+    protected interface Instantiator {
+        Object instantiate(@Nullable Object target, Object[] args) throws Throwable;
+    }
+}
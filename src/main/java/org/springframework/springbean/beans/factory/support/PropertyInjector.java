@@ -0,0 +1,232 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.springframework.springbean.beans.MutablePropertyValues;
+import org.springframework.springbean.beans.PropertyValue;
+import org.springframework.springbean.beans.config.DependencyDescriptor;
+import org.springframework.springbean.beans.factory.BeanCreationException;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springcore.core.MethodParameter;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ReflectionUtils;
+
+import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+final class PropertyInjector {
+    private static final int CONVERTED_VALUE = 0;
+    private static final int RESOLVED_VALUE = 1;
+    private static final int AUTOWIRE_BY_NAME = 2;
+    private static final int AUTOWIRE_BY_TYPE = 3;
+    private static final MethodType SETTER_TYPE = MethodType.methodType(Void.TYPE, Object.class, Object.class);
+    private final Class<?> beanClass;
+    private final MutablePropertyValues propertyValues;
+    private final int propertyValueCount;
+    private final int propertyValuesModificationCount;
+    private final boolean propertyValuesConverted;
+    private final int autowireMode;
+    private final String[] propertyNames;
+    private final Method[] writeMethods;
+    private final MethodHandle[] setters;
+    private final int[] kinds;
+    private final Object[] values;
+
+    private PropertyInjector(Class<?> beanClass, MutablePropertyValues propertyValues, int autowireMode, String[] propertyNames, Method[] writeMethods, MethodHandle[] setters, int[] kinds, Object[] values) {
+        this.beanClass = beanClass;
+        this.propertyValues = propertyValues;
+        this.propertyValueCount = propertyValues.size();
+        this.propertyValuesModificationCount = propertyValues.getModificationCount();
+        this.propertyValuesConverted = propertyValues.isConverted();
+        this.autowireMode = autowireMode;
+        this.propertyNames = propertyNames;
+        this.writeMethods = writeMethods;
+        this.setters = setters;
+        this.kinds = kinds;
+        this.values = values;
+    }
+
+    static PropertyInjector compile(AbstractAutowireCapableBeanFactory beanFactory, String beanName, RootBeanDefinition mbd, Class<?> beanClass, MutablePropertyValues pvs, int autowireMode) {
+        List<String> names = new ArrayList();
+        List<Method> writeMethods = new ArrayList();
+        List<Integer> kinds = new ArrayList();
+        List<Object> values = new ArrayList();
+        boolean allConverted = true;
+        Iterator var11 = pvs.getPropertyValueList().iterator();
+
+        while(var11.hasNext()) {
+            PropertyValue pv = (PropertyValue)var11.next();
+            Object value = pv.getValue();
+            boolean resolveNecessary = BeanDefinitionValueResolver.requiresResolution(value);
+            Method writeMethod = beanFactory.findWriteMethod(beanClass, pv.getName(), resolveNecessary ? null : value);
+            if (writeMethod == null) {
+                if (!pv.isOptional()) {
+                    throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Invalid property '" + pv.getName() + "' of bean class [" + beanClass.getName() + "]: Bean property '" + pv.getName() + "' is not writable or has an invalid setter method");
+                }
+            } else {
+                Class<?> propertyType = writeMethod.getParameterTypes()[0];
+                names.add(pv.getName());
+                writeMethods.add(writeMethod);
+                if (pv.isConverted() && ClassUtils.isAssignableValue(propertyType, pv.getConvertedValue())) {
+                    kinds.add(CONVERTED_VALUE);
+                    values.add(pv.getConvertedValue());
+                } else if (resolveNecessary) {
+                    allConverted = false;
+                    kinds.add(RESOLVED_VALUE);
+                    values.add(value);
+                } else {
+                    Object convertedValue;
+                    try {
+                        convertedValue = beanFactory.convertIfNecessary(value, propertyType);
+                    } catch (IllegalArgumentException var17) {
+                        throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Failed to convert property value for property '" + pv.getName() + "'", var17);
+                    }
+
+                    pv.setConvertedValue(convertedValue);
+                    kinds.add(CONVERTED_VALUE);
+                    values.add(convertedValue);
+                }
+            }
+        }
+
+        if (allConverted) {
+            pvs.setConverted();
+        }
+
+        if (autowireMode == AbstractBeanDefinition.AUTOWIRE_BY_NAME || autowireMode == AbstractBeanDefinition.AUTOWIRE_BY_TYPE) {
+            Iterator var19 = unsatisfiedNonSimpleProperties(beanClass, pvs).iterator();
+
+            while(var19.hasNext()) {
+                Method writeMethod = (Method)var19.next();
+                names.add(Introspector.decapitalize(writeMethod.getName().substring(3)));
+                writeMethods.add(writeMethod);
+                kinds.add(autowireMode == AbstractBeanDefinition.AUTOWIRE_BY_NAME ? AUTOWIRE_BY_NAME : AUTOWIRE_BY_TYPE);
+                values.add(autowireMode == AbstractBeanDefinition.AUTOWIRE_BY_TYPE ? new DependencyDescriptor(new MethodParameter(writeMethod, 0), false) : null);
+            }
+        }
+
+        int size = names.size();
+        MethodHandle[] setters = new MethodHandle[size];
+        int[] kindArray = new int[size];
+
+        for(int i = 0; i < size; ++i) {
+            setters[i] = createSetter((Method)writeMethods.get(i));
+            kindArray[i] = (Integer)kinds.get(i);
+        }
+
+        return new PropertyInjector(beanClass, pvs, autowireMode, (String[])names.toArray(new String[0]), (Method[])writeMethods.toArray(new Method[0]), setters, kindArray, values.toArray());
+    }
+
+    boolean isCompiledFor(Class<?> beanClass, MutablePropertyValues pvs, int autowireMode) {
+        return this.beanClass == beanClass && this.propertyValues == pvs && this.propertyValuesModificationCount == pvs.getModificationCount() && this.propertyValuesConverted == pvs.isConverted() && this.propertyValueCount == pvs.size() && this.autowireMode == autowireMode;
+    }
+
+    void inject(AbstractAutowireCapableBeanFactory beanFactory, String beanName, RootBeanDefinition mbd, Object bean, boolean dependencyCheck) {
+        BeanDefinitionValueResolver valueResolver = null;
+
+        for(int i = 0; i < this.setters.length; ++i) {
+            Object value;
+            switch(this.kinds[i]) {
+                case RESOLVED_VALUE:
+                    if (valueResolver == null) {
+                        valueResolver = new BeanDefinitionValueResolver(beanFactory, beanName, mbd);
+                    }
+
+                    try {
+                        value = beanFactory.convertIfNecessary(valueResolver.resolveValueIfNecessary(this.propertyNames[i], this.values[i]), this.writeMethods[i].getParameterTypes()[0]);
+                        break;
+                    } catch (IllegalArgumentException var10) {
+                        throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Failed to convert property value for property '" + this.propertyNames[i] + "'", var10);
+                    }
+                case AUTOWIRE_BY_NAME:
+                    if (!beanFactory.containsBean(this.propertyNames[i])) {
+                        this.checkDependency(mbd, beanName, i, dependencyCheck);
+                        continue;
+                    }
+
+                    value = beanFactory.getBean(this.propertyNames[i]);
+                    beanFactory.registerDependentBean(this.propertyNames[i], beanName);
+                    break;
+                case AUTOWIRE_BY_TYPE:
+                    Set<String> autowiredBeanNames = new LinkedHashSet(2);
+
+                    try {
+                        value = beanFactory.resolveDependency((DependencyDescriptor)this.values[i], beanName, autowiredBeanNames, (org.springframework.springbean.beans.TypeConverter)null);
+                    } catch (NoSuchBeanDefinitionException var11) {
+                        throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Unsatisfied dependency expressed through bean property '" + this.propertyNames[i] + "'", var11);
+                    }
+
+                    if (value == null) {
+                        this.checkDependency(mbd, beanName, i, dependencyCheck);
+                        continue;
+                    }
+
+                    Iterator var9 = autowiredBeanNames.iterator();
+
+                    while(var9.hasNext()) {
+                        String autowiredBeanName = (String)var9.next();
+                        beanFactory.registerDependentBean(autowiredBeanName, beanName);
+                    }
+                    break;
+                default:
+                    value = this.values[i];
+            }
+
+            try {
+                this.setters[i].invokeExact(bean, value);
+            } catch (RuntimeException | Error var12) {
+                throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Error setting property '" + this.propertyNames[i] + "'", var12);
+            } catch (Throwable var13) {
+                throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Error setting property '" + this.propertyNames[i] + "'", var13);
+            }
+        }
+
+    }
+
+    private void checkDependency(RootBeanDefinition mbd, String beanName, int index, boolean dependencyCheck) {
+        if (dependencyCheck) {
+            throw new BeanCreationException(mbd.getResourceDescription(), beanName, "Unsatisfied dependency expressed through bean property '" + this.propertyNames[index] + "': Set this property value or disable dependency checking for this bean.");
+        }
+    }
+
+    private static MethodHandle createSetter(Method writeMethod) {
+        try {
+            ReflectionUtils.makeAccessible(writeMethod);
+            return MethodHandles.lookup().unreflect(writeMethod).asFixedArity().asType(SETTER_TYPE);
+        } catch (IllegalAccessException var2) {
+            throw new IllegalStateException("Could not access setter method: " + writeMethod, var2);
+        }
+    }
+
+    private static Set<Method> unsatisfiedNonSimpleProperties(Class<?> beanClass, MutablePropertyValues pvs) {
+        Set<Method> result = new LinkedHashSet();
+        Method[] var3 = beanClass.getMethods();
+        int var4 = var3.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            Method method = var3[var5];
+            String methodName = method.getName();
+            if (methodName.length() > 3 && methodName.startsWith("set") && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()) && !pvs.contains(Introspector.decapitalize(methodName.substring(3))) && !isSimpleProperty(method.getParameterTypes()[0])) {
+                result.add(method);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isSimpleProperty(Class<?> type) {
+        Class<?> typeToCheck = type.isArray() ? type.getComponentType() : type;
+        return ClassUtils.isPrimitiveOrWrapper(typeToCheck) || Enum.class.isAssignableFrom(typeToCheck) || CharSequence.class.isAssignableFrom(typeToCheck) || Number.class.isAssignableFrom(typeToCheck) || Date.class.isAssignableFrom(typeToCheck) || URI.class == typeToCheck || URL.class == typeToCheck || Locale.class == typeToCheck || Class.class == typeToCheck;
+    }
+}
@@ -0,0 +1,70 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.MutablePropertyValues;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+
+import java.lang.reflect.Executable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RootBeanDefinition extends AbstractBeanDefinition {
+    volatile boolean stale;
+    final Object constructorArgumentLock = new Object();
+    @Nullable
+    Executable resolvedConstructorOrFactoryMethod;
+    @Nullable
+    Executable resolvedExplicitArgsConstructorOrFactoryMethod;
+    @Nullable
+    Object[] resolvedConstructorArguments;
+    @Nullable
+    Object[] preparedConstructorArguments;
+    final AtomicReferenceArray<PropertyInjector> propertyInjectors = new AtomicReferenceArray(3);
+
+    public RootBeanDefinition() {
+    }
+
+    public RootBeanDefinition(@Nullable Class<?> beanClass) {
+        this.setBeanClass(beanClass);
+    }
+
+    public RootBeanDefinition(String beanClassName) {
+        this.setBeanClassName(beanClassName);
+    }
+
+    public RootBeanDefinition(@Nullable Class<?> beanClass, @Nullable ConstructorArgumentValues cargs, @Nullable MutablePropertyValues pvs) {
+        super(cargs, pvs);
+        this.setBeanClass(beanClass);
+    }
+
+    public RootBeanDefinition(RootBeanDefinition original) {
+        super((BeanDefinition)original);
+    }
+
+    RootBeanDefinition(BeanDefinition original) {
+        super(original);
+    }
+
+    @Nullable
+    public String getParentName() {
+        return null;
+    }
+
+    public void setParentName(@Nullable String parentName) {
+        if (parentName != null) {
+            throw new IllegalArgumentException("Root bean cannot be changed into a child bean with parent reference");
+        }
+    }
+
+    public RootBeanDefinition cloneBeanDefinition() {
+        return new RootBeanDefinition(this);
+    }
+
+    public boolean equals(Object other) {
+        return this == other || other instanceof RootBeanDefinition && super.equals(other);
+    }
+
+    public String toString() {
+        return "Root bean: " + super.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeanInstantiationException;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springcore.utils.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class SimpleInstantiationStrategy implements InstantiationStrategy {
+    public SimpleInstantiationStrategy() {
+    }
+
+    public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner, Constructor<?> ctor, Object... args) throws BeansException {
+        try {
+            ReflectionUtils.makeAccessible(ctor);
+            return ctor.newInstance(args);
+        } catch (InstantiationException var7) {
+            throw new BeanInstantiationException(ctor, "Is it an abstract class?", var7);
+        } catch (IllegalAccessException var8) {
+            throw new BeanInstantiationException(ctor, "Is the constructor accessible?", var8);
+        } catch (IllegalArgumentException var9) {
+            throw new BeanInstantiationException(ctor, "Illegal arguments for constructor", var9);
+        } catch (InvocationTargetException var10) {
+            throw new BeanInstantiationException(ctor, "Constructor threw exception", var10.getTargetException());
+        }
+    }
+
+    public Object instantiate(RootBeanDefinition bd, @Nullable String beanName, BeanFactory owner, @Nullable Object factoryBean, Method factoryMethod, Object... args) throws BeansException {
+        try {
+            ReflectionUtils.makeAccessible(factoryMethod);
+            return factoryMethod.invoke(factoryBean, args);
+        } catch (IllegalArgumentException var8) {
+            throw new BeanInstantiationException(factoryMethod, "Illegal arguments to factory method '" + factoryMethod.getName() + "'; args: " + args.length, var8);
+        } catch (IllegalAccessException var9) {
+            throw new BeanInstantiationException(factoryMethod, "Cannot access factory method '" + factoryMethod.getName() + "'; is it public?", var9);
+        } catch (InvocationTargetException var10) {
+            throw new BeanInstantiationException(factoryMethod, "Factory method '" + factoryMethod.getName() + "' threw exception", var10.getTargetException());
+        }
+    }
+}
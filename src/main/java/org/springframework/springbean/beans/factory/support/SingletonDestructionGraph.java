@@ -0,0 +1,362 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.springframework.springbean.beans.factory.config.SingletonDestructionReport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+final class SingletonDestructionGraph {
+    static final int SLOWEST_DESTROYER_COUNT = 10;
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_DONE = 2;
+    private static final int STATE_TIMED_OUT = 3;
+    private final String[] beanNames;
+    private final int[][] predecessors;
+    private final int[][] successors;
+    private final int[] components;
+
+    private SingletonDestructionGraph(String[] beanNames, int[][] predecessors, int[][] successors, int[] components) {
+        this.beanNames = beanNames;
+        this.predecessors = predecessors;
+        this.successors = successors;
+        this.components = components;
+    }
+
+    static SingletonDestructionGraph build(List<String> beanNames, Function<String, Collection<String>> dependentResolver) {
+        int size = beanNames.size();
+        Map<String, Integer> indexByName = new HashMap(size * 2);
+
+        for(int i = 0; i < size; ++i) {
+            indexByName.put(beanNames.get(i), i);
+        }
+
+        int[][] predecessors = new int[size][];
+        List<List<Integer>> successorLists = new ArrayList(size);
+
+        for(int i = 0; i < size; ++i) {
+            successorLists.add(new ArrayList(2));
+        }
+
+        for(int i = 0; i < size; ++i) {
+            List<Integer> nodePredecessors = new ArrayList();
+
+            for (String dependentName : dependentResolver.apply(beanNames.get(i))) {
+                Integer dependent = (Integer)indexByName.get(dependentName);
+                if (dependent != null && dependent != i && !nodePredecessors.contains(dependent)) {
+                    nodePredecessors.add(dependent);
+                    ((List)successorLists.get(dependent)).add(i);
+                }
+            }
+
+            predecessors[i] = toIntArray(nodePredecessors);
+        }
+
+        int[][] successors = new int[size][];
+
+        for(int i = 0; i < size; ++i) {
+            successors[i] = toIntArray((List)successorLists.get(i));
+        }
+
+        return new SingletonDestructionGraph((String[])beanNames.toArray(new String[0]), predecessors, successors, findComponents(successors));
+    }
+
+    private static int[] findComponents(int[][] successors) {
+        int size = successors.length;
+        int[] components = new int[size];
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        int[] edgeIndex = new int[size];
+        int[] callStack = new int[size];
+        int[] stack = new int[size];
+        boolean[] onStack = new boolean[size];
+        int stackSize = 0;
+        int nextIndex = 0;
+        int componentCount = 0;
+        Arrays.fill(index, -1);
+
+        for(int root = 0; root < size; ++root) {
+            if (index[root] == -1) {
+                int depth = 0;
+                callStack[0] = root;
+                index[root] = lowLink[root] = nextIndex++;
+                stack[stackSize++] = root;
+                onStack[root] = true;
+
+                while(depth >= 0) {
+                    int node = callStack[depth];
+                    if (edgeIndex[node] < successors[node].length) {
+                        int next = successors[node][edgeIndex[node]++];
+                        if (index[next] == -1) {
+                            index[next] = lowLink[next] = nextIndex++;
+                            stack[stackSize++] = next;
+                            onStack[next] = true;
+                            ++depth;
+                            callStack[depth] = next;
+                        } else if (onStack[next]) {
+                            lowLink[node] = Math.min(lowLink[node], index[next]);
+                        }
+                    } else {
+                        if (lowLink[node] == index[node]) {
+                            int member;
+                            do {
+                                --stackSize;
+                                member = stack[stackSize];
+                                onStack[member] = false;
+                                components[member] = componentCount;
+                            } while(member != node);
+
+                            ++componentCount;
+                        }
+
+                        --depth;
+                        if (depth >= 0) {
+                            int parent = callStack[depth];
+                            lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                        }
+                    }
+                }
+            }
+        }
+
+        return components;
+    }
+
+    SingletonDestructionReport execute(int parallelism, long timeoutMillis, SingletonDestructionGraph.Destroyer destroyer) {
+        long startTime = System.nanoTime();
+        SingletonDestructionGraph.Execution execution = new SingletonDestructionGraph.Execution(parallelism, timeoutMillis, destroyer);
+        if (this.beanNames.length > 0) {
+            execution.run();
+        }
+
+        return this.createReport(parallelism, timeoutMillis, execution, System.nanoTime() - startTime);
+    }
+
+    private SingletonDestructionReport createReport(int parallelism, long timeoutMillis, SingletonDestructionGraph.Execution execution, long elapsedNanos) {
+        Integer[] nodes = new Integer[this.beanNames.length];
+
+        for(int i = 0; i < nodes.length; ++i) {
+            nodes[i] = i;
+        }
+
+        long[] durations = execution.durations;
+        Arrays.sort(nodes, (left, right) -> {
+            return Long.compare(durations[right], durations[left]);
+        });
+        Map<String, Long> slowestDestroyers = new LinkedHashMap();
+
+        for(int i = 0; i < nodes.length && slowestDestroyers.size() < SLOWEST_DESTROYER_COUNT && durations[nodes[i]] > 0L; ++i) {
+            slowestDestroyers.put(this.beanNames[nodes[i]], TimeUnit.NANOSECONDS.toMillis(durations[nodes[i]]));
+        }
+
+        Map<String, Throwable> failedDestroyers;
+        synchronized(execution.failures) {
+            failedDestroyers = new LinkedHashMap(execution.failures);
+        }
+
+        List<String> timedOutDestroyers;
+        synchronized(execution.timedOut) {
+            timedOutDestroyers = new ArrayList(execution.timedOut);
+        }
+
+        return new SingletonDestructionReport(this.beanNames.length, parallelism, timeoutMillis, slowestDestroyers, failedDestroyers, timedOutDestroyers, elapsedNanos);
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+
+        for(int i = 0; i < result.length; ++i) {
+            result[i] = (Integer)values.get(i);
+        }
+
+        return result;
+    }
+
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    interface Destroyer {
+        void destroy(String beanName) throws Exception;
+    }
+
+    private final class Execution {
+        private final long timeoutMillis;
+        private final SingletonDestructionGraph.Destroyer destroyer;
+        private final ThreadPoolExecutor executor;
+        private final ScheduledExecutorService watchdog;
+        private final AtomicIntegerArray pending;
+        private final AtomicIntegerArray states;
+        private final AtomicIntegerArray submitted;
+        private final AtomicInteger active;
+        private final CountDownLatch completion;
+        private final long[] durations;
+        private final Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap());
+        private final List<String> timedOut = Collections.synchronizedList(new ArrayList());
+
+        Execution(int parallelism, long timeoutMillis, SingletonDestructionGraph.Destroyer destroyer) {
+            this.timeoutMillis = timeoutMillis;
+            this.destroyer = destroyer;
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue(), SingletonDestructionGraph.createThreadFactory("singleton-destroy-"));
+            this.watchdog = Executors.newSingleThreadScheduledExecutor(SingletonDestructionGraph.createThreadFactory("singleton-destroy-watchdog-"));
+            this.pending = new AtomicIntegerArray(SingletonDestructionGraph.this.beanNames.length);
+            this.states = new AtomicIntegerArray(SingletonDestructionGraph.this.beanNames.length);
+            this.submitted = new AtomicIntegerArray(SingletonDestructionGraph.this.beanNames.length);
+            this.active = new AtomicInteger(1);
+            this.completion = new CountDownLatch(SingletonDestructionGraph.this.beanNames.length);
+            this.durations = new long[SingletonDestructionGraph.this.beanNames.length];
+
+            for(int i = 0; i < SingletonDestructionGraph.this.beanNames.length; ++i) {
+                this.pending.set(i, SingletonDestructionGraph.this.predecessors[i].length);
+            }
+
+        }
+
+        void run() {
+            try {
+                for(int node = 0; node < SingletonDestructionGraph.this.beanNames.length; ++node) {
+                    if (SingletonDestructionGraph.this.predecessors[node].length == 0) {
+                        this.submit(node);
+                    }
+                }
+
+                this.deactivate();
+                this.completion.await();
+            } catch (InterruptedException var8) {
+                Thread.currentThread().interrupt();
+
+                for(int i = 0; i < SingletonDestructionGraph.this.beanNames.length; ++i) {
+                    if (this.states.compareAndSet(i, STATE_PENDING, STATE_TIMED_OUT) || this.states.compareAndSet(i, STATE_RUNNING, STATE_TIMED_OUT)) {
+                        this.timedOut.add(SingletonDestructionGraph.this.beanNames[i]);
+                    }
+                }
+            } finally {
+                this.executor.shutdown();
+                this.watchdog.shutdownNow();
+            }
+
+        }
+
+        private void submit(int node) {
+            if (this.submitted.compareAndSet(node, 0, 1)) {
+                this.active.incrementAndGet();
+                this.executor.execute(() -> {
+                    this.destroy(node);
+                });
+            }
+        }
+
+        private void destroy(int node) {
+            if (this.states.compareAndSet(node, STATE_PENDING, STATE_RUNNING)) {
+                long nodeStart = System.nanoTime();
+                ScheduledFuture<?> timeout = this.watchdog.schedule(() -> {
+                    this.timeOut(node, nodeStart);
+                }, this.timeoutMillis, TimeUnit.MILLISECONDS);
+                Throwable failure = null;
+
+                try {
+                    this.destroyer.destroy(SingletonDestructionGraph.this.beanNames[node]);
+                } catch (Throwable var10) {
+                    failure = var10;
+                }
+
+                long duration = System.nanoTime() - nodeStart;
+                timeout.cancel(false);
+                if (failure != null) {
+                    this.failures.put(SingletonDestructionGraph.this.beanNames[node], failure);
+                }
+
+                if (this.states.compareAndSet(node, STATE_RUNNING, STATE_DONE)) {
+                    this.durations[node] = duration;
+                    this.release(node);
+                }
+
+            }
+        }
+
+        private void timeOut(int node, long nodeStart) {
+            if (this.states.compareAndSet(node, STATE_RUNNING, STATE_TIMED_OUT)) {
+                this.durations[node] = System.nanoTime() - nodeStart;
+                this.timedOut.add(SingletonDestructionGraph.this.beanNames[node]);
+                synchronized(this.executor) {
+                    this.executor.setMaximumPoolSize(this.executor.getMaximumPoolSize() + 1);
+                    this.executor.setCorePoolSize(this.executor.getCorePoolSize() + 1);
+                }
+
+                this.release(node);
+            }
+        }
+
+        private void release(int node) {
+            int[] var2 = SingletonDestructionGraph.this.successors[node];
+            int var3 = var2.length;
+
+            for(int var4 = 0; var4 < var3; ++var4) {
+                int successor = var2[var4];
+                if (this.pending.decrementAndGet(successor) == 0) {
+                    this.submit(successor);
+                }
+            }
+
+            this.completion.countDown();
+            this.deactivate();
+        }
+
+        private void deactivate() {
+            if (this.active.decrementAndGet() == 0 && this.completion.getCount() > 0L) {
+                int node = this.findCycleEntry();
+                if (node != -1) {
+                    this.submit(node);
+                }
+            }
+
+        }
+
+        private int findCycleEntry() {
+            int[] components = SingletonDestructionGraph.this.components;
+
+            for(int node = 0; node < components.length; ++node) {
+                if (this.submitted.get(node) == 0) {
+                    boolean entry = true;
+                    int[] var4 = SingletonDestructionGraph.this.predecessors[node];
+                    int var5 = var4.length;
+
+                    for(int var6 = 0; var6 < var5 && entry; ++var6) {
+                        int predecessor = var4[var6];
+                        int state = this.states.get(predecessor);
+                        entry = state == STATE_DONE || state == STATE_TIMED_OUT || components[predecessor] == components[node];
+                    }
+
+                    if (entry) {
+                        return node;
+                    }
+                }
+            }
+
+            return -1;
+        }
+    }
+}
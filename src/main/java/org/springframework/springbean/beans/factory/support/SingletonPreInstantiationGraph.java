@@ -0,0 +1,243 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.springframework.springbean.beans.factory.config.SingletonPreInstantiationReport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class SingletonPreInstantiationGraph {
+    private final String[] beanNames;
+    private final int[][] dependencies;
+    private final int[][] dependents;
+    private final int[] topologicalOrder;
+    private final int[] cyclicNodes;
+
+    private SingletonPreInstantiationGraph(String[] beanNames, int[][] dependencies, int[][] dependents, int[] topologicalOrder, int[] cyclicNodes) {
+        this.beanNames = beanNames;
+        this.dependencies = dependencies;
+        this.dependents = dependents;
+        this.topologicalOrder = topologicalOrder;
+        this.cyclicNodes = cyclicNodes;
+    }
+
+    static SingletonPreInstantiationGraph build(List<String> beanNames, Function<String, Collection<String>> dependencyResolver) {
+        int size = beanNames.size();
+        Map<String, Integer> indexByName = new HashMap(size * 2);
+
+        for(int i = 0; i < size; ++i) {
+            indexByName.put(beanNames.get(i), i);
+        }
+
+        int[][] dependencies = new int[size][];
+        List<List<Integer>> dependentLists = new ArrayList(size);
+
+        for(int i = 0; i < size; ++i) {
+            dependentLists.add(new ArrayList(2));
+        }
+
+        for(int i = 0; i < size; ++i) {
+            List<Integer> nodeDependencies = new ArrayList();
+
+            for (String dependencyName : dependencyResolver.apply(beanNames.get(i))) {
+                Integer dependency = (Integer)indexByName.get(dependencyName);
+                if (dependency != null && dependency != i && !nodeDependencies.contains(dependency)) {
+                    nodeDependencies.add(dependency);
+                    ((List)dependentLists.get(dependency)).add(i);
+                }
+            }
+
+            dependencies[i] = toIntArray(nodeDependencies);
+        }
+
+        int[][] dependents = new int[size][];
+
+        for(int i = 0; i < size; ++i) {
+            dependents[i] = toIntArray((List)dependentLists.get(i));
+        }
+
+        int[] remaining = new int[size];
+        LinkedList<Integer> ready = new LinkedList();
+
+        for(int i = 0; i < size; ++i) {
+            remaining[i] = dependencies[i].length;
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        List<Integer> order = new ArrayList(size);
+
+        while(!ready.isEmpty()) {
+            int node = (Integer)ready.removeFirst();
+            order.add(node);
+            int[] var11 = dependents[node];
+            int var12 = var11.length;
+
+            for(int var13 = 0; var13 < var12; ++var13) {
+                int dependent = var11[var13];
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        List<Integer> cyclic = new ArrayList();
+
+        for(int i = 0; i < size; ++i) {
+            if (remaining[i] > 0) {
+                cyclic.add(i);
+            }
+        }
+
+        return new SingletonPreInstantiationGraph((String[])beanNames.toArray(new String[0]), dependencies, dependents, toIntArray(order), toIntArray(cyclic));
+    }
+
+    SingletonPreInstantiationReport execute(int parallelism, Consumer<String> instantiator) {
+        long startTime = System.nanoTime();
+        long[] durations = new long[this.beanNames.length];
+        if (this.topologicalOrder.length > 0) {
+            this.executeAcyclic(parallelism, instantiator, durations);
+        }
+
+        int[] var6 = this.cyclicNodes;
+        int var7 = var6.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            int node = var6[var8];
+            long nodeStart = System.nanoTime();
+            instantiator.accept(this.beanNames[node]);
+            durations[node] = System.nanoTime() - nodeStart;
+        }
+
+        return this.createReport(parallelism, durations, System.nanoTime() - startTime);
+    }
+
+    private void executeAcyclic(int parallelism, Consumer<String> instantiator, long[] durations) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        AtomicIntegerArray pending = new AtomicIntegerArray(this.beanNames.length);
+        CountDownLatch completion = new CountDownLatch(this.topologicalOrder.length);
+        AtomicReference<Throwable> failure = new AtomicReference();
+
+        for(int i = 0; i < this.beanNames.length; ++i) {
+            pending.set(i, this.dependencies[i].length);
+        }
+
+        try {
+            int[] var8 = this.topologicalOrder;
+            int var9 = var8.length;
+
+            for(int var10 = 0; var10 < var9; ++var10) {
+                int node = var8[var10];
+                if (this.dependencies[node].length == 0) {
+                    pool.execute(() -> {
+                        this.instantiate(node, pool, pending, completion, failure, instantiator, durations);
+                    });
+                }
+            }
+
+            completion.await();
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException var12) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during parallel singleton pre-instantiation", var12);
+        }
+
+        Throwable ex = (Throwable)failure.get();
+        if (ex instanceof RuntimeException) {
+            throw (RuntimeException)ex;
+        } else if (ex instanceof Error) {
+            throw (Error)ex;
+        } else if (ex != null) {
+            throw new IllegalStateException("Singleton pre-instantiation failed", ex);
+        }
+    }
+
+    private void instantiate(int node, ForkJoinPool pool, AtomicIntegerArray pending, CountDownLatch completion, AtomicReference<Throwable> failure, Consumer<String> instantiator, long[] durations) {
+        if (failure.get() == null) {
+            try {
+                long nodeStart = System.nanoTime();
+                instantiator.accept(this.beanNames[node]);
+                durations[node] = System.nanoTime() - nodeStart;
+                int[] var10 = this.dependents[node];
+                int var11 = var10.length;
+
+                for(int var12 = 0; var12 < var11; ++var12) {
+                    int dependent = var10[var12];
+                    if (pending.decrementAndGet(dependent) == 0) {
+                        pool.execute(() -> {
+                            this.instantiate(dependent, pool, pending, completion, failure, instantiator, durations);
+                        });
+                    }
+                }
+            } catch (Throwable var14) {
+                if (failure.compareAndSet(null, var14)) {
+                    while(completion.getCount() > 0L) {
+                        completion.countDown();
+                    }
+                }
+            }
+        }
+
+        completion.countDown();
+    }
+
+    private SingletonPreInstantiationReport createReport(int parallelism, long[] durations, long elapsedNanos) {
+        long[] finishTimes = new long[this.beanNames.length];
+        int[] criticalPredecessors = new int[this.beanNames.length];
+        int criticalEnd = -1;
+        int[] var8 = this.topologicalOrder;
+        int var9 = var8.length;
+
+        for(int var10 = 0; var10 < var9; ++var10) {
+            int node = var8[var10];
+            criticalPredecessors[node] = -1;
+            long start = 0L;
+            int[] var14 = this.dependencies[node];
+            int var15 = var14.length;
+
+            for(int var16 = 0; var16 < var15; ++var16) {
+                int dependency = var14[var16];
+                if (finishTimes[dependency] > start || criticalPredecessors[node] == -1) {
+                    start = Math.max(start, finishTimes[dependency]);
+                    criticalPredecessors[node] = dependency;
+                }
+            }
+
+            finishTimes[node] = start + durations[node];
+            if (criticalEnd == -1 || finishTimes[node] > finishTimes[criticalEnd]) {
+                criticalEnd = node;
+            }
+        }
+
+        LinkedList<String> criticalPath = new LinkedList();
+
+        for(int node = criticalEnd; node != -1; node = criticalPredecessors[node]) {
+            criticalPath.addFirst(this.beanNames[node]);
+        }
+
+        return new SingletonPreInstantiationReport(this.beanNames.length, parallelism, criticalPath, criticalEnd != -1 ? finishTimes[criticalEnd] : 0L, elapsedNanos);
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] result = new int[values.size()];
+
+        for(int i = 0; i < result.length; ++i) {
+            result[i] = (Integer)values.get(i);
+        }
+
+        return result;
+    }
+}
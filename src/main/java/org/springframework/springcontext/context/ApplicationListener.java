@@ -0,0 +1,8 @@
+package org.springframework.springcontext.context;
+
+import java.util.EventListener;
+
+@FunctionalInterface
+public interface ApplicationListener<E extends ApplicationEvent> extends EventListener {
+  void onApplicationEvent(E var1);
+}
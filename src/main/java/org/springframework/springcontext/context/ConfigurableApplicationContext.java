@@ -1,6 +1,11 @@
 package org.springframework.springcontext.context;
 
 import com.sun.istack.internal.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springbean.beans.factory.config.SingletonDestructionReport;
+import org.springframework.springbean.beans.factory.config.SingletonPreInstantiationReport;
+import org.springframework.springcore.core.metrics.StartupTimeline;
 
 import java.io.Closeable;
 
@@ -11,6 +16,7 @@ public interface ConfigurableApplicationContext extends ApplicationContext, Life
   String ENVIRONMENT_BEAN_NAME = "environment";
   String SYSTEM_PROPERTIES_BEAN_NAME = "systemProperties";
   String SYSTEM_ENVIRONMENT_BEAN_NAME = "systemEnvironment";
+  String SHUTDOWN_HOOK_THREAD_NAME = "SpringContextShutdownHook";
 
   void setId(String var1);
 
@@ -26,6 +32,23 @@ public interface ConfigurableApplicationContext extends ApplicationContext, Life
 
   void addProtocolResolver(ProtocolResolver var1);
 
+  void setPreInstantiationParallelism(int var1);
+
+  @Nullable
+  SingletonPreInstantiationReport getPreInstantiationReport();
+
+  void setDestructionParallelism(int var1);
+
+  void setDestructionTimeout(long var1);
+
+  @Nullable
+  SingletonDestructionReport getDestructionReport();
+
+  void setStartupTimeline(@Nullable StartupTimeline var1);
+
+  @Nullable
+  StartupTimeline getStartupTimeline();
+
   void refresh() throws BeansException, IllegalStateException;
 
   void registerShutdownHook();
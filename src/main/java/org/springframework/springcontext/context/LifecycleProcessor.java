@@ -0,0 +1,7 @@
+package org.springframework.springcontext.context;
+
+public interface LifecycleProcessor extends Lifecycle {
+  void onRefresh();
+
+  void onClose();
+}
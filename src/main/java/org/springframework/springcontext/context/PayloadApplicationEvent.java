@@ -0,0 +1,24 @@
+package org.springframework.springcontext.context;
+
+import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.ResolvableTypeProvider;
+import org.springframework.springcore.utils.Assert;
+
+public class PayloadApplicationEvent<T> extends ApplicationEvent implements ResolvableTypeProvider {
+  private final T payload;
+
+  public PayloadApplicationEvent(Object source, T payload) {
+    super(source);
+    Assert.notNull(payload, "Payload must not be null");
+    this.payload = payload;
+  }
+
+  @Override
+  public ResolvableType getResolvableType() {
+    return ResolvableType.forClassWithGenerics(this.getClass(), ResolvableType.forInstance(this.getPayload()));
+  }
+
+  public T getPayload() {
+    return this.payload;
+  }
+}
@@ -0,0 +1,5 @@
+package org.springframework.springcontext.context;
+
+public interface Phased {
+  int getPhase();
+}
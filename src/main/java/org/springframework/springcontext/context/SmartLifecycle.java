@@ -0,0 +1,19 @@
+package org.springframework.springcontext.context;
+
+public interface SmartLifecycle extends Lifecycle, Phased {
+  int DEFAULT_PHASE = Integer.MAX_VALUE;
+
+  default boolean isAutoStartup() {
+    return true;
+  }
+
+  default void stop(Runnable callback) {
+    this.stop();
+    callback.run();
+  }
+
+  @Override
+  default int getPhase() {
+    return DEFAULT_PHASE;
+  }
+}
@@ -0,0 +1,160 @@
+package org.springframework.springcontext.context.annotion;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.springbean.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.springbean.beans.factory.support.GenericBeanDefinition;
+import org.springframework.springcore.core.annotation.AnnotationAttributes;
+import org.springframework.springcore.core.annotation.AnnotationUtils;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+
+import java.beans.Introspector;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+public class AnnotatedBeanDefinitionReader {
+    private static final Set<String> COMPONENT_ANNOTATION_NAMES = new HashSet(Arrays.asList("Component", "Service", "Repository", "Controller", "Configuration", "Named"));
+    private final BeanDefinitionRegistry registry;
+
+    public AnnotatedBeanDefinitionReader(BeanDefinitionRegistry registry) {
+        Assert.notNull(registry, "BeanDefinitionRegistry must not be null");
+        this.registry = registry;
+    }
+
+    public final BeanDefinitionRegistry getRegistry() {
+        return this.registry;
+    }
+
+    public void register(Class<?>... componentClasses) {
+        Class[] var2 = componentClasses;
+        int var3 = componentClasses.length;
+
+        for(int var4 = 0; var4 < var3; ++var4) {
+            Class<?> componentClass = var2[var4];
+            this.registerBean(componentClass);
+        }
+
+    }
+
+    public String registerBean(Class<?> beanClass) {
+        String beanName = generateBeanName(beanClass);
+        this.registry.registerBeanDefinition(beanName, createBeanDefinition(beanClass));
+        return beanName;
+    }
+
+    static AbstractBeanDefinition createBeanDefinition(Class<?> beanClass) {
+        GenericBeanDefinition bd = new GenericBeanDefinition();
+        bd.setBeanClass(beanClass);
+        bd.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+        bd.setResourceDescription(beanClass.getName());
+        Annotation[] var2 = beanClass.getAnnotations();
+        int var3 = var2.length;
+
+        for(int var4 = 0; var4 < var3; ++var4) {
+            Annotation ann = var2[var4];
+            processCommonDefinitionAnnotation(bd, ann.annotationType().getSimpleName(), AnnotationUtils.getValue(ann));
+        }
+
+        return bd;
+    }
+
+    static void processCommonDefinitionAnnotations(AbstractBeanDefinition bd, AnnotationMetadata metadata) {
+        Iterator var2 = metadata.getAnnotationTypes().iterator();
+
+        while(var2.hasNext()) {
+            String annotationType = (String)var2.next();
+            AnnotationAttributes attributes = metadata.getAnnotationAttributes(annotationType);
+            processCommonDefinitionAnnotation(bd, getSimpleName(annotationType), attributes != null ? attributes.get("value") : null);
+        }
+
+    }
+
+    private static void processCommonDefinitionAnnotation(AbstractBeanDefinition bd, String annotationName, @Nullable Object value) {
+        if ("Scope".equals(annotationName) && value instanceof String && !((String)value).isEmpty()) {
+            bd.setScope((String)value);
+        } else if ("Lazy".equals(annotationName)) {
+            bd.setLazyInit(!Boolean.FALSE.equals(value));
+        } else if ("Primary".equals(annotationName)) {
+            bd.setPrimary(true);
+        } else if ("DependsOn".equals(annotationName) && value instanceof String[]) {
+            bd.setDependsOn((String[])value);
+        } else if ("Description".equals(annotationName) && value instanceof String) {
+            bd.setDescription((String)value);
+        }
+
+    }
+
+    static String generateBeanName(Class<?> beanClass) {
+        String beanName = determineComponentName(beanClass.getAnnotations());
+        return beanName != null ? beanName : ClassUtils.getShortNameAsProperty(beanClass);
+    }
+
+    static String generateBeanName(AnnotationMetadata metadata) {
+        Iterator var1 = metadata.getAnnotationTypes().iterator();
+
+        while(var1.hasNext()) {
+            String annotationType = (String)var1.next();
+            if (isComponentAnnotation(annotationType)) {
+                AnnotationAttributes attributes = metadata.getAnnotationAttributes(annotationType);
+                Object value = attributes != null ? attributes.get("value") : null;
+                if (value instanceof String && !((String)value).isEmpty()) {
+                    return (String)value;
+                }
+            }
+        }
+
+        return Introspector.decapitalize(getSimpleName(metadata.getClassName()));
+    }
+
+    public static boolean isComponentAnnotation(String annotationName) {
+        return COMPONENT_ANNOTATION_NAMES.contains(getSimpleName(annotationName));
+    }
+
+    public static boolean isComponent(AnnotationMetadata metadata) {
+        Iterator var1 = metadata.getAnnotationTypes().iterator();
+
+        while(var1.hasNext()) {
+            String annotationType = (String)var1.next();
+            if (isComponentAnnotation(annotationType)) {
+                return true;
+            }
+
+            Iterator var3 = metadata.getMetaAnnotationTypes(annotationType).iterator();
+
+            while(var3.hasNext()) {
+                if (isComponentAnnotation((String)var3.next())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String getSimpleName(String typeName) {
+        return typeName.substring(Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$')) + 1);
+    }
+
+    @Nullable
+    static String determineComponentName(Annotation[] annotations) {
+        Annotation[] var1 = annotations;
+        int var2 = annotations.length;
+
+        for(int var3 = 0; var3 < var2; ++var3) {
+            Annotation ann = var1[var3];
+            if (isComponentAnnotation(ann.annotationType().getName())) {
+                Object value = AnnotationUtils.getValue(ann);
+                if (value instanceof String && !((String)value).isEmpty()) {
+                    return (String)value;
+                }
+            }
+        }
+
+        return null;
+    }
+}
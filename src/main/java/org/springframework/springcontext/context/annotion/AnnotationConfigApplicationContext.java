@@ -1,16 +1,257 @@
 package org.springframework.springcontext.context.annotion;
 
 
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springbean.beans.factory.support.BeanDefinitionSnapshot;
+import org.springframework.springbean.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.springcontext.context.index.CandidateComponentsIndexLoader;
 import org.springframework.springcontext.context.support.GenericApplicationContext;
+import org.springframework.springcore.core.metrics.StartupTimeline;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.io.ResourcePatternResolver;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
 
 public class AnnotationConfigApplicationContext extends GenericApplicationContext implements AnnotationConfigRegistry {
+    private final AnnotatedBeanDefinitionReader reader;
+    private final ClassPathBeanDefinitionScanner scanner;
+    private final List<Class<?>> componentClasses = new ArrayList();
+    private final List<String> basePackages = new ArrayList();
+    @Nullable
+    private Path snapshotLocation;
+    private boolean snapshotRestored;
+    @Nullable
+    private String snapshotFingerprint;
+
+    public AnnotationConfigApplicationContext() {
+        this.reader = new AnnotatedBeanDefinitionReader(this);
+        this.scanner = new ClassPathBeanDefinitionScanner(this);
+    }
+
+    public AnnotationConfigApplicationContext(DefaultListableBeanFactory beanFactory) {
+        super(beanFactory);
+        this.reader = new AnnotatedBeanDefinitionReader(this);
+        this.scanner = new ClassPathBeanDefinitionScanner(this);
+    }
+
+    public void setSnapshotLocation(@Nullable Path snapshotLocation) {
+        this.snapshotLocation = snapshotLocation;
+    }
+
+    @Nullable
+    public Path getSnapshotLocation() {
+        return this.snapshotLocation;
+    }
+
+    public void setScanParallelism(int scanParallelism) {
+        this.scanner.setParallelism(scanParallelism);
+    }
+
+    public int getScanParallelism() {
+        return this.scanner.getParallelism();
+    }
+
+    public boolean isSnapshotRestored() {
+        return this.snapshotRestored;
+    }
+
+    @Override
+    public void register(Class<?>... componentClasses) {
+        Assert.notEmpty(componentClasses, "At least one component class must be specified");
+        Collections.addAll(this.componentClasses, componentClasses);
+        if (this.snapshotLocation == null) {
+            this.doRegister(componentClasses);
+        }
+
+    }
+
+    @Override
+    public void scan(String... basePackages) {
+        Assert.notEmpty(basePackages, "At least one base package must be specified");
+        Collections.addAll(this.basePackages, basePackages);
+        if (this.snapshotLocation == null) {
+            this.doScan(basePackages);
+        }
+
+    }
+
+    private void doRegister(Class<?>[] componentClasses) {
+        StartupTimeline timeline = this.getStartupTimeline();
+        long startNanos = timeline != null ? timeline.start() : 0L;
+        this.reader.register(componentClasses);
+        if (timeline != null) {
+            timeline.record("context.register", componentClasses.length + " classes", startNanos);
+        }
+
+    }
+
+    private void doScan(String[] basePackages) {
+        StartupTimeline timeline = this.getStartupTimeline();
+        long startNanos = timeline != null ? timeline.start() : 0L;
+        this.scanner.scan(basePackages);
+        if (timeline != null) {
+            timeline.record("context.scan", StringUtils.arrayToCommaDelimitedString(basePackages), startNanos);
+        }
+
+    }
+
     @Override
-    public void register(Class<?>... var1) {
+    protected void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        super.postProcessBeanFactory(beanFactory);
+        if (this.snapshotLocation != null) {
+            StartupTimeline timeline = this.getStartupTimeline();
+            long startNanos = timeline != null ? timeline.start() : 0L;
+            this.snapshotFingerprint = this.getSnapshotFingerprint();
+            BeanDefinitionSnapshot snapshot = this.readSnapshot(this.snapshotLocation);
+            if (snapshot != null) {
+                snapshot.applyTo(this.getDefaultListableBeanFactory());
+                this.snapshotRestored = true;
+                if (timeline != null) {
+                    timeline.record("context.restoreSnapshot", this.snapshotLocation.toString(), startNanos);
+                }
+            } else {
+                if (timeline != null) {
+                    timeline.record("context.readSnapshot", this.snapshotLocation.toString(), startNanos);
+                }
+
+                if (!this.componentClasses.isEmpty()) {
+                    this.doRegister((Class[])this.componentClasses.toArray(new Class[0]));
+                }
+
+                if (!this.basePackages.isEmpty()) {
+                    this.doScan((String[])this.basePackages.toArray(new String[0]));
+                }
+            }
+        }
+
+    }
 
+    @Nullable
+    private BeanDefinitionSnapshot readSnapshot(Path snapshotLocation) {
+        if (!Files.isRegularFile(snapshotLocation)) {
+            return null;
+        } else {
+            try {
+                BeanDefinitionSnapshot snapshot = BeanDefinitionSnapshot.read(snapshotLocation);
+                return snapshot.getFingerprint().equals(this.snapshotFingerprint) ? snapshot : null;
+            } catch (RuntimeException | IOException ex) {
+                return null;
+            }
+        }
     }
 
     @Override
-    public void scan(String... var1) {
+    protected void finishBeanFactoryInitialization() throws BeansException {
+        super.finishBeanFactoryInitialization();
+        if (this.snapshotLocation != null && !this.snapshotRestored) {
+            String fingerprint = this.snapshotFingerprint != null ? this.snapshotFingerprint : this.getSnapshotFingerprint();
+
+            try {
+                BeanDefinitionSnapshot.write(this.getDefaultListableBeanFactory(), fingerprint, this.snapshotLocation);
+            } catch (IllegalStateException | IOException ex) {
+                this.discardSnapshot(this.snapshotLocation);
+            }
+        }
+
+    }
+
+    private void discardSnapshot(Path snapshotLocation) {
+        try {
+            Files.deleteIfExists(snapshotLocation);
+        } catch (IOException ex) {
+        }
+
+    }
+
+    protected String getSnapshotFingerprint() {
+        StringBuilder sb = new StringBuilder("classes=");
+        Iterator var2 = this.componentClasses.iterator();
+
+        while(var2.hasNext()) {
+            Class<?> componentClass = (Class)var2.next();
+            sb.append(componentClass.getName()).append(',');
+        }
+
+        sb.append(";packages=");
+        var2 = this.basePackages.iterator();
+
+        while(var2.hasNext()) {
+            String basePackage = (String)var2.next();
+            sb.append(basePackage).append(',');
+        }
+
+        sb.append(";content=").append(Long.toHexString(this.computeContentChecksum()));
+        return sb.toString();
+    }
+
+    private long computeContentChecksum() {
+        Set<String> entries = new TreeSet();
+        String[] classPathEntries = StringUtils.tokenizeToStringArray(System.getProperty("java.class.path", ""), File.pathSeparator);
+        String[] var3 = classPathEntries;
+        int var4 = classPathEntries.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            String classPathEntry = var3[var5];
+            File file = new File(classPathEntry);
+            entries.add(classPathEntry + ':' + file.length() + ':' + file.lastModified());
+        }
+
+        Iterator var7 = this.componentClasses.iterator();
+
+        while(var7.hasNext()) {
+            Class<?> componentClass = (Class)var7.next();
+            this.addResourceEntries(entries, ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(componentClass.getName()) + ".class");
+        }
+
+        var7 = this.basePackages.iterator();
+
+        while(var7.hasNext()) {
+            String basePackage = (String)var7.next();
+            this.addResourceEntries(entries, ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(basePackage));
+        }
+
+        this.addResourceEntries(entries, ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION);
+        CRC32 crc = new CRC32();
+        var7 = entries.iterator();
+
+        while(var7.hasNext()) {
+            String entry = (String)var7.next();
+            crc.update(entry.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+
+        return crc.getValue();
+    }
+
+    private void addResourceEntries(Set<String> entries, String locationPattern) {
+        try {
+            Resource[] resources = this.getResources(locationPattern);
+            Resource[] var4 = resources;
+            int var5 = resources.length;
+
+            for(int var6 = 0; var6 < var5; ++var6) {
+                Resource resource = var4[var6];
+                entries.add(resource.getURL() + ":" + resource.contentLength() + ':' + resource.lastModified());
+            }
+        } catch (IOException ex) {
+            entries.add(locationPattern + ":unreadable");
+        }
 
     }
 }
@@ -0,0 +1,300 @@
+package org.springframework.springcontext.context.annotion;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.factory.BeanDefinitionStoreException;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.springbean.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.springcontext.context.index.CandidateComponentsIndex;
+import org.springframework.springcontext.context.index.CandidateComponentsIndexLoader;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.io.ResourcePatternResolver;
+import org.springframework.springcore.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.springcore.core.type.classreading.MetadataReader;
+import org.springframework.springcore.core.type.classreading.MetadataReaderFactory;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class ClassPathBeanDefinitionScanner {
+    static final String DEFAULT_RESOURCE_PATTERN = "**/*.class";
+    private static final int READ_TASK_THRESHOLD = 32;
+    private final BeanDefinitionRegistry registry;
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final CachingMetadataReaderFactory metadataReaderFactory;
+    @Nullable
+    private final CandidateComponentsIndex componentsIndex;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public ClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry) {
+        this(registry, registry instanceof ResourcePatternResolver ? (ResourcePatternResolver)registry : new PathMatchingResourcePatternResolver());
+    }
+
+    public ClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry, ResourcePatternResolver resourcePatternResolver) {
+        Assert.notNull(registry, "BeanDefinitionRegistry must not be null");
+        Assert.notNull(resourcePatternResolver, "ResourcePatternResolver must not be null");
+        this.registry = registry;
+        this.resourcePatternResolver = resourcePatternResolver;
+        this.metadataReaderFactory = new CachingMetadataReaderFactory(resourcePatternResolver);
+        this.componentsIndex = CandidateComponentsIndexLoader.loadIndex(resourcePatternResolver.getClassLoader());
+    }
+
+    public final BeanDefinitionRegistry getRegistry() {
+        return this.registry;
+    }
+
+    public final MetadataReaderFactory getMetadataReaderFactory() {
+        return this.metadataReaderFactory;
+    }
+
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public boolean isIndexed() {
+        return this.componentsIndex != null;
+    }
+
+    public int scan(String... basePackages) {
+        Assert.notEmpty(basePackages, "At least one base package must be specified");
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap();
+
+        try {
+            Iterator var3 = this.findCandidateComponents(basePackages).iterator();
+
+            while(var3.hasNext()) {
+                ScannedGenericBeanDefinition candidate = (ScannedGenericBeanDefinition)var3.next();
+                String beanName = AnnotatedBeanDefinitionReader.generateBeanName(candidate.getMetadata());
+                if (this.checkCandidate(beanName, candidate, (BeanDefinition)beanDefinitions.get(beanName))) {
+                    beanDefinitions.put(beanName, candidate);
+                }
+            }
+        } finally {
+            this.metadataReaderFactory.clearCache();
+        }
+
+        if (!beanDefinitions.isEmpty()) {
+            this.registry.registerBeanDefinitions(beanDefinitions);
+        }
+
+        return beanDefinitions.size();
+    }
+
+    public List<ScannedGenericBeanDefinition> findCandidateComponents(String... basePackages) {
+        String[] var2 = basePackages;
+        int var3 = basePackages.length;
+
+        for(int var4 = 0; var4 < var3; ++var4) {
+            String basePackage = var2[var4];
+            Assert.hasText(basePackage, "Base package must not be empty");
+        }
+
+        if (this.componentsIndex == null) {
+            return this.scanCandidateComponents(basePackages);
+        } else {
+            List<ScannedGenericBeanDefinition> candidates = new ArrayList();
+            String[] var9 = basePackages;
+            int var10 = basePackages.length;
+
+            for(int var11 = 0; var11 < var10; ++var11) {
+                String basePackage = var9[var11];
+                candidates.addAll(this.addCandidateComponentsFromIndex(this.componentsIndex, basePackage));
+            }
+
+            return candidates;
+        }
+    }
+
+    private List<ScannedGenericBeanDefinition> addCandidateComponentsFromIndex(CandidateComponentsIndex index, String basePackage) {
+        Set<String> types = new LinkedHashSet();
+        Iterator var4 = index.getStereotypes().iterator();
+
+        while(var4.hasNext()) {
+            String stereotype = (String)var4.next();
+            if (AnnotatedBeanDefinitionReader.isComponentAnnotation(stereotype)) {
+                types.addAll(index.getCandidateTypes(basePackage, stereotype));
+            }
+        }
+
+        List<ScannedGenericBeanDefinition> candidates = new ArrayList(types.size());
+        Iterator var9 = types.iterator();
+
+        while(var9.hasNext()) {
+            String type = (String)var9.next();
+
+            MetadataReader metadataReader;
+            try {
+                metadataReader = this.metadataReaderFactory.getMetadataReader(type);
+            } catch (IOException ex) {
+                throw new BeanDefinitionStoreException(CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION, "Failed to read candidate component class [" + type + "]", ex);
+            }
+
+            if (isCandidateComponent(metadataReader.getAnnotationMetadata())) {
+                candidates.add(new ScannedGenericBeanDefinition(metadataReader));
+            }
+        }
+
+        return candidates;
+    }
+
+    private List<ScannedGenericBeanDefinition> scanCandidateComponents(String[] basePackages) {
+        Set<Resource> rootDirResources = new LinkedHashSet();
+        String[] var3 = basePackages;
+        int var4 = basePackages.length;
+
+        for(int var5 = 0; var5 < var4; ++var5) {
+            String basePackage = var3[var5];
+
+            try {
+                Collections.addAll(rootDirResources, this.resourcePatternResolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(basePackage) + '/'));
+            } catch (IOException ex) {
+                throw new BeanDefinitionStoreException("I/O failure during classpath scanning of package [" + basePackage + "]", ex);
+            }
+        }
+
+        if (rootDirResources.isEmpty()) {
+            return Collections.emptyList();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+
+            try {
+                return (List)pool.invoke(new ClassPathBeanDefinitionScanner.RootDirScanTask(new ArrayList(rootDirResources)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private Resource[] findClassFiles(Resource rootDirResource) {
+        try {
+            String rootDirUrl = rootDirResource.getURL().toString();
+            return this.resourcePatternResolver.getResources((rootDirUrl.endsWith("/") ? rootDirUrl : rootDirUrl + '/') + DEFAULT_RESOURCE_PATTERN);
+        } catch (IOException ex) {
+            throw new BeanDefinitionStoreException("I/O failure during classpath scanning of " + rootDirResource.getDescription(), ex);
+        }
+    }
+
+    @Nullable
+    private ScannedGenericBeanDefinition readCandidateComponent(Resource resource) {
+        MetadataReader metadataReader;
+        try {
+            metadataReader = this.metadataReaderFactory.getMetadataReader(resource);
+        } catch (IOException ex) {
+            throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource.getDescription(), ex);
+        }
+
+        return isCandidateComponent(metadataReader.getAnnotationMetadata()) ? new ScannedGenericBeanDefinition(metadataReader) : null;
+    }
+
+    private boolean checkCandidate(String beanName, BeanDefinition candidate, @Nullable BeanDefinition scannedDefinition) {
+        BeanDefinition existingDefinition = scannedDefinition;
+        if (scannedDefinition == null) {
+            if (!this.registry.containsBeanDefinition(beanName)) {
+                return true;
+            }
+
+            existingDefinition = this.registry.getBeanDefinition(beanName);
+        }
+
+        if (Objects.equals(candidate.getBeanClassName(), existingDefinition.getBeanClassName())) {
+            return false;
+        } else {
+            throw new IllegalStateException("Annotation-specified bean name '" + beanName + "' for bean class [" + candidate.getBeanClassName() + "] conflicts with existing, non-compatible bean definition of same name and class [" + existingDefinition.getBeanClassName() + "]");
+        }
+    }
+
+    public static boolean isCandidateComponent(AnnotationMetadata metadata) {
+        return metadata.isIndependent() && metadata.isConcrete() && AnnotatedBeanDefinitionReader.isComponent(metadata);
+    }
+
+    private class RootDirScanTask extends RecursiveTask<List<ScannedGenericBeanDefinition>> {
+        private final List<Resource> rootDirResources;
+
+        RootDirScanTask(List<Resource> rootDirResources) {
+            this.rootDirResources = rootDirResources;
+        }
+
+        protected List<ScannedGenericBeanDefinition> compute() {
+            List<ForkJoinTask<List<ScannedGenericBeanDefinition>>> tasks = new ArrayList(this.rootDirResources.size());
+            Iterator var2 = this.rootDirResources.iterator();
+
+            while(var2.hasNext()) {
+                Resource rootDirResource = (Resource)var2.next();
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    Resource[] classFiles = ClassPathBeanDefinitionScanner.this.findClassFiles(rootDirResource);
+                    List<ScannedGenericBeanDefinition> candidates = (ClassPathBeanDefinitionScanner.this.new ClassFileReadTask(classFiles, 0, classFiles.length)).invoke();
+                    candidates.sort(Comparator.comparing(AbstractBeanDefinition::getBeanClassName));
+                    return candidates;
+                }));
+            }
+
+            ForkJoinTask.invokeAll(tasks);
+            List<ScannedGenericBeanDefinition> result = new ArrayList();
+            Iterator var6 = tasks.iterator();
+
+            while(var6.hasNext()) {
+                ForkJoinTask<List<ScannedGenericBeanDefinition>> task = (ForkJoinTask)var6.next();
+                result.addAll((Collection)task.join());
+            }
+
+            return result;
+        }
+    }
+
+    private class ClassFileReadTask extends RecursiveTask<List<ScannedGenericBeanDefinition>> {
+        private final Resource[] classFiles;
+        private final int from;
+        private final int to;
+
+        ClassFileReadTask(Resource[] classFiles, int from, int to) {
+            this.classFiles = classFiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected List<ScannedGenericBeanDefinition> compute() {
+            if (this.to - this.from <= READ_TASK_THRESHOLD) {
+                List<ScannedGenericBeanDefinition> candidates = new ArrayList();
+
+                for(int i = this.from; i < this.to; ++i) {
+                    ScannedGenericBeanDefinition candidate = ClassPathBeanDefinitionScanner.this.readCandidateComponent(this.classFiles[i]);
+                    if (candidate != null) {
+                        candidates.add(candidate);
+                    }
+                }
+
+                return candidates;
+            } else {
+                int middle = this.from + this.to >>> 1;
+                ClassPathBeanDefinitionScanner.ClassFileReadTask left = ClassPathBeanDefinitionScanner.this.new ClassFileReadTask(this.classFiles, this.from, middle);
+                left.fork();
+                List<ScannedGenericBeanDefinition> candidates = (ClassPathBeanDefinitionScanner.this.new ClassFileReadTask(this.classFiles, middle, this.to)).compute();
+                List<ScannedGenericBeanDefinition> result = (List)left.join();
+                result.addAll(candidates);
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.springframework.springcontext.context.annotion;
+
+import org.springframework.springbean.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.springbean.beans.factory.support.GenericBeanDefinition;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.core.type.classreading.MetadataReader;
+import org.springframework.springcore.utils.Assert;
+
+public class ScannedGenericBeanDefinition extends GenericBeanDefinition {
+    private final AnnotationMetadata metadata;
+
+    public ScannedGenericBeanDefinition(MetadataReader metadataReader) {
+        Assert.notNull(metadataReader, "MetadataReader must not be null");
+        this.metadata = metadataReader.getAnnotationMetadata();
+        this.setBeanClassName(this.metadata.getClassName());
+        this.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+        this.setResourceDescription(metadataReader.getResource().getDescription());
+        AnnotatedBeanDefinitionReader.processCommonDefinitionAnnotations(this, this.metadata);
+    }
+
+    private ScannedGenericBeanDefinition(ScannedGenericBeanDefinition original) {
+        super(original);
+        this.metadata = original.metadata;
+    }
+
+    public final AnnotationMetadata getMetadata() {
+        return this.metadata;
+    }
+
+    public AbstractBeanDefinition cloneBeanDefinition() {
+        return new ScannedGenericBeanDefinition(this);
+    }
+}
@@ -0,0 +1,22 @@
+package org.springframework.springcontext.context.event;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcore.core.ResolvableType;
+
+public interface ApplicationEventMulticaster {
+  void addApplicationListener(ApplicationListener<?> var1);
+
+  void addApplicationListenerBean(String var1);
+
+  void removeApplicationListener(ApplicationListener<?> var1);
+
+  void removeApplicationListenerBean(String var1);
+
+  void removeAllListeners();
+
+  void multicastEvent(ApplicationEvent var1);
+
+  void multicastEvent(ApplicationEvent var1, @Nullable ResolvableType var2);
+}
@@ -0,0 +1,27 @@
+package org.springframework.springcontext.context.event;
+
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+
+import java.util.Collections;
+import java.util.List;
+
+public interface BatchingApplicationListener<E extends ApplicationEvent> extends ApplicationListener<E> {
+  int DEFAULT_MAX_BATCH_SIZE = 256;
+  long DEFAULT_MAX_BATCH_DELAY = 100L;
+
+  void onApplicationEvents(List<E> var1);
+
+  @Override
+  default void onApplicationEvent(E event) {
+    this.onApplicationEvents(Collections.singletonList(event));
+  }
+
+  default int getMaxBatchSize() {
+    return DEFAULT_MAX_BATCH_SIZE;
+  }
+
+  default long getMaxBatchDelay() {
+    return DEFAULT_MAX_BATCH_DELAY;
+  }
+}
@@ -0,0 +1,120 @@
+package org.springframework.springcontext.context.event;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ErrorHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class EventBatcher {
+  private final BatchingApplicationListener listener;
+  private final int maxBatchSize;
+  private final long maxBatchDelay;
+  private final ScheduledExecutorService flushScheduler;
+  @Nullable
+  private final ErrorHandler errorHandler;
+  private final Object deliveryMonitor = new Object();
+  private List<ApplicationEvent> buffer;
+  private boolean flushScheduled;
+
+  EventBatcher(BatchingApplicationListener<?> listener, ScheduledExecutorService flushScheduler, @Nullable ErrorHandler errorHandler) {
+    this.listener = listener;
+    this.maxBatchSize = listener.getMaxBatchSize();
+    this.maxBatchDelay = listener.getMaxBatchDelay();
+    Assert.isTrue(this.maxBatchSize > 0, "Max batch size must be positive");
+    Assert.isTrue(this.maxBatchDelay > 0L, "Max batch delay must be positive");
+    this.flushScheduler = flushScheduler;
+    this.errorHandler = errorHandler;
+    this.buffer = new ArrayList(this.maxBatchSize);
+  }
+
+  void add(ApplicationEvent event) {
+    boolean full;
+    synchronized(this) {
+      this.buffer.add(event);
+      full = this.buffer.size() >= this.maxBatchSize;
+      if (!full && !this.flushScheduled) {
+        try {
+          this.flushScheduler.schedule(this::flush, this.maxBatchDelay, TimeUnit.MILLISECONDS);
+          this.flushScheduled = true;
+        } catch (RejectedExecutionException ex) {
+          full = true;
+        }
+      }
+    }
+
+    if (full) {
+      this.deliver(false);
+    }
+
+  }
+
+  void flush() {
+    synchronized(this) {
+      this.flushScheduled = false;
+    }
+
+    this.deliver(true);
+  }
+
+  private void deliver(boolean all) {
+    synchronized(this.deliveryMonitor) {
+      List<ApplicationEvent> batch;
+      while((batch = this.takeBatch(all)) != null) {
+        try {
+          this.listener.onApplicationEvents(Collections.unmodifiableList(batch));
+        } catch (Throwable ex) {
+          this.handleError(ex);
+        }
+      }
+
+    }
+  }
+
+  @Nullable
+  private synchronized List<ApplicationEvent> takeBatch(boolean all) {
+    int size = this.buffer.size();
+    if (size != 0 && (all || size >= this.maxBatchSize)) {
+      if (size <= this.maxBatchSize) {
+        List<ApplicationEvent> batch = this.buffer;
+        this.buffer = new ArrayList(this.maxBatchSize);
+        return batch;
+      } else {
+        List<ApplicationEvent> head = this.buffer.subList(0, this.maxBatchSize);
+        List<ApplicationEvent> batch = new ArrayList(head);
+        head.clear();
+        return batch;
+      }
+    } else {
+      return null;
+    }
+  }
+
+  private void handleError(Throwable ex) {
+    Throwable unhandled = ex;
+    if (this.errorHandler != null) {
+      try {
+        this.errorHandler.handleError(ex);
+        unhandled = null;
+      } catch (Throwable handlerEx) {
+        unhandled = handlerEx;
+      }
+    }
+
+    if (unhandled != null) {
+      Thread thread = Thread.currentThread();
+
+      try {
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, unhandled);
+      } catch (Throwable reportEx) {
+      }
+    }
+
+  }
+}
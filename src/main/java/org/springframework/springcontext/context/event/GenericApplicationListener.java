@@ -0,0 +1,9 @@
+package org.springframework.springcontext.context.event;
+
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcore.core.ResolvableType;
+
+public interface GenericApplicationListener extends ApplicationListener<ApplicationEvent> {
+  boolean supportsEventType(ResolvableType var1);
+}
@@ -0,0 +1,36 @@
+package org.springframework.springcontext.context.event;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.utils.Assert;
+
+public class GenericApplicationListenerAdapter implements GenericApplicationListener {
+  private final ApplicationListener<ApplicationEvent> delegate;
+  @Nullable
+  private final ResolvableType declaredEventType;
+
+  public GenericApplicationListenerAdapter(ApplicationListener<?> delegate) {
+    Assert.notNull(delegate, "Delegate listener must not be null");
+    this.delegate = (ApplicationListener<ApplicationEvent>)delegate;
+    this.declaredEventType = resolveDeclaredEventType(delegate.getClass());
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationEvent event) {
+    this.delegate.onApplicationEvent(event);
+  }
+
+  @Override
+  public boolean supportsEventType(ResolvableType eventType) {
+    return this.declaredEventType == null || this.declaredEventType.isAssignableFrom(eventType);
+  }
+
+  @Nullable
+  static ResolvableType resolveDeclaredEventType(Class<?> listenerType) {
+    ResolvableType declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric();
+    Class<?> eventClass = declaredEventType.resolve();
+    return eventClass != null && eventClass != ApplicationEvent.class ? declaredEventType : null;
+  }
+}
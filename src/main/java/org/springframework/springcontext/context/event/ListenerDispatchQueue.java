@@ -0,0 +1,298 @@
+package org.springframework.springcontext.context.event;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ErrorHandler;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+public class ListenerDispatchQueue {
+  private static final String WORKER_THREAD_NAME_PREFIX = "event-dispatch-";
+  private static final long IDLE_POLL_MILLIS = 100L;
+  private static final AtomicInteger workerCount = new AtomicInteger();
+  @Nullable
+  private static final Method ofVirtualMethod;
+  @Nullable
+  private static final Method unstartedMethod;
+  private final Object group;
+  private final int capacity;
+  private final ListenerDispatchQueue.OverflowPolicy overflowPolicy;
+  private final BiConsumer<ApplicationListener<?>, ApplicationEvent> invoker;
+  @Nullable
+  private final ErrorHandler errorHandler;
+  private final BlockingQueue<ListenerDispatchQueue.Task> queue;
+  private final Thread worker;
+  private volatile boolean running = true;
+  private final AtomicLong submittedCount = new AtomicLong();
+  private final AtomicLong completedCount = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong callerRunsCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
+  private volatile long lastLatencyNanos;
+  private volatile long maxLatencyNanos;
+
+  public ListenerDispatchQueue(Object group, int capacity, ListenerDispatchQueue.OverflowPolicy overflowPolicy, BiConsumer<ApplicationListener<?>, ApplicationEvent> invoker) {
+    this(group, capacity, overflowPolicy, invoker, (ErrorHandler)null);
+  }
+
+  public ListenerDispatchQueue(Object group, int capacity, ListenerDispatchQueue.OverflowPolicy overflowPolicy, BiConsumer<ApplicationListener<?>, ApplicationEvent> invoker, @Nullable ErrorHandler errorHandler) {
+    Assert.notNull(group, "Group must not be null");
+    Assert.isTrue(capacity > 0, "Capacity must be positive");
+    Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+    Assert.notNull(invoker, "Invoker must not be null");
+    this.group = group;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.invoker = invoker;
+    this.errorHandler = errorHandler;
+    this.queue = new ArrayBlockingQueue(capacity);
+    this.worker = createWorker(this::drain, WORKER_THREAD_NAME_PREFIX + workerCount.incrementAndGet());
+    this.worker.start();
+  }
+
+  public void submit(ApplicationListener<?> listener, ApplicationEvent event) {
+    if (!this.running) {
+      this.runInCaller(listener, event);
+    } else {
+      ListenerDispatchQueue.Task task = new ListenerDispatchQueue.Task(listener, event, System.nanoTime());
+      this.submittedCount.incrementAndGet();
+      if (!this.queue.offer(task)) {
+        switch(this.overflowPolicy) {
+          case BLOCK:
+            try {
+              while(!this.queue.offer(task, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!this.running) {
+                  this.submittedCount.decrementAndGet();
+                  this.runInCaller(listener, event);
+                  return;
+                }
+              }
+            } catch (InterruptedException ex) {
+              Thread.currentThread().interrupt();
+              this.droppedCount.incrementAndGet();
+              return;
+            }
+            break;
+          case DROP_OLDEST:
+            while(!this.queue.offer(task)) {
+              if (this.queue.poll() != null) {
+                this.droppedCount.incrementAndGet();
+              }
+            }
+            break;
+          case CALLER_RUNS:
+            this.submittedCount.decrementAndGet();
+            this.runInCaller(listener, event);
+            return;
+        }
+      }
+
+      if (!this.running) {
+        this.runPendingInCaller();
+      }
+
+    }
+  }
+
+  private void runPendingInCaller() {
+    ListenerDispatchQueue.Task task;
+    while((task = (ListenerDispatchQueue.Task)this.queue.poll()) != null) {
+      this.completedCount.incrementAndGet();
+      this.runInCaller(task.listener, task.event);
+    }
+
+  }
+
+  private void runInCaller(ApplicationListener<?> listener, ApplicationEvent event) {
+    this.callerRunsCount.incrementAndGet();
+    this.invoker.accept(listener, event);
+  }
+
+  private void drain() {
+    while(this.running || !this.queue.isEmpty()) {
+      ListenerDispatchQueue.Task task;
+      try {
+        task = (ListenerDispatchQueue.Task)this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException ex) {
+        return;
+      }
+
+      if (task != null) {
+        long latency = System.nanoTime() - task.enqueuedNanos;
+        this.lastLatencyNanos = latency;
+        if (latency > this.maxLatencyNanos) {
+          this.maxLatencyNanos = latency;
+        }
+
+        try {
+          this.invoker.accept(task.listener, task.event);
+        } catch (Throwable ex) {
+          this.failedCount.incrementAndGet();
+          this.handleError(ex);
+        } finally {
+          this.completedCount.incrementAndGet();
+        }
+      }
+    }
+
+  }
+
+  public boolean shutdown(long timeoutMillis) {
+    this.running = false;
+
+    try {
+      this.worker.join(timeoutMillis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (this.worker.isAlive()) {
+      this.worker.interrupt();
+      return false;
+    } else {
+      this.runPendingInCaller();
+      return true;
+    }
+  }
+
+  private void handleError(Throwable ex) {
+    Throwable unhandled = ex;
+    if (this.errorHandler != null) {
+      try {
+        this.errorHandler.handleError(ex);
+        unhandled = null;
+      } catch (Throwable handlerEx) {
+        unhandled = handlerEx;
+      }
+    }
+
+    if (unhandled != null) {
+      Thread thread = Thread.currentThread();
+
+      try {
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, unhandled);
+      } catch (Throwable reportEx) {
+      }
+    }
+
+  }
+
+
+  public Object getGroup() {
+    return this.group;
+  }
+
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  public ListenerDispatchQueue.OverflowPolicy getOverflowPolicy() {
+    return this.overflowPolicy;
+  }
+
+  public int getPendingCount() {
+    return this.queue.size();
+  }
+
+  public long getSubmittedCount() {
+    return this.submittedCount.get();
+  }
+
+  public long getCompletedCount() {
+    return this.completedCount.get();
+  }
+
+  public long getDroppedCount() {
+    return this.droppedCount.get();
+  }
+
+  public long getCallerRunsCount() {
+    return this.callerRunsCount.get();
+  }
+
+  public long getFailedCount() {
+    return this.failedCount.get();
+  }
+
+  public long getLag() {
+    return this.submittedCount.get() - this.completedCount.get() - this.droppedCount.get();
+  }
+
+  public long getOldestPendingAgeNanos() {
+    ListenerDispatchQueue.Task oldest = (ListenerDispatchQueue.Task)this.queue.peek();
+    return oldest != null ? Math.max(0L, System.nanoTime() - oldest.enqueuedNanos) : 0L;
+  }
+
+  public long getLastLatencyNanos() {
+    return this.lastLatencyNanos;
+  }
+
+  public long getMaxLatencyNanos() {
+    return this.maxLatencyNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "ListenerDispatchQueue [" + this.group + "]: pending=" + this.getPendingCount() + ", lag=" + this.getLag() + ", dropped=" + this.getDroppedCount() + ", callerRuns=" + this.getCallerRunsCount() + ", failed=" + this.getFailedCount();
+  }
+
+  private static Thread createWorker(Runnable runnable, String name) {
+    if (ofVirtualMethod != null && unstartedMethod != null) {
+      try {
+        Thread thread = (Thread)unstartedMethod.invoke(ofVirtualMethod.invoke((Object)null), runnable);
+        thread.setName(name);
+        return thread;
+      } catch (ReflectiveOperationException ex) {
+      }
+    }
+
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  static {
+    Method ofVirtual = null;
+    Method unstarted = null;
+
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+    } catch (ReflectiveOperationException ex) {
+      ofVirtual = null;
+      unstarted = null;
+    }
+
+    ofVirtualMethod = ofVirtual;
+    unstartedMethod = unstarted;
+  }
+
+  private static final class Task {
+    final ApplicationListener<?> listener;
+    final ApplicationEvent event;
+    final long enqueuedNanos;
+
+    Task(ApplicationListener<?> listener, ApplicationEvent event, long enqueuedNanos) {
+      this.listener = listener;
+      this.event = event;
+      this.enqueuedNanos = enqueuedNanos;
+    }
+  }
+
+  public static enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    CALLER_RUNS;
+
+    private OverflowPolicy() {
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package org.springframework.springcontext.context.event;
+
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcontext.context.PayloadApplicationEvent;
+
+public interface PayloadApplicationListener<T> extends ApplicationListener<PayloadApplicationEvent<T>> {
+  void onPayload(T var1);
+
+  @Override
+  default void onApplicationEvent(PayloadApplicationEvent<T> event) {
+    this.onPayload(event.getPayload());
+  }
+}
@@ -0,0 +1,471 @@
+package org.springframework.springcontext.context.event;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.factory.BeanFactory;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+import org.springframework.springcontext.context.PayloadApplicationEvent;
+import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.ResolvableTypeProvider;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ErrorHandler;
+import org.springframework.springcore.utils.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class SimpleApplicationEventMulticaster implements ApplicationEventMulticaster {
+  private static final ApplicationListener<?>[] NO_LISTENERS = new ApplicationListener[0];
+  private static final String BATCH_FLUSH_THREAD_NAME = "event-batch-flush";
+  private final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet();
+  private final Set<String> applicationListenerBeans = new LinkedHashSet();
+  private final Object retrievalMutex = this.applicationListeners;
+  private final ConcurrentMap<Class<?>, ApplicationListener<?>[]> eventClassCache = new ConcurrentHashMap(64);
+  private final ConcurrentMap<Class<?>, ApplicationListener<?>[]> payloadClassCache = new ConcurrentHashMap(64);
+  private final ConcurrentMap<SimpleApplicationEventMulticaster.ListenerCacheKey, ApplicationListener<?>[]> eventTypeCache = new ConcurrentHashMap(64);
+  private long listenerVersion;
+  private final ConcurrentMap<Object, ListenerDispatchQueue> dispatchQueues = new ConcurrentHashMap(16);
+  private final ConcurrentMap<ApplicationListener<?>, EventBatcher> eventBatchers = new ConcurrentHashMap(16);
+  @Nullable
+  private ScheduledExecutorService batchFlushScheduler;
+  @Nullable
+  private BeanFactory beanFactory;
+  @Nullable
+  private ErrorHandler errorHandler;
+  private volatile boolean asyncDispatch;
+  private int dispatchQueueCapacity = 1024;
+  private ListenerDispatchQueue.OverflowPolicy overflowPolicy = ListenerDispatchQueue.OverflowPolicy.BLOCK;
+
+  public SimpleApplicationEventMulticaster() {
+  }
+
+  public SimpleApplicationEventMulticaster(BeanFactory beanFactory) {
+    this.setBeanFactory(beanFactory);
+  }
+
+  public void setBeanFactory(BeanFactory beanFactory) {
+    this.beanFactory = beanFactory;
+  }
+
+  public void setErrorHandler(@Nullable ErrorHandler errorHandler) {
+    this.errorHandler = errorHandler;
+  }
+
+  @Nullable
+  public ErrorHandler getErrorHandler() {
+    return this.errorHandler;
+  }
+
+  public void setAsyncDispatch(boolean asyncDispatch) {
+    this.asyncDispatch = asyncDispatch;
+  }
+
+  public boolean isAsyncDispatch() {
+    return this.asyncDispatch;
+  }
+
+  public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+    Assert.isTrue(dispatchQueueCapacity > 0, "Dispatch queue capacity must be positive");
+    this.dispatchQueueCapacity = dispatchQueueCapacity;
+  }
+
+  public int getDispatchQueueCapacity() {
+    return this.dispatchQueueCapacity;
+  }
+
+  public void setOverflowPolicy(ListenerDispatchQueue.OverflowPolicy overflowPolicy) {
+    Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public ListenerDispatchQueue.OverflowPolicy getOverflowPolicy() {
+    return this.overflowPolicy;
+  }
+
+  public Map<Object, ListenerDispatchQueue> getDispatchQueues() {
+    return Collections.unmodifiableMap(this.dispatchQueues);
+  }
+
+  @Override
+  public void addApplicationListener(ApplicationListener<?> listener) {
+    Assert.notNull(listener, "ApplicationListener must not be null");
+    synchronized(this.retrievalMutex) {
+      this.applicationListeners.add(listener);
+      this.clearListenerCaches();
+    }
+  }
+
+  @Override
+  public void addApplicationListenerBean(String listenerBeanName) {
+    Assert.hasText(listenerBeanName, "Listener bean name must not be empty");
+    synchronized(this.retrievalMutex) {
+      this.applicationListenerBeans.add(listenerBeanName);
+      this.clearListenerCaches();
+    }
+  }
+
+  @Override
+  public void removeApplicationListener(ApplicationListener<?> listener) {
+    synchronized(this.retrievalMutex) {
+      this.applicationListeners.remove(listener);
+      this.clearListenerCaches();
+    }
+
+    EventBatcher eventBatcher = (EventBatcher)this.eventBatchers.remove(listener);
+    if (eventBatcher != null) {
+      eventBatcher.flush();
+    }
+  }
+
+  @Override
+  public void removeApplicationListenerBean(String listenerBeanName) {
+    synchronized(this.retrievalMutex) {
+      this.applicationListenerBeans.remove(listenerBeanName);
+      this.clearListenerCaches();
+    }
+  }
+
+  @Override
+  public void removeAllListeners() {
+    synchronized(this.retrievalMutex) {
+      this.applicationListeners.clear();
+      this.applicationListenerBeans.clear();
+      this.clearListenerCaches();
+    }
+
+    this.flushEventBatches();
+    this.eventBatchers.clear();
+  }
+
+  private void clearListenerCaches() {
+    ++this.listenerVersion;
+    this.eventClassCache.clear();
+    this.payloadClassCache.clear();
+    this.eventTypeCache.clear();
+  }
+
+  public Collection<ApplicationListener<?>> getApplicationListeners() {
+    synchronized(this.retrievalMutex) {
+      return Collections.unmodifiableList(new ArrayList(this.applicationListeners));
+    }
+  }
+
+  @Override
+  public void multicastEvent(ApplicationEvent event) {
+    this.multicastEvent(event, (ResolvableType)null);
+  }
+
+  @Override
+  public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+    ApplicationListener<?>[] listeners = this.getApplicationListeners(event, eventType);
+    boolean async = this.asyncDispatch;
+    ApplicationListener[] var5 = listeners;
+    int var6 = listeners.length;
+
+    for(int var7 = 0; var7 < var6; ++var7) {
+      ApplicationListener<?> listener = var5[var7];
+      if (listener instanceof BatchingApplicationListener) {
+        this.getEventBatcher((BatchingApplicationListener)listener).add(event);
+      } else if (async) {
+        this.getDispatchQueue(listener).submit(listener, event);
+      } else {
+        this.invokeListener(listener, event);
+      }
+    }
+
+  }
+
+  public boolean multicastPayload(Object payload) {
+    if (!this.asyncDispatch && !(payload instanceof ResolvableTypeProvider)) {
+      Class<?> payloadClass = payload.getClass();
+      ApplicationListener<?>[] listeners = (ApplicationListener[])this.payloadClassCache.get(payloadClass);
+      if (listeners == null) {
+        listeners = this.retrieveApplicationListeners(this.payloadClassCache, payloadClass, ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, new Class[]{payloadClass}));
+      }
+
+      ApplicationListener[] var4 = listeners;
+      int var5 = listeners.length;
+
+      int var6;
+      for(var6 = 0; var6 < var5; ++var6) {
+        if (!(var4[var6] instanceof PayloadApplicationListener)) {
+          return false;
+        }
+      }
+
+      for(var6 = 0; var6 < var5; ++var6) {
+        this.invokePayloadListener((PayloadApplicationListener)var4[var6], payload);
+      }
+
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  protected Object determineDispatchGroup(ApplicationListener<?> listener) {
+    return listener.getClass();
+  }
+
+  private ListenerDispatchQueue getDispatchQueue(ApplicationListener<?> listener) {
+    Object group = this.determineDispatchGroup(listener);
+    ListenerDispatchQueue dispatchQueue = (ListenerDispatchQueue)this.dispatchQueues.get(group);
+    if (dispatchQueue != null) {
+      return dispatchQueue;
+    } else {
+      synchronized(this.dispatchQueues) {
+        dispatchQueue = (ListenerDispatchQueue)this.dispatchQueues.get(group);
+        if (dispatchQueue == null) {
+          dispatchQueue = new ListenerDispatchQueue(group, this.dispatchQueueCapacity, this.overflowPolicy, this::invokeListener, this.errorHandler);
+          this.dispatchQueues.put(group, dispatchQueue);
+        }
+
+        return dispatchQueue;
+      }
+    }
+  }
+
+  private EventBatcher getEventBatcher(BatchingApplicationListener<?> listener) {
+    EventBatcher eventBatcher = (EventBatcher)this.eventBatchers.get(listener);
+    if (eventBatcher != null) {
+      return eventBatcher;
+    } else {
+      synchronized(this.eventBatchers) {
+        eventBatcher = (EventBatcher)this.eventBatchers.get(listener);
+        if (eventBatcher == null) {
+          if (this.batchFlushScheduler == null) {
+            this.batchFlushScheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+              Thread thread = new Thread(runnable, BATCH_FLUSH_THREAD_NAME);
+              thread.setDaemon(true);
+              return thread;
+            });
+          }
+
+          eventBatcher = new EventBatcher(listener, this.batchFlushScheduler, this.errorHandler);
+          this.eventBatchers.put(listener, eventBatcher);
+        }
+
+        return eventBatcher;
+      }
+    }
+  }
+
+  public void flushEventBatches() {
+    Iterator var1 = this.eventBatchers.values().iterator();
+
+    while(var1.hasNext()) {
+      EventBatcher eventBatcher = (EventBatcher)var1.next();
+      eventBatcher.flush();
+    }
+
+  }
+
+  public boolean shutdownDispatchQueues(long timeoutMillis) {
+    synchronized(this.eventBatchers) {
+      if (this.batchFlushScheduler != null) {
+        this.batchFlushScheduler.shutdownNow();
+      }
+    }
+
+    this.flushEventBatches();
+    this.asyncDispatch = false;
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    boolean drained = true;
+    synchronized(this.dispatchQueues) {
+      Iterator var6 = this.dispatchQueues.values().iterator();
+
+      while(var6.hasNext()) {
+        ListenerDispatchQueue dispatchQueue = (ListenerDispatchQueue)var6.next();
+        drained &= dispatchQueue.shutdown(Math.max(1L, deadline - System.currentTimeMillis()));
+      }
+
+      this.dispatchQueues.clear();
+      return drained;
+    }
+  }
+
+  protected ApplicationListener<?>[] getApplicationListeners(ApplicationEvent event, @Nullable ResolvableType eventType) {
+    if (eventType == null) {
+      if (event.getClass() == PayloadApplicationEvent.class) {
+        Object payload = ((PayloadApplicationEvent)event).getPayload();
+        if (!(payload instanceof ResolvableTypeProvider)) {
+          Class<?> payloadClass = payload.getClass();
+          ApplicationListener<?>[] listeners = (ApplicationListener[])this.payloadClassCache.get(payloadClass);
+          return listeners != null ? listeners : this.retrieveApplicationListeners(this.payloadClassCache, payloadClass, ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, new Class[]{payloadClass}));
+        }
+      } else if (!(event instanceof ResolvableTypeProvider)) {
+        Class<?> eventClass = event.getClass();
+        ApplicationListener<?>[] listeners = (ApplicationListener[])this.eventClassCache.get(eventClass);
+        return listeners != null ? listeners : this.retrieveApplicationListeners(this.eventClassCache, eventClass, ResolvableType.forClass(eventClass));
+      }
+
+      eventType = ((ResolvableTypeProvider)event).getResolvableType();
+      if (eventType == null) {
+        eventType = ResolvableType.forInstance(event);
+      }
+    }
+
+    SimpleApplicationEventMulticaster.ListenerCacheKey cacheKey = new SimpleApplicationEventMulticaster.ListenerCacheKey(event.getClass(), eventType);
+    ApplicationListener<?>[] listeners = (ApplicationListener[])this.eventTypeCache.get(cacheKey);
+    return listeners != null ? listeners : this.retrieveApplicationListeners(this.eventTypeCache, cacheKey, eventType);
+  }
+
+  private <K> ApplicationListener<?>[] retrieveApplicationListeners(ConcurrentMap<K, ApplicationListener<?>[]> cache, K cacheKey, ResolvableType eventType) {
+    List<ApplicationListener<?>> listeners;
+    List<String> listenerBeans;
+    long version;
+    synchronized(this.retrievalMutex) {
+      listeners = new ArrayList(this.applicationListeners);
+      listenerBeans = new ArrayList(this.applicationListenerBeans);
+      version = this.listenerVersion;
+    }
+
+    List<ApplicationListener<?>> allListeners = new ArrayList();
+    boolean cacheSafe = true;
+    Iterator var9 = listeners.iterator();
+
+    while(var9.hasNext()) {
+      ApplicationListener<?> listener = (ApplicationListener)var9.next();
+      if (this.supportsEvent(listener, eventType)) {
+        allListeners.add(listener);
+      }
+    }
+
+    if (!listenerBeans.isEmpty() && this.beanFactory != null) {
+      Iterator var14 = listenerBeans.iterator();
+
+      while(var14.hasNext()) {
+        String listenerBeanName = (String)var14.next();
+        Class<?> listenerType = this.beanFactory.getType(listenerBeanName);
+        if (listenerType == null || this.supportsEvent(listenerType, eventType)) {
+          ApplicationListener<?> listener = (ApplicationListener)this.beanFactory.getBean(listenerBeanName, ApplicationListener.class);
+          if (!allListeners.contains(listener) && this.supportsEvent(listener, eventType)) {
+            allListeners.add(listener);
+          }
+
+          if (!this.beanFactory.isSingleton(listenerBeanName)) {
+            if (listener instanceof BatchingApplicationListener) {
+              throw new IllegalStateException("Batching listener bean '" + listenerBeanName + "' must be a singleton: a non-singleton instance per event cannot accumulate a batch");
+            }
+
+            cacheSafe = false;
+          }
+        }
+      }
+    }
+
+    ApplicationListener<?>[] result = allListeners.isEmpty() ? NO_LISTENERS : (ApplicationListener[])allListeners.toArray(new ApplicationListener[0]);
+    if (cacheSafe) {
+      synchronized(this.retrievalMutex) {
+        if (version == this.listenerVersion) {
+          cache.put(cacheKey, result);
+        }
+      }
+    }
+
+    return result;
+  }
+
+  protected boolean supportsEvent(ApplicationListener<?> listener, ResolvableType eventType) {
+    GenericApplicationListener genericListener = listener instanceof GenericApplicationListener ? (GenericApplicationListener)listener : new GenericApplicationListenerAdapter(listener);
+    return genericListener.supportsEventType(eventType);
+  }
+
+  private boolean supportsEvent(Class<?> listenerType, ResolvableType eventType) {
+    if (GenericApplicationListener.class.isAssignableFrom(listenerType)) {
+      return true;
+    } else {
+      ResolvableType declaredEventType = GenericApplicationListenerAdapter.resolveDeclaredEventType(listenerType);
+      return declaredEventType == null || declaredEventType.isAssignableFrom(eventType);
+    }
+  }
+
+  protected void invokeListener(ApplicationListener listener, ApplicationEvent event) {
+    ErrorHandler errorHandler = this.getErrorHandler();
+    if (errorHandler != null) {
+      try {
+        this.doInvokeListener(listener, event);
+      } catch (Throwable ex) {
+        errorHandler.handleError(ex);
+      }
+    } else {
+      this.doInvokeListener(listener, event);
+    }
+
+  }
+
+  private void doInvokeListener(ApplicationListener listener, ApplicationEvent event) {
+    try {
+      listener.onApplicationEvent(event);
+    } catch (ClassCastException ex) {
+      String msg = ex.getMessage();
+      if (msg != null && !msg.startsWith(event.getClass().getName()) && !msg.startsWith(event.getClass().toString())) {
+        throw ex;
+      }
+    }
+
+  }
+
+  protected void invokePayloadListener(PayloadApplicationListener listener, Object payload) {
+    ErrorHandler errorHandler = this.getErrorHandler();
+    if (errorHandler != null) {
+      try {
+        this.doInvokePayloadListener(listener, payload);
+      } catch (Throwable ex) {
+        errorHandler.handleError(ex);
+      }
+    } else {
+      this.doInvokePayloadListener(listener, payload);
+    }
+
+  }
+
+  private void doInvokePayloadListener(PayloadApplicationListener listener, Object payload) {
+    try {
+      listener.onPayload(payload);
+    } catch (ClassCastException ex) {
+      String msg = ex.getMessage();
+      if (msg != null && !msg.startsWith(payload.getClass().getName()) && !msg.startsWith(payload.getClass().toString())) {
+        throw ex;
+      }
+    }
+
+  }
+
+  private static final class ListenerCacheKey {
+    private final Class<?> eventClass;
+    private final ResolvableType eventType;
+
+    ListenerCacheKey(Class<?> eventClass, ResolvableType eventType) {
+      this.eventClass = eventClass;
+      this.eventType = eventType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (!(other instanceof SimpleApplicationEventMulticaster.ListenerCacheKey)) {
+        return false;
+      } else {
+        SimpleApplicationEventMulticaster.ListenerCacheKey otherKey = (SimpleApplicationEventMulticaster.ListenerCacheKey)other;
+        return this.eventClass == otherKey.eventClass && ObjectUtils.nullSafeEquals(this.eventType, otherKey.eventType);
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return this.eventClass.hashCode() * 29 + this.eventType.hashCode();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.springframework.springcontext.context.index;
+
+import org.springframework.springcore.utils.LinkedMultiValueMap;
+import org.springframework.springcore.utils.MultiValueMap;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+public class CandidateComponentsIndex {
+    private final MultiValueMap<String, CandidateComponentsIndex.Entry> index;
+
+    CandidateComponentsIndex(List<Properties> content) {
+        this.index = parseIndex(content);
+    }
+
+    private static MultiValueMap<String, CandidateComponentsIndex.Entry> parseIndex(List<Properties> content) {
+        MultiValueMap<String, CandidateComponentsIndex.Entry> index = new LinkedMultiValueMap();
+        Iterator var2 = content.iterator();
+
+        while(var2.hasNext()) {
+            Properties entry = (Properties)var2.next();
+            Iterator var4 = entry.entrySet().iterator();
+
+            while(var4.hasNext()) {
+                Map.Entry<Object, Object> property = (Map.Entry)var4.next();
+                String type = (String)property.getKey();
+                String[] stereotypes = StringUtils.commaDelimitedListToStringArray((String)property.getValue());
+                String[] var8 = stereotypes;
+                int var9 = stereotypes.length;
+
+                for(int var10 = 0; var10 < var9; ++var10) {
+                    String stereotype = var8[var10].trim();
+                    if (!stereotype.isEmpty()) {
+                        index.add(stereotype, new CandidateComponentsIndex.Entry(type));
+                    }
+                }
+            }
+        }
+
+        return index;
+    }
+
+    public Set<String> getStereotypes() {
+        return Collections.unmodifiableSet(this.index.keySet());
+    }
+
+    public Set<String> getCandidateTypes(String basePackage, String stereotype) {
+        List<CandidateComponentsIndex.Entry> candidates = (List)this.index.get(stereotype);
+        if (candidates == null) {
+            return Collections.emptySet();
+        } else {
+            Set<String> result = new LinkedHashSet();
+            Iterator var5 = candidates.iterator();
+
+            while(var5.hasNext()) {
+                CandidateComponentsIndex.Entry candidate = (CandidateComponentsIndex.Entry)var5.next();
+                if (candidate.match(basePackage)) {
+                    result.add(candidate.type);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    private static class Entry {
+        private final String type;
+        private final String packageName;
+
+        Entry(String type) {
+            this.type = type;
+            int lastDotIndex = type.lastIndexOf('.');
+            this.packageName = lastDotIndex != -1 ? type.substring(0, lastDotIndex) : "";
+        }
+
+        public boolean match(String basePackage) {
+            return basePackage.isEmpty() || this.packageName.equals(basePackage) || this.packageName.startsWith(basePackage + ".");
+        }
+    }
+}
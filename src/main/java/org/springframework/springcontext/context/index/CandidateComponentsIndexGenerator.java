@@ -0,0 +1,119 @@
+package org.springframework.springcontext.context.index;
+
+import org.springframework.springcontext.context.annotion.AnnotatedBeanDefinitionReader;
+import org.springframework.springcontext.context.annotion.ClassPathBeanDefinitionScanner;
+import org.springframework.springcore.core.io.UrlResource;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.springcore.core.type.classreading.MetadataReaderFactory;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+public final class CandidateComponentsIndexGenerator {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private CandidateComponentsIndexGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 && args.length != 2) {
+            System.err.println("Usage: CandidateComponentsIndexGenerator <classes-directory> [<output-file>]");
+            System.exit(1);
+        }
+
+        Path classesDirectory = Paths.get(args[0]);
+        Path output = args.length == 2 ? Paths.get(args[1]) : classesDirectory.resolve(CandidateComponentsIndexLoader.COMPONENTS_RESOURCE_LOCATION);
+        Map<String, Set<String>> index;
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDirectory.toUri().toURL()}, ClassUtils.getDefaultClassLoader())) {
+            index = generate(classesDirectory, classLoader);
+        }
+
+        write(index, output);
+        System.out.println("Wrote " + index.size() + " candidate components to " + output);
+    }
+
+    public static Map<String, Set<String>> generate(Path classesDirectory, ClassLoader classLoader) throws IOException {
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+        Map<String, Set<String>> index = new TreeMap();
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            Iterator var5 = files.iterator();
+
+            while(var5.hasNext()) {
+                Path file = (Path)var5.next();
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.endsWith("-info.class") && Files.isRegularFile(file)) {
+                    AnnotationMetadata metadata = metadataReaderFactory.getMetadataReader(new UrlResource(file.toUri().toURL())).getAnnotationMetadata();
+                    if (ClassPathBeanDefinitionScanner.isCandidateComponent(metadata)) {
+                        index.put(metadata.getClassName(), getStereotypes(metadata));
+                    }
+                }
+            }
+        }
+
+        return index;
+    }
+
+    private static Set<String> getStereotypes(AnnotationMetadata metadata) {
+        Set<String> stereotypes = new TreeSet();
+        Iterator var2 = metadata.getAnnotationTypes().iterator();
+
+        while(var2.hasNext()) {
+            String annotationType = (String)var2.next();
+            if (AnnotatedBeanDefinitionReader.isComponentAnnotation(annotationType)) {
+                stereotypes.add(annotationType);
+            }
+
+            Iterator var4 = metadata.getMetaAnnotationTypes(annotationType).iterator();
+
+            while(var4.hasNext()) {
+                String metaAnnotationType = (String)var4.next();
+                if (AnnotatedBeanDefinitionReader.isComponentAnnotation(metaAnnotationType)) {
+                    stereotypes.add(metaAnnotationType);
+                }
+            }
+        }
+
+        return stereotypes;
+    }
+
+    public static void write(Map<String, Set<String>> index, Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, "spring.components", ".tmp");
+
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.ISO_8859_1)) {
+                Iterator var5 = index.entrySet().iterator();
+
+                while(var5.hasNext()) {
+                    Map.Entry<String, Set<String>> entry = (Map.Entry)var5.next();
+                    writer.write((String)entry.getKey());
+                    writer.write('=');
+                    writer.write(StringUtils.collectionToCommaDelimitedString((Set)entry.getValue()));
+                    writer.newLine();
+                }
+            }
+
+            Files.move(tempFile, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+    }
+}
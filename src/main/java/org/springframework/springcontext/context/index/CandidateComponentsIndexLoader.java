@@ -0,0 +1,63 @@
+package org.springframework.springcontext.context.index;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.utils.ConcurrentReferenceHashMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+
+public final class CandidateComponentsIndexLoader {
+    public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring.components";
+    public static final String IGNORE_INDEX = "spring.index.ignore";
+    private static final boolean shouldIgnoreIndex = Boolean.getBoolean(IGNORE_INDEX);
+    private static final ConcurrentReferenceHashMap<ClassLoader, CandidateComponentsIndex> cache = new ConcurrentReferenceHashMap();
+
+    private CandidateComponentsIndexLoader() {
+    }
+
+    @Nullable
+    public static CandidateComponentsIndex loadIndex(@Nullable ClassLoader classLoader) {
+        ClassLoader classLoaderToUse = classLoader;
+        if (classLoader == null) {
+            classLoaderToUse = CandidateComponentsIndexLoader.class.getClassLoader();
+        }
+
+        return (CandidateComponentsIndex)cache.computeIfAbsent(classLoaderToUse, CandidateComponentsIndexLoader::doLoadIndex);
+    }
+
+    @Nullable
+    private static CandidateComponentsIndex doLoadIndex(ClassLoader classLoader) {
+        if (shouldIgnoreIndex) {
+            return null;
+        } else {
+            try {
+                Enumeration<URL> urls = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+                if (!urls.hasMoreElements()) {
+                    return null;
+                } else {
+                    List<Properties> result = new ArrayList();
+
+                    while(urls.hasMoreElements()) {
+                        URL url = (URL)urls.nextElement();
+                        Properties properties = new Properties();
+
+                        try (InputStream is = url.openStream()) {
+                            properties.load(is);
+                        }
+
+                        result.add(properties);
+                    }
+
+                    return result.isEmpty() ? null : new CandidateComponentsIndex(result);
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unable to load indexes from location [" + COMPONENTS_RESOURCE_LOCATION + "]", ex);
+            }
+        }
+    }
+}
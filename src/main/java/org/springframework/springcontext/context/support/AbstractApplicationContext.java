@@ -1,24 +1,86 @@
 package org.springframework.springcontext.context.support;
 
+import org.jetbrains.annotations.Nullable;
 import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanFactory;
 import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springbean.beans.factory.config.SingletonDestructionReport;
 import org.springframework.springcontext.context.ApplicationContext;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
 import org.springframework.springcontext.context.ConfigurableApplicationContext;
+import org.springframework.springcontext.context.LifecycleProcessor;
+import org.springframework.springcontext.context.MessageSource;
+import org.springframework.springcontext.context.MessageSourceResolvable;
+import org.springframework.springcontext.context.NoSuchMessageException;
+import org.springframework.springcontext.context.PayloadApplicationEvent;
+import org.springframework.springcontext.context.event.ApplicationEventMulticaster;
+import org.springframework.springcontext.context.event.ListenerDispatchQueue;
+import org.springframework.springcontext.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.springcore.core.ResolvableType;
+import org.springframework.springcore.core.metrics.StartupTimeline;
 import org.springframework.springcore.core.io.DefaultResourceLoader;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.io.ResourcePatternResolver;
+import org.springframework.springcore.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.springcore.utils.Assert;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class AbstractApplicationContext extends DefaultResourceLoader implements ConfigurableApplicationContext {
+  public static final String LIFECYCLE_PROCESSOR_BEAN_NAME = "lifecycleProcessor";
+  public static final String MESSAGE_SOURCE_BEAN_NAME = "messageSource";
+  public static final String APPLICATION_EVENT_MULTICASTER_BEAN_NAME = "applicationEventMulticaster";
+  private long startupDate;
+  private final AtomicBoolean active = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final Object startupShutdownMonitor = new Object();
+  private int preInstantiationParallelism = 1;
+  private int destructionParallelism = 1;
+  private long destructionTimeout = 30000L;
+  @Nullable
+  private Thread shutdownHook;
+  @Nullable
+  private ApplicationContext parent;
+  @Nullable
+  private volatile StartupTimeline startupTimeline = new StartupTimeline();
+  @Nullable
+  private LifecycleProcessor lifecycleProcessor;
+  @Nullable
+  private volatile Throwable lifecycleCloseFailure;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final Set<ApplicationListener<?>> applicationListeners = new LinkedHashSet();
+  @Nullable
+  private MessageSource messageSource;
+  @Nullable
+  private ApplicationEventMulticaster applicationEventMulticaster;
+  @Nullable
+  private Set<ApplicationEvent> earlyApplicationEvents;
+  private boolean asyncEventDispatch;
+  private int eventQueueCapacity = 1024;
+  private ListenerDispatchQueue.OverflowPolicy eventQueueOverflowPolicy = ListenerDispatchQueue.OverflowPolicy.BLOCK;
+
+  public AbstractApplicationContext() {
+    this.resourcePatternResolver = this.getResourcePatternResolver();
+  }
+
   @Override
   public void setId(String var1) {
 
   }
 
   @Override
-  public void setParent(ApplicationContext var1) {
-
+  public void setParent(@Nullable ApplicationContext parent) {
+    this.parent = parent;
   }
 
   @Override
@@ -37,8 +99,114 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
   }
 
   @Override
-  public void addApplicationListener(ApplicationListener<?> var1) {
+  public void addApplicationListener(ApplicationListener<?> listener) {
+    Assert.notNull(listener, "ApplicationListener must not be null");
+    if (this.applicationEventMulticaster != null) {
+      this.applicationEventMulticaster.addApplicationListener(listener);
+    }
+
+    this.applicationListeners.add(listener);
+  }
+
+  public Collection<ApplicationListener<?>> getApplicationListeners() {
+    return this.applicationListeners;
+  }
+
+  @Override
+  @Nullable
+  public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, Locale locale) {
+    return this.getMessageSource().getMessage(code, args, defaultMessage, locale);
+  }
 
+  @Override
+  public String getMessage(String code, @Nullable Object[] args, Locale locale) throws NoSuchMessageException {
+    return this.getMessageSource().getMessage(code, args, locale);
+  }
+
+  @Override
+  public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+    return this.getMessageSource().getMessage(resolvable, locale);
+  }
+
+  private MessageSource getMessageSource() throws IllegalStateException {
+    if (this.messageSource == null) {
+      throw new IllegalStateException("MessageSource not initialized - call 'refresh' before accessing messages via the context: " + this);
+    } else {
+      return this.messageSource;
+    }
+  }
+
+  @Nullable
+  protected MessageSource getInternalParentMessageSource() {
+    return (MessageSource)(this.parent instanceof AbstractApplicationContext ? ((AbstractApplicationContext)this.parent).messageSource : this.parent);
+  }
+
+  @Override
+  public void publishEvent(Object event) {
+    this.publishEvent(event, (ResolvableType)null);
+  }
+
+  protected void publishEvent(Object event, @Nullable ResolvableType eventType) {
+    Assert.notNull(event, "Event must not be null");
+    if (!this.multicastPayload(event, eventType)) {
+      ApplicationEvent applicationEvent = event instanceof ApplicationEvent ? (ApplicationEvent)event : new PayloadApplicationEvent(this, event);
+      if (this.earlyApplicationEvents != null) {
+        this.earlyApplicationEvents.add(applicationEvent);
+      } else {
+        this.getApplicationEventMulticaster().multicastEvent(applicationEvent, eventType);
+      }
+    }
+
+    if (this.parent != null) {
+      if (this.parent instanceof AbstractApplicationContext) {
+        ((AbstractApplicationContext)this.parent).publishEvent(event, eventType);
+      } else {
+        this.parent.publishEvent(event);
+      }
+    }
+
+  }
+
+  private boolean multicastPayload(Object event, @Nullable ResolvableType eventType) {
+    if (eventType == null && this.earlyApplicationEvents == null && !(event instanceof ApplicationEvent)) {
+      return this.applicationEventMulticaster instanceof SimpleApplicationEventMulticaster && ((SimpleApplicationEventMulticaster)this.applicationEventMulticaster).multicastPayload(event);
+    } else {
+      return false;
+    }
+  }
+
+  public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+    this.asyncEventDispatch = asyncEventDispatch;
+  }
+
+  public boolean isAsyncEventDispatch() {
+    return this.asyncEventDispatch;
+  }
+
+  public void setEventQueueCapacity(int eventQueueCapacity) {
+    Assert.isTrue(eventQueueCapacity > 0, "Event queue capacity must be positive");
+    this.eventQueueCapacity = eventQueueCapacity;
+  }
+
+  public int getEventQueueCapacity() {
+    return this.eventQueueCapacity;
+  }
+
+  public void setEventQueueOverflowPolicy(ListenerDispatchQueue.OverflowPolicy eventQueueOverflowPolicy) {
+    Assert.notNull(eventQueueOverflowPolicy, "OverflowPolicy must not be null");
+    this.eventQueueOverflowPolicy = eventQueueOverflowPolicy;
+  }
+
+  public ListenerDispatchQueue.OverflowPolicy getEventQueueOverflowPolicy() {
+    return this.eventQueueOverflowPolicy;
+  }
+
+  ApplicationEventMulticaster getApplicationEventMulticaster() throws IllegalStateException {
+    if (this.applicationEventMulticaster == null) {
+      throw new IllegalStateException("ApplicationEventMulticaster not initialized - call 'refresh' before multicasting events via the context: " + this);
+    } else {
+      return this.applicationEventMulticaster;
+    }
   }
 
   @Override
@@ -46,30 +214,302 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
 
   }
 
+  protected ResourcePatternResolver getResourcePatternResolver() {
+    return new PathMatchingResourcePatternResolver(this);
+  }
+
+  @Override
+  public Resource[] getResources(String locationPattern) throws IOException {
+    return this.resourcePatternResolver.getResources(locationPattern);
+  }
+
+  @Override
+  public void setPreInstantiationParallelism(int preInstantiationParallelism) {
+    Assert.isTrue(preInstantiationParallelism > 0, "Pre-instantiation parallelism must be positive");
+    this.preInstantiationParallelism = preInstantiationParallelism;
+  }
+
+  public int getPreInstantiationParallelism() {
+    return this.preInstantiationParallelism;
+  }
+
+  @Override
+  public void setDestructionParallelism(int destructionParallelism) {
+    Assert.isTrue(destructionParallelism > 0, "Destruction parallelism must be positive");
+    this.destructionParallelism = destructionParallelism;
+  }
+
+  public int getDestructionParallelism() {
+    return this.destructionParallelism;
+  }
+
+  @Override
+  public void setDestructionTimeout(long destructionTimeout) {
+    Assert.isTrue(destructionTimeout > 0L, "Destruction timeout must be positive");
+    this.destructionTimeout = destructionTimeout;
+  }
+
+  public long getDestructionTimeout() {
+    return this.destructionTimeout;
+  }
+
+  @Override
+  @Nullable
+  public SingletonDestructionReport getDestructionReport() {
+    SingletonDestructionReport report = this.getBeanFactory().getDestructionReport();
+    Throwable lifecycleFailure = this.lifecycleCloseFailure;
+    return report != null && lifecycleFailure != null ? report.withFailedDestroyer(LIFECYCLE_PROCESSOR_BEAN_NAME, lifecycleFailure) : report;
+  }
+
+  @Override
+  public void setStartupTimeline(@Nullable StartupTimeline startupTimeline) {
+    this.startupTimeline = startupTimeline;
+  }
+
+  @Override
+  @Nullable
+  public StartupTimeline getStartupTimeline() {
+    return this.startupTimeline;
+  }
+
   @Override
   public void refresh() throws BeansException, IllegalStateException {
+    synchronized(this.startupShutdownMonitor) {
+      this.prepareRefresh();
+
+      try {
+        StartupTimeline timeline = this.startupTimeline;
+        long refreshStartNanos = timeline != null ? timeline.start() : 0L;
+        this.refreshBeanFactory();
+        long stepStartNanos = this.recordStartupStep(timeline, "context.refreshBeanFactory", refreshStartNanos);
+        ConfigurableListableBeanFactory beanFactory = this.getBeanFactory();
+        beanFactory.setStartupTimeline(timeline);
+        this.postProcessBeanFactory(beanFactory);
+        stepStartNanos = this.recordStartupStep(timeline, "context.postProcessBeanFactory", stepStartNanos);
+        this.initMessageSource();
+        stepStartNanos = this.recordStartupStep(timeline, "context.initMessageSource", stepStartNanos);
+        this.initApplicationEventMulticaster();
+        this.registerListeners();
+        stepStartNanos = this.recordStartupStep(timeline, "context.registerListeners", stepStartNanos);
+        this.finishBeanFactoryInitialization();
+        stepStartNanos = this.recordStartupStep(timeline, "context.finishBeanFactoryInitialization", stepStartNanos);
+        this.finishRefresh();
+        this.recordStartupStep(timeline, "context.finishRefresh", stepStartNanos);
+        this.recordStartupStep(timeline, "context.refresh", refreshStartNanos);
+        beanFactory.setStartupTimeline((StartupTimeline)null);
+      } catch (RuntimeException | Error ex) {
+        this.cancelRefresh(ex);
+        throw ex;
+      }
+    }
+  }
+
+  protected void cancelRefresh(Throwable ex) {
+    try {
+      if (this.applicationEventMulticaster instanceof SimpleApplicationEventMulticaster) {
+        ((SimpleApplicationEventMulticaster)this.applicationEventMulticaster).shutdownDispatchQueues(this.destructionTimeout);
+      }
+
+      this.destroyBeans();
+      this.getBeanFactory().setStartupTimeline((StartupTimeline)null);
+    } catch (RuntimeException | Error cleanupEx) {
+      ex.addSuppressed(cleanupEx);
+    } finally {
+      this.active.set(false);
+    }
+
+  }
+
+  private long recordStartupStep(@Nullable StartupTimeline timeline, String stepName, long startNanos) {
+    if (timeline == null) {
+      return 0L;
+    } else {
+      timeline.record(stepName, (String)null, startNanos);
+      return timeline.start();
+    }
+  }
+
+  protected void prepareRefresh() {
+    this.startupDate = System.currentTimeMillis();
+    this.closed.set(false);
+    this.active.set(true);
+    this.earlyApplicationEvents = new LinkedHashSet();
+    StartupTimeline timeline = this.startupTimeline;
+    if (timeline != null) {
+      timeline.anchor(this.startupDate);
+    }
+  }
+
+  protected void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+  }
+
+  protected abstract void refreshBeanFactory() throws BeansException, IllegalStateException;
+
+  protected abstract void finishBeanFactoryInitialization() throws BeansException;
+
+  protected void initMessageSource() {
+    ConfigurableListableBeanFactory beanFactory = this.getBeanFactory();
+    if (beanFactory.containsLocalBean(MESSAGE_SOURCE_BEAN_NAME)) {
+      this.messageSource = (MessageSource)beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME, MessageSource.class);
+      if (this.parent != null && this.messageSource instanceof ResourceBundleMessageSource) {
+        ResourceBundleMessageSource resourceBundleMessageSource = (ResourceBundleMessageSource)this.messageSource;
+        if (resourceBundleMessageSource.getParentMessageSource() == null) {
+          resourceBundleMessageSource.setParentMessageSource(this.getInternalParentMessageSource());
+        }
+      }
+    } else {
+      ResourceBundleMessageSource resourceBundleMessageSource = new ResourceBundleMessageSource();
+      resourceBundleMessageSource.setParentMessageSource(this.getInternalParentMessageSource());
+      this.messageSource = resourceBundleMessageSource;
+      beanFactory.registerSingleton(MESSAGE_SOURCE_BEAN_NAME, this.messageSource);
+    }
+
+  }
+
+  protected void initApplicationEventMulticaster() {
+    ConfigurableListableBeanFactory beanFactory = this.getBeanFactory();
+    if (beanFactory.containsLocalBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME)) {
+      this.applicationEventMulticaster = (ApplicationEventMulticaster)beanFactory.getBean(APPLICATION_EVENT_MULTICASTER_BEAN_NAME, ApplicationEventMulticaster.class);
+    } else {
+      SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(beanFactory);
+      multicaster.setDispatchQueueCapacity(this.eventQueueCapacity);
+      multicaster.setOverflowPolicy(this.eventQueueOverflowPolicy);
+      multicaster.setAsyncDispatch(this.asyncEventDispatch);
+      this.applicationEventMulticaster = multicaster;
+      beanFactory.registerSingleton(APPLICATION_EVENT_MULTICASTER_BEAN_NAME, this.applicationEventMulticaster);
+    }
+
+  }
+
+  protected void registerListeners() {
+    ApplicationEventMulticaster multicaster = this.getApplicationEventMulticaster();
+    Iterator var2 = this.getApplicationListeners().iterator();
+
+    while(var2.hasNext()) {
+      ApplicationListener<?> listener = (ApplicationListener)var2.next();
+      multicaster.addApplicationListener(listener);
+    }
+
+    String[] listenerBeanNames = this.getBeanFactory().getBeanNamesForType(ApplicationListener.class, true, false);
+    String[] var4 = listenerBeanNames;
+    int var5 = listenerBeanNames.length;
+
+    for(int var6 = 0; var6 < var5; ++var6) {
+      String listenerBeanName = var4[var6];
+      multicaster.addApplicationListenerBean(listenerBeanName);
+    }
+
+    Set<ApplicationEvent> earlyEventsToProcess = this.earlyApplicationEvents;
+    this.earlyApplicationEvents = null;
+    if (earlyEventsToProcess != null) {
+      Iterator var8 = earlyEventsToProcess.iterator();
+
+      while(var8.hasNext()) {
+        ApplicationEvent earlyEvent = (ApplicationEvent)var8.next();
+        multicaster.multicastEvent(earlyEvent);
+      }
+    }
+
+  }
+
+  protected void finishRefresh() {
+    this.initLifecycleProcessor();
+    this.getLifecycleProcessor().onRefresh();
+  }
+
+  protected void initLifecycleProcessor() {
+    ConfigurableListableBeanFactory beanFactory = this.getBeanFactory();
+    if (beanFactory.containsLocalBean(LIFECYCLE_PROCESSOR_BEAN_NAME)) {
+      this.lifecycleProcessor = (LifecycleProcessor)beanFactory.getBean(LIFECYCLE_PROCESSOR_BEAN_NAME, LifecycleProcessor.class);
+    } else {
+      this.lifecycleProcessor = new DefaultLifecycleProcessor(beanFactory);
+      beanFactory.registerSingleton(LIFECYCLE_PROCESSOR_BEAN_NAME, this.lifecycleProcessor);
+    }
+
+  }
 
+  LifecycleProcessor getLifecycleProcessor() throws IllegalStateException {
+    if (this.lifecycleProcessor == null) {
+      throw new IllegalStateException("LifecycleProcessor not initialized - call 'refresh' before invoking lifecycle methods via the context: " + this);
+    } else {
+      return this.lifecycleProcessor;
+    }
   }
 
   @Override
   public void registerShutdownHook() {
-
+    synchronized(this.startupShutdownMonitor) {
+      if (this.shutdownHook == null) {
+        this.shutdownHook = new Thread(SHUTDOWN_HOOK_THREAD_NAME) {
+          @Override
+          public void run() {
+            synchronized(AbstractApplicationContext.this.startupShutdownMonitor) {
+              AbstractApplicationContext.this.doClose();
+            }
+          }
+        };
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+      }
+    }
   }
 
   @Override
   public void close() {
-
+    synchronized(this.startupShutdownMonitor) {
+      this.doClose();
+      if (this.shutdownHook != null) {
+        try {
+          Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+        } catch (IllegalStateException ex) {
+        }
+      }
+    }
+  }
+
+  protected void doClose() {
+    if (this.active.get() && this.closed.compareAndSet(false, true)) {
+      StartupTimeline timeline = this.startupTimeline;
+      long closeStartNanos = timeline != null ? timeline.start() : 0L;
+      this.lifecycleCloseFailure = null;
+      if (this.lifecycleProcessor != null) {
+        try {
+          this.lifecycleProcessor.onClose();
+        } catch (RuntimeException ex) {
+          this.lifecycleCloseFailure = ex;
+        }
+      }
+
+      long stepStartNanos = this.recordStartupStep(timeline, "context.stopLifecycleBeans", closeStartNanos);
+      if (this.applicationEventMulticaster instanceof SimpleApplicationEventMulticaster) {
+        ((SimpleApplicationEventMulticaster)this.applicationEventMulticaster).shutdownDispatchQueues(this.destructionTimeout);
+        stepStartNanos = this.recordStartupStep(timeline, "context.drainEventQueues", stepStartNanos);
+      }
+
+      this.destroyBeans();
+      this.recordStartupStep(timeline, "context.destroyBeans", stepStartNanos);
+      this.onClose();
+      this.recordStartupStep(timeline, "context.close", closeStartNanos);
+      this.active.set(false);
+    }
+  }
+
+  protected void destroyBeans() {
+    ConfigurableListableBeanFactory beanFactory = this.getBeanFactory();
+    beanFactory.setDestructionParallelism(this.destructionParallelism);
+    beanFactory.setDestructionTimeout(this.destructionTimeout);
+    beanFactory.destroySingletons();
+  }
+
+  protected void onClose() {
   }
 
   @Override
   public boolean isActive() {
-    return false;
+    return this.active.get();
   }
 
   @Override
-  public ConfigurableListableBeanFactory getBeanFactory() throws IllegalStateException {
-    return null;
-  }
+  public abstract ConfigurableListableBeanFactory getBeanFactory() throws IllegalStateException;
 
   @Override
   public String getId() {
@@ -88,12 +528,28 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
 
   @Override
   public long getStartupDate() {
-    return 0;
+    return this.startupDate;
   }
 
   @Override
+  @Nullable
   public ApplicationContext getParent() {
-    return null;
+    return this.parent;
+  }
+
+  @Nullable
+  protected BeanFactory getInternalParentBeanFactory() {
+    return (BeanFactory)(this.parent instanceof ConfigurableApplicationContext ? ((ConfigurableApplicationContext)this.parent).getBeanFactory() : this.parent);
+  }
+
+  @Override
+  public BeanFactory getParentBeanFactory() {
+    return this.getParent();
+  }
+
+  @Override
+  public boolean containsLocalBean(String name) {
+    return this.getBeanFactory().containsLocalBean(name);
   }
 
   @Override
@@ -102,132 +558,132 @@ public abstract class AbstractApplicationContext extends DefaultResourceLoader i
   }
 
   @Override
-  public boolean containsBeanDefinition(String var1) {
-    return false;
+  public boolean containsBeanDefinition(String beanName) {
+    return this.getBeanFactory().containsBeanDefinition(beanName);
   }
 
   @Override
   public int getBeanDefinitionCount() {
-    return 0;
+    return this.getBeanFactory().getBeanDefinitionCount();
   }
 
   @Override
   public String[] getBeanDefinitionNames() {
-    return new String[0];
+    return this.getBeanFactory().getBeanDefinitionNames();
   }
 
   @Override
-  public String[] getBeanNamesForType(ResolvableType var1) {
-    return new String[0];
+  public String[] getBeanNamesForType(ResolvableType type) {
+    return this.getBeanFactory().getBeanNamesForType(type);
   }
 
   @Override
-  public String[] getBeanNamesForType(Class<?> var1) {
-    return new String[0];
+  public String[] getBeanNamesForType(@Nullable Class<?> type) {
+    return this.getBeanFactory().getBeanNamesForType(type);
   }
 
   @Override
-  public String[] getBeanNamesForType(Class<?> var1, boolean var2, boolean var3) {
-    return new String[0];
+  public String[] getBeanNamesForType(@Nullable Class<?> type, boolean includeNonSingletons, boolean allowEagerInit) {
+    return this.getBeanFactory().getBeanNamesForType(type, includeNonSingletons, allowEagerInit);
   }
 
   @Override
-  public <T> Map<String, T> getBeansOfType(Class<T> var1) throws BeansException {
-    return null;
+  public <T> Map<String, T> getBeansOfType(@Nullable Class<T> type) throws BeansException {
+    return this.getBeanFactory().getBeansOfType(type);
   }
 
   @Override
-  public <T> Map<String, T> getBeansOfType(Class<T> var1, boolean var2, boolean var3) throws BeansException {
-    return null;
+  public <T> Map<String, T> getBeansOfType(@Nullable Class<T> type, boolean includeNonSingletons, boolean allowEagerInit) throws BeansException {
+    return this.getBeanFactory().getBeansOfType(type, includeNonSingletons, allowEagerInit);
   }
 
   @Override
-  public String[] getBeanNamesForAnnotation(Class<? extends Annotation> var1) {
-    return new String[0];
+  public String[] getBeanNamesForAnnotation(Class<? extends Annotation> annotationType) {
+    return this.getBeanFactory().getBeanNamesForAnnotation(annotationType);
   }
 
   @Override
-  public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> var1) throws BeansException {
-    return null;
+  public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) throws BeansException {
+    return this.getBeanFactory().getBeansWithAnnotation(annotationType);
   }
 
   @Override
-  public <A extends Annotation> A findAnnotationOnBean(String var1, Class<A> var2) throws NoSuchBeanDefinitionException {
-    return null;
+  public <A extends Annotation> A findAnnotationOnBean(String beanName, Class<A> annotationType) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().findAnnotationOnBean(beanName, annotationType);
   }
 
   @Override
-  public Object getBean(String var1) throws BeansException {
-    return null;
+  public Object getBean(String name) throws BeansException {
+    return this.getBeanFactory().getBean(name);
   }
 
   @Override
-  public <T> T getBean(String var1, Class<T> var2) throws BeansException {
-    return null;
+  public <T> T getBean(String name, @Nullable Class<T> requiredType) throws BeansException {
+    return this.getBeanFactory().getBean(name, requiredType);
   }
 
   @Override
-  public Object getBean(String var1, Object... var2) throws BeansException {
-    return null;
+  public Object getBean(String name, Object... args) throws BeansException {
+    return this.getBeanFactory().getBean(name, args);
   }
 
   @Override
-  public <T> T getBean(Class<T> var1) throws BeansException {
-    return null;
+  public <T> T getBean(Class<T> requiredType) throws BeansException {
+    return this.getBeanFactory().getBean(requiredType);
   }
 
   @Override
-  public <T> T getBean(Class<T> var1, Object... var2) throws BeansException {
-    return null;
+  public <T> T getBean(Class<T> requiredType, Object... args) throws BeansException {
+    return this.getBeanFactory().getBean(requiredType, args);
   }
 
   @Override
-  public boolean containsBean(String var1) {
-    return false;
+  public boolean containsBean(String name) {
+    return this.getBeanFactory().containsBean(name);
   }
 
   @Override
-  public boolean isSingleton(String var1) throws NoSuchBeanDefinitionException {
-    return false;
+  public boolean isSingleton(String name) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().isSingleton(name);
   }
 
   @Override
-  public boolean isPrototype(String var1) throws NoSuchBeanDefinitionException {
-    return false;
+  public boolean isPrototype(String name) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().isPrototype(name);
   }
 
   @Override
-  public boolean isTypeMatch(String var1, ResolvableType var2) throws NoSuchBeanDefinitionException {
-    return false;
+  public boolean isTypeMatch(String name, ResolvableType typeToMatch) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().isTypeMatch(name, typeToMatch);
   }
 
   @Override
-  public boolean isTypeMatch(String var1, Class<?> var2) throws NoSuchBeanDefinitionException {
-    return false;
+  public boolean isTypeMatch(String name, @Nullable Class<?> typeToMatch) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().isTypeMatch(name, typeToMatch);
   }
 
   @Override
-  public Class<?> getType(String var1) throws NoSuchBeanDefinitionException {
-    return null;
+  public Class<?> getType(String name) throws NoSuchBeanDefinitionException {
+    return this.getBeanFactory().getType(name);
   }
 
   @Override
-  public String[] getAliases(String var1) {
-    return new String[0];
+  public String[] getAliases(String name) {
+    return this.getBeanFactory().getAliases(name);
   }
 
   @Override
   public void start() {
-
+    this.getLifecycleProcessor().start();
   }
 
   @Override
   public void stop() {
-
+    this.getLifecycleProcessor().stop();
   }
 
   @Override
   public boolean isRunning() {
-    return false;
+    return this.lifecycleProcessor != null && this.lifecycleProcessor.isRunning();
   }
 }
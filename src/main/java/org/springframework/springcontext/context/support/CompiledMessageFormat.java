@@ -0,0 +1,136 @@
+package org.springframework.springcontext.context.support;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+final class CompiledMessageFormat {
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+  private final String message;
+  private final Locale locale;
+  @Nullable
+  private final String[] literals;
+  @Nullable
+  private final int[] argumentIndexes;
+  @Nullable
+  private final MessageFormat prototype;
+
+  CompiledMessageFormat(String message, Locale locale) {
+    this.message = message;
+    this.locale = locale;
+    List<String> literalList = new ArrayList();
+    List<Integer> indexList = new ArrayList();
+    if (parseSimplePattern(message, literalList, indexList)) {
+      this.literals = (String[])literalList.toArray(new String[0]);
+      this.argumentIndexes = new int[indexList.size()];
+
+      for(int i = 0; i < this.argumentIndexes.length; ++i) {
+        this.argumentIndexes[i] = (Integer)indexList.get(i);
+      }
+
+      this.prototype = null;
+    } else {
+      this.literals = null;
+      this.argumentIndexes = null;
+      this.prototype = createPrototype(message, locale);
+    }
+
+  }
+
+  String getMessage() {
+    return this.message;
+  }
+
+  String format(@Nullable Object[] args) {
+    Object[] arguments = args != null ? args : NO_ARGUMENTS;
+    if (this.literals != null && this.argumentIndexes != null) {
+      StringBuilder sb = new StringBuilder(this.message.length() + this.argumentIndexes.length * 16);
+
+      for(int i = 0; i < this.argumentIndexes.length; ++i) {
+        sb.append(this.literals[i]);
+        int argumentIndex = this.argumentIndexes[i];
+        if (argumentIndex >= arguments.length) {
+          sb.append('{').append(argumentIndex).append('}');
+        } else {
+          this.appendArgument(sb, arguments[argumentIndex]);
+        }
+      }
+
+      return sb.append(this.literals[this.argumentIndexes.length]).toString();
+    } else if (this.prototype != null) {
+      return ((MessageFormat)this.prototype.clone()).format(arguments);
+    } else {
+      return (new MessageFormat(this.message, this.locale)).format(arguments);
+    }
+  }
+
+  private void appendArgument(StringBuilder sb, @Nullable Object argument) {
+    if (argument == null) {
+      sb.append("null");
+    } else if (argument instanceof Number) {
+      sb.append(NumberFormat.getInstance(this.locale).format(argument));
+    } else if (argument instanceof Date) {
+      sb.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, this.locale).format(argument));
+    } else if (argument instanceof String) {
+      sb.append((String)argument);
+    } else {
+      sb.append(argument.toString());
+    }
+
+  }
+
+  @Nullable
+  private static MessageFormat createPrototype(String message, Locale locale) {
+    try {
+      return new MessageFormat(message, locale);
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  private static boolean parseSimplePattern(String pattern, List<String> literals, List<Integer> argumentIndexes) {
+    StringBuilder literal = new StringBuilder(pattern.length());
+    boolean inQuote = false;
+    int length = pattern.length();
+
+    for(int i = 0; i < length; ++i) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+          literal.append('\'');
+          ++i;
+        } else {
+          inQuote = !inQuote;
+        }
+      } else if (c == '{' && !inQuote) {
+        int end = pattern.indexOf('}', i + 1);
+        if (end == -1 || end == i + 1 || end - i - 1 > 9) {
+          return false;
+        }
+
+        for(int j = i + 1; j < end; ++j) {
+          char digit = pattern.charAt(j);
+          if (digit < '0' || digit > '9') {
+            return false;
+          }
+        }
+
+        literals.add(literal.toString());
+        argumentIndexes.add(Integer.parseInt(pattern.substring(i + 1, end)));
+        literal.setLength(0);
+        i = end;
+      } else {
+        literal.append(c);
+      }
+    }
+
+    literals.add(literal.toString());
+    return true;
+  }
+}
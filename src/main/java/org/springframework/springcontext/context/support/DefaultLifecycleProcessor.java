@@ -0,0 +1,393 @@
+package org.springframework.springcontext.context.support;
+
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springcontext.context.Lifecycle;
+import org.springframework.springcontext.context.LifecycleProcessor;
+import org.springframework.springcontext.context.Phased;
+import org.springframework.springcontext.context.SmartLifecycle;
+import org.springframework.springcore.core.metrics.StartupTimeline;
+import org.springframework.springcore.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DefaultLifecycleProcessor implements LifecycleProcessor {
+  private final ConfigurableListableBeanFactory beanFactory;
+  private long timeoutPerPhase = 30000L;
+  private int concurrency = Math.max(4, Runtime.getRuntime().availableProcessors());
+  private volatile boolean running;
+  private volatile List<String> lastStopTimedOutBeans = Collections.emptyList();
+  private volatile Map<String, Throwable> lastStopFailures = Collections.emptyMap();
+
+  public DefaultLifecycleProcessor(ConfigurableListableBeanFactory beanFactory) {
+    Assert.notNull(beanFactory, "BeanFactory must not be null");
+    this.beanFactory = beanFactory;
+  }
+
+  public void setTimeoutPerPhase(long timeoutPerPhase) {
+    Assert.isTrue(timeoutPerPhase > 0L, "Timeout per phase must be positive");
+    this.timeoutPerPhase = timeoutPerPhase;
+  }
+
+  public long getTimeoutPerPhase() {
+    return this.timeoutPerPhase;
+  }
+
+  public void setConcurrency(int concurrency) {
+    Assert.isTrue(concurrency > 0, "Concurrency must be positive");
+    this.concurrency = concurrency;
+  }
+
+  public int getConcurrency() {
+    return this.concurrency;
+  }
+
+  public List<String> getLastStopTimedOutBeans() {
+    return this.lastStopTimedOutBeans;
+  }
+
+  public List<String> getLastStopFailedBeans() {
+    return Collections.unmodifiableList(new ArrayList(this.lastStopFailures.keySet()));
+  }
+
+  public Map<String, Throwable> getLastStopFailures() {
+    return this.lastStopFailures;
+  }
+
+  @Override
+  public void start() {
+    this.startBeans(false);
+    this.running = true;
+  }
+
+  @Override
+  public void stop() {
+    this.stopBeans();
+    this.running = false;
+  }
+
+  @Override
+  public void onRefresh() {
+    this.startBeans(true);
+    this.running = true;
+  }
+
+  @Override
+  public void onClose() {
+    this.stopBeans();
+    this.running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  private void startBeans(boolean autoStartupOnly) {
+    Map<String, Lifecycle> lifecycleBeans = this.getLifecycleBeans();
+    Map<String, Lifecycle> startBeans = new LinkedHashMap();
+    lifecycleBeans.forEach((beanName, bean) -> {
+      if (!bean.isRunning() && (!autoStartupOnly || bean instanceof SmartLifecycle && ((SmartLifecycle)bean).isAutoStartup())) {
+        this.addWithDependencies(beanName, lifecycleBeans, startBeans);
+      }
+
+    });
+    NavigableMap<Integer, Map<String, Lifecycle>> phases = this.groupByPhase(startBeans, true);
+    NavigableMap<Integer, Map<String, Lifecycle>> startedPhases = new TreeMap();
+    Iterator var5 = phases.entrySet().iterator();
+
+    while(var5.hasNext()) {
+      Map.Entry<Integer, Map<String, Lifecycle>> phase = (Map.Entry)var5.next();
+      ExecutorService executor = this.createExecutor("lifecycle-start-");
+      Map<String, CompletableFuture<Void>> futures = this.schedulePhase((Map)phase.getValue(), true, executor);
+      IllegalStateException failure = null;
+
+      try {
+        CompletableFuture.allOf((CompletableFuture[])futures.values().toArray(new CompletableFuture[0])).get(this.timeoutPerPhase, TimeUnit.MILLISECONDS);
+        startedPhases.put(phase.getKey(), phase.getValue());
+      } catch (ExecutionException ex) {
+        failure = new IllegalStateException("Failed to start lifecycle beans in phase " + phase.getKey(), ex.getCause());
+      } catch (TimeoutException ex) {
+        failure = new IllegalStateException("Failed to start lifecycle beans in phase " + phase.getKey() + " within timeout of " + this.timeoutPerPhase + " ms: " + this.getIncompleteBeans(futures));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        failure = new IllegalStateException("Interrupted while starting lifecycle beans in phase " + phase.getKey(), ex);
+      } finally {
+        executor.shutdownNow();
+      }
+
+      if (failure != null) {
+        startedPhases.put(phase.getKey(), this.getStartedBeans((Map)phase.getValue(), futures));
+        this.stopPhases(startedPhases);
+        throw failure;
+      }
+    }
+
+  }
+
+  private Map<String, Lifecycle> getStartedBeans(Map<String, Lifecycle> phaseBeans, Map<String, CompletableFuture<Void>> futures) {
+    Map<String, Lifecycle> startedBeans = new LinkedHashMap();
+    futures.forEach((beanName, future) -> {
+      if (future.isDone() && !future.isCompletedExceptionally()) {
+        startedBeans.put(beanName, phaseBeans.get(beanName));
+      }
+
+    });
+    return startedBeans;
+  }
+
+  private void stopBeans() {
+    Map<String, Lifecycle> stopBeans = new LinkedHashMap();
+    this.getLifecycleBeans().forEach((beanName, bean) -> {
+      if (bean.isRunning()) {
+        stopBeans.put(beanName, bean);
+      }
+
+    });
+    this.stopPhases(this.groupByPhase(stopBeans, false));
+  }
+
+  private void stopPhases(NavigableMap<Integer, Map<String, Lifecycle>> phases) {
+    List<String> timedOutBeans = new ArrayList();
+    Map<String, Throwable> failures = new LinkedHashMap();
+    Iterator var4 = phases.descendingMap().entrySet().iterator();
+
+    while(var4.hasNext()) {
+      Map.Entry<Integer, Map<String, Lifecycle>> phase = (Map.Entry)var4.next();
+      ExecutorService executor = this.createExecutor("lifecycle-stop-");
+      Map<String, CompletableFuture<Void>> futures = this.schedulePhase((Map)phase.getValue(), false, executor);
+
+      try {
+        CompletableFuture.allOf((CompletableFuture[])futures.values().toArray(new CompletableFuture[0])).get(this.timeoutPerPhase, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException ex) {
+        this.collectFailures(futures, failures);
+      } catch (TimeoutException ex) {
+        this.collectFailures(futures, failures);
+        timedOutBeans.addAll(this.getIncompleteBeans(futures));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        timedOutBeans.addAll(this.getIncompleteBeans(futures));
+        break;
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    this.lastStopTimedOutBeans = Collections.unmodifiableList(timedOutBeans);
+    this.lastStopFailures = Collections.unmodifiableMap(failures);
+  }
+
+  private void addWithDependencies(String beanName, Map<String, Lifecycle> lifecycleBeans, Map<String, Lifecycle> startBeans) {
+    Lifecycle bean = (Lifecycle)lifecycleBeans.get(beanName);
+    if (bean != null && !bean.isRunning() && !startBeans.containsKey(beanName)) {
+      startBeans.put(beanName, bean);
+      String[] var5 = this.beanFactory.getDependenciesForBean(beanName);
+      int var6 = var5.length;
+
+      for(int var7 = 0; var7 < var6; ++var7) {
+        String dependency = var5[var7];
+        this.addWithDependencies(dependency, lifecycleBeans, startBeans);
+      }
+    }
+
+  }
+
+  private NavigableMap<Integer, Map<String, Lifecycle>> groupByPhase(Map<String, Lifecycle> beans, boolean starting) {
+    Map<String, Integer> beanPhases = new HashMap(beans.size() * 2);
+    beans.forEach((beanName, bean) -> {
+      beanPhases.put(beanName, this.getPhase(bean));
+    });
+    List<String> pending = new ArrayList(beans.keySet());
+
+    while(!pending.isEmpty()) {
+      String beanName = (String)pending.remove(pending.size() - 1);
+      int phase = (Integer)beanPhases.get(beanName);
+      String[] relatedBeans = starting ? this.beanFactory.getDependenciesForBean(beanName) : this.beanFactory.getDependentBeans(beanName);
+      String[] var7 = relatedBeans;
+      int var8 = relatedBeans.length;
+
+      for(int var9 = 0; var9 < var8; ++var9) {
+        String relatedBean = var7[var9];
+        Integer relatedPhase = (Integer)beanPhases.get(relatedBean);
+        if (relatedPhase != null && (starting ? relatedPhase > phase : relatedPhase < phase)) {
+          beanPhases.put(relatedBean, phase);
+          pending.add(relatedBean);
+        }
+      }
+    }
+
+    NavigableMap<Integer, Map<String, Lifecycle>> phases = new TreeMap();
+    beans.forEach((beanName, bean) -> {
+      ((Map)phases.computeIfAbsent(beanPhases.get(beanName), (key) -> {
+        return new LinkedHashMap();
+      })).put(beanName, bean);
+    });
+    return phases;
+  }
+
+  private void collectFailures(Map<String, CompletableFuture<Void>> futures, Map<String, Throwable> failures) {
+    futures.forEach((beanName, future) -> {
+      if (future.isCompletedExceptionally()) {
+        Throwable failure = (Throwable)future.handle((result, ex) -> {
+          return ex;
+        }).join();
+        failures.put(beanName, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+      }
+
+    });
+  }
+
+  private Map<String, CompletableFuture<Void>> schedulePhase(Map<String, Lifecycle> phaseBeans, boolean starting, ExecutorService executor) {
+    Map<String, CompletableFuture<Void>> futures = new HashMap(phaseBeans.size() * 2);
+    Set<String> inProgress = new HashSet();
+    Iterator var6 = phaseBeans.keySet().iterator();
+
+    while(var6.hasNext()) {
+      String beanName = (String)var6.next();
+      this.schedule(beanName, phaseBeans, futures, inProgress, starting, executor);
+    }
+
+    return futures;
+  }
+
+  private CompletableFuture<Void> schedule(String beanName, Map<String, Lifecycle> phaseBeans, Map<String, CompletableFuture<Void>> futures, Set<String> inProgress, boolean starting, ExecutorService executor) {
+    CompletableFuture<Void> future = (CompletableFuture)futures.get(beanName);
+    if (future != null) {
+      return future;
+    } else {
+      inProgress.add(beanName);
+      String[] relatedBeans = starting ? this.beanFactory.getDependenciesForBean(beanName) : this.beanFactory.getDependentBeans(beanName);
+      List<CompletableFuture<Void>> prerequisites = new ArrayList(relatedBeans.length);
+      String[] var10 = relatedBeans;
+      int var11 = relatedBeans.length;
+
+      for(int var12 = 0; var12 < var11; ++var12) {
+        String relatedBean = var10[var12];
+        if (phaseBeans.containsKey(relatedBean) && !inProgress.contains(relatedBean)) {
+          prerequisites.add(this.schedule(relatedBean, phaseBeans, futures, inProgress, starting, executor));
+        }
+      }
+
+      inProgress.remove(beanName);
+      Lifecycle bean = (Lifecycle)phaseBeans.get(beanName);
+      CompletableFuture<Void> ready = CompletableFuture.allOf((CompletableFuture[])prerequisites.toArray(new CompletableFuture[0]));
+      if (starting) {
+        future = ready.thenRunAsync(() -> {
+          this.doStart(beanName, bean);
+        }, executor);
+      } else {
+        future = ready.handle((result, ex) -> {
+          return null;
+        }).thenComposeAsync((ignored) -> {
+          return this.doStop(beanName, bean);
+        }, executor);
+      }
+
+      futures.put(beanName, future);
+      return future;
+    }
+  }
+
+  private void doStart(String beanName, Lifecycle bean) {
+    StartupTimeline timeline = this.beanFactory.getStartupTimeline();
+    long startNanos = timeline != null ? timeline.start() : 0L;
+    bean.start();
+    if (timeline != null) {
+      timeline.record("lifecycle.start", beanName, startNanos);
+    }
+
+  }
+
+  private CompletableFuture<Void> doStop(String beanName, Lifecycle bean) {
+    StartupTimeline timeline = this.beanFactory.getStartupTimeline();
+    long startNanos = timeline != null ? timeline.start() : 0L;
+    CompletableFuture<Void> stopped = new CompletableFuture();
+    Runnable callback = () -> {
+      if (timeline != null) {
+        timeline.record("lifecycle.stop", beanName, startNanos);
+      }
+
+      stopped.complete(null);
+    };
+
+    try {
+      if (bean instanceof SmartLifecycle) {
+        ((SmartLifecycle)bean).stop(callback);
+      } else {
+        bean.stop();
+        callback.run();
+      }
+    } catch (Throwable ex) {
+      stopped.completeExceptionally(ex);
+    }
+
+    return stopped;
+  }
+
+  private List<String> getIncompleteBeans(Map<String, CompletableFuture<Void>> futures) {
+    List<String> incomplete = new ArrayList();
+    futures.forEach((beanName, future) -> {
+      if (!future.isDone()) {
+        incomplete.add(beanName);
+      }
+
+    });
+    return incomplete;
+  }
+
+  private ExecutorService createExecutor(String threadNamePrefix) {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = (runnable) -> {
+      Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return Executors.newFixedThreadPool(this.concurrency, threadFactory);
+  }
+
+  protected Map<String, Lifecycle> getLifecycleBeans() {
+    Map<String, Lifecycle> beans = new LinkedHashMap();
+    String[] beanNames = this.beanFactory.getBeanNamesForType(Lifecycle.class, false, true);
+    String[] var3 = beanNames;
+    int var4 = beanNames.length;
+
+    for(int var5 = 0; var5 < var4; ++var5) {
+      String beanName = var3[var5];
+      if (this.beanFactory.containsSingleton(beanName) || this.beanFactory.isTypeMatch(beanName, SmartLifecycle.class)) {
+        Object bean = this.beanFactory.getBean(beanName);
+        if (bean != this && bean instanceof Lifecycle) {
+          beans.put(beanName, (Lifecycle)bean);
+        }
+      }
+    }
+
+    return beans;
+  }
+
+  protected int getPhase(Lifecycle bean) {
+    return bean instanceof Phased ? ((Phased)bean).getPhase() : 0;
+  }
+
+  @Override
+  public String toString() {
+    return "DefaultLifecycleProcessor: timeoutPerPhase=" + this.timeoutPerPhase + ", concurrency=" + this.concurrency;
+  }
+}
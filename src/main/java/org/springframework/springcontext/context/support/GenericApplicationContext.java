@@ -1,6 +1,109 @@
 package org.springframework.springcontext.context.support;
 
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springbean.beans.BeansException;
+import org.springframework.springbean.beans.factory.BeanDefinitionStoreException;
+import org.springframework.springbean.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.springbean.beans.factory.config.SingletonPreInstantiationReport;
+import org.springframework.springbean.beans.factory.support.BeanDefinitionRegistrationReport;
 import org.springframework.springbean.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.springbean.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.springcontext.context.ApplicationContext;
+import org.springframework.springcore.utils.Assert;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class GenericApplicationContext extends AbstractApplicationContext  implements BeanDefinitionRegistry {
+  private final DefaultListableBeanFactory beanFactory;
+  private final AtomicBoolean refreshed = new AtomicBoolean();
+
+  public GenericApplicationContext() {
+    this.beanFactory = new DefaultListableBeanFactory();
+  }
+
+  public GenericApplicationContext(DefaultListableBeanFactory beanFactory) {
+    Assert.notNull(beanFactory, "BeanFactory must not be null");
+    this.beanFactory = beanFactory;
+  }
+
+  @Override
+  public void setParent(@Nullable ApplicationContext parent) {
+    super.setParent(parent);
+    this.beanFactory.setParentBeanFactory(this.getInternalParentBeanFactory());
+  }
+
+  public void setAllowBeanDefinitionOverriding(boolean allowBeanDefinitionOverriding) {
+    this.beanFactory.setAllowBeanDefinitionOverriding(allowBeanDefinitionOverriding);
+  }
+
+  public final DefaultListableBeanFactory getDefaultListableBeanFactory() {
+    return this.beanFactory;
+  }
+
+  @Override
+  protected final void refreshBeanFactory() throws IllegalStateException {
+    if (!this.refreshed.compareAndSet(false, true)) {
+      throw new IllegalStateException("GenericApplicationContext does not support multiple refresh attempts: just call 'refresh' once");
+    }
+  }
+
+  @Override
+  protected void finishBeanFactoryInitialization() throws BeansException {
+    this.beanFactory.setPreInstantiationParallelism(this.getPreInstantiationParallelism());
+    this.beanFactory.preInstantiateSingletons();
+  }
+
+  @Override
+  public final ConfigurableListableBeanFactory getBeanFactory() {
+    return this.beanFactory;
+  }
+
+  @Override
+  public SingletonPreInstantiationReport getPreInstantiationReport() {
+    return this.beanFactory.getPreInstantiationReport();
+  }
+
+  @Override
+  public void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) throws BeanDefinitionStoreException {
+    this.beanFactory.registerBeanDefinition(beanName, beanDefinition);
+  }
+
+  @Override
+  public BeanDefinitionRegistrationReport registerBeanDefinitions(Map<String, BeanDefinition> beanDefinitions) throws BeanDefinitionStoreException {
+    return this.beanFactory.registerBeanDefinitions(beanDefinitions);
+  }
+
+  @Override
+  public void removeBeanDefinition(String beanName) throws NoSuchBeanDefinitionException {
+    this.beanFactory.removeBeanDefinition(beanName);
+  }
+
+  @Override
+  public BeanDefinition getBeanDefinition(String beanName) throws NoSuchBeanDefinitionException {
+    return this.beanFactory.getBeanDefinition(beanName);
+  }
+
+  @Override
+  public boolean isBeanNameInUse(String beanName) {
+    return this.beanFactory.isBeanNameInUse(beanName);
+  }
+
+  @Override
+  public void registerAlias(String beanName, String alias) {
+    this.beanFactory.registerAlias(beanName, alias);
+  }
+
+  @Override
+  public void removeAlias(String alias) {
+    this.beanFactory.removeAlias(alias);
+  }
+
+  @Override
+  public boolean isAlias(String beanName) {
+    return this.beanFactory.isAlias(beanName);
+  }
+
 }
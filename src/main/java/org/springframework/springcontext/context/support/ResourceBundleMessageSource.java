@@ -0,0 +1,250 @@
+package org.springframework.springcontext.context.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcontext.context.MessageSource;
+import org.springframework.springcontext.context.MessageSourceResolvable;
+import org.springframework.springcontext.context.NoSuchMessageException;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+import org.springframework.springcore.utils.ObjectUtils;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ResourceBundleMessageSource implements MessageSource {
+  private static final CompiledMessageFormat NO_MESSAGE = new CompiledMessageFormat("", Locale.ROOT);
+  private final Set<String> basenameSet = new LinkedHashSet(4);
+  private final ConcurrentMap<Locale, ConcurrentMap<String, CompiledMessageFormat>> cachedMessages = new ConcurrentHashMap(8);
+  @Nullable
+  private ClassLoader bundleClassLoader;
+  @Nullable
+  private MessageSource parentMessageSource;
+  private boolean useCodeAsDefaultMessage = false;
+  private boolean alwaysUseMessageFormat = false;
+
+  public ResourceBundleMessageSource() {
+  }
+
+  public void setBasename(String basename) {
+    this.setBasenames(basename);
+  }
+
+  public void setBasenames(String... basenames) {
+    this.basenameSet.clear();
+    this.addBasenames(basenames);
+  }
+
+  public void addBasenames(String... basenames) {
+    if (!ObjectUtils.isEmpty(basenames)) {
+      String[] var2 = basenames;
+      int var3 = basenames.length;
+
+      for(int var4 = 0; var4 < var3; ++var4) {
+        String basename = var2[var4];
+        Assert.hasText(basename, "Basename must not be empty");
+        this.basenameSet.add(basename.trim());
+      }
+    }
+
+    this.clearCache();
+  }
+
+  public Set<String> getBasenameSet() {
+    return Collections.unmodifiableSet(this.basenameSet);
+  }
+
+  public void setBundleClassLoader(@Nullable ClassLoader bundleClassLoader) {
+    this.bundleClassLoader = bundleClassLoader;
+    this.clearCache();
+  }
+
+  @Nullable
+  public ClassLoader getBundleClassLoader() {
+    return this.bundleClassLoader != null ? this.bundleClassLoader : ClassUtils.getDefaultClassLoader();
+  }
+
+  public void setParentMessageSource(@Nullable MessageSource parentMessageSource) {
+    this.parentMessageSource = parentMessageSource;
+  }
+
+  @Nullable
+  public MessageSource getParentMessageSource() {
+    return this.parentMessageSource;
+  }
+
+  public void setUseCodeAsDefaultMessage(boolean useCodeAsDefaultMessage) {
+    this.useCodeAsDefaultMessage = useCodeAsDefaultMessage;
+  }
+
+  public boolean isUseCodeAsDefaultMessage() {
+    return this.useCodeAsDefaultMessage;
+  }
+
+  public void setAlwaysUseMessageFormat(boolean alwaysUseMessageFormat) {
+    this.alwaysUseMessageFormat = alwaysUseMessageFormat;
+  }
+
+  public boolean isAlwaysUseMessageFormat() {
+    return this.alwaysUseMessageFormat;
+  }
+
+  public void clearCache() {
+    this.cachedMessages.clear();
+  }
+
+  @Override
+  @Nullable
+  public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, Locale locale) {
+    String msg = this.getMessageInternal(code, args, locale);
+    if (msg != null) {
+      return msg;
+    } else if (defaultMessage == null) {
+      return this.useCodeAsDefaultMessage ? code : null;
+    } else {
+      return this.renderDefaultMessage(defaultMessage, args, locale);
+    }
+  }
+
+  @Override
+  public String getMessage(String code, @Nullable Object[] args, Locale locale) throws NoSuchMessageException {
+    String msg = this.getMessageInternal(code, args, locale);
+    if (msg != null) {
+      return msg;
+    } else if (this.useCodeAsDefaultMessage) {
+      return code;
+    } else {
+      throw new NoSuchMessageException(code, locale);
+    }
+  }
+
+  @Override
+  public String getMessage(MessageSourceResolvable resolvable, Locale locale) throws NoSuchMessageException {
+    String[] codes = resolvable.getCodes();
+    if (codes != null) {
+      String[] var4 = codes;
+      int var5 = codes.length;
+
+      for(int var6 = 0; var6 < var5; ++var6) {
+        String code = var4[var6];
+        String msg = this.getMessageInternal(code, resolvable.getArguments(), locale);
+        if (msg != null) {
+          return msg;
+        }
+      }
+    }
+
+    String defaultMessage = resolvable.getDefaultMessage();
+    if (defaultMessage != null) {
+      return this.renderDefaultMessage(defaultMessage, resolvable.getArguments(), locale);
+    } else if (this.useCodeAsDefaultMessage && !ObjectUtils.isEmpty(codes)) {
+      return codes[0];
+    } else {
+      throw new NoSuchMessageException(!ObjectUtils.isEmpty(codes) ? codes[codes.length - 1] : "", locale);
+    }
+  }
+
+  @Nullable
+  protected String getMessageInternal(@Nullable String code, @Nullable Object[] args, @Nullable Locale locale) {
+    if (code == null) {
+      return null;
+    } else {
+      Locale localeToUse = locale != null ? locale : Locale.getDefault();
+      CompiledMessageFormat compiledMessage = this.resolveCompiledMessage(code, localeToUse);
+      if (compiledMessage != null) {
+        return !this.alwaysUseMessageFormat && ObjectUtils.isEmpty(args) ? compiledMessage.getMessage() : compiledMessage.format(this.resolveArguments(args, localeToUse));
+      } else {
+        return this.parentMessageSource != null ? this.parentMessageSource.getMessage(code, args, (String)null, localeToUse) : null;
+      }
+    }
+  }
+
+  @Nullable
+  private CompiledMessageFormat resolveCompiledMessage(String code, Locale locale) {
+    ConcurrentMap<String, CompiledMessageFormat> localeMessages = (ConcurrentMap)this.cachedMessages.get(locale);
+    if (localeMessages == null) {
+      localeMessages = new ConcurrentHashMap(64);
+      ConcurrentMap<String, CompiledMessageFormat> existing = (ConcurrentMap)this.cachedMessages.putIfAbsent(locale, localeMessages);
+      if (existing != null) {
+        localeMessages = existing;
+      }
+    }
+
+    CompiledMessageFormat compiledMessage = (CompiledMessageFormat)localeMessages.get(code);
+    if (compiledMessage == null) {
+      String msg = this.resolveCodeWithoutArguments(code, locale);
+      compiledMessage = msg != null ? new CompiledMessageFormat(msg, locale) : NO_MESSAGE;
+      CompiledMessageFormat existing = (CompiledMessageFormat)localeMessages.putIfAbsent(code, compiledMessage);
+      if (existing != null) {
+        compiledMessage = existing;
+      }
+    }
+
+    return compiledMessage != NO_MESSAGE ? compiledMessage : null;
+  }
+
+  @Nullable
+  protected String resolveCodeWithoutArguments(String code, Locale locale) {
+    Iterator var3 = this.basenameSet.iterator();
+
+    while(var3.hasNext()) {
+      String basename = (String)var3.next();
+      ResourceBundle bundle = this.getResourceBundle(basename, locale);
+      if (bundle != null && bundle.containsKey(code)) {
+        Object value = bundle.getObject(code);
+        if (value instanceof String) {
+          return (String)value;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  @Nullable
+  protected ResourceBundle getResourceBundle(String basename, Locale locale) {
+    ClassLoader classLoader = this.getBundleClassLoader();
+
+    try {
+      return classLoader != null ? ResourceBundle.getBundle(basename, locale, classLoader) : ResourceBundle.getBundle(basename, locale);
+    } catch (MissingResourceException ex) {
+      return null;
+    }
+  }
+
+  @Nullable
+  protected Object[] resolveArguments(@Nullable Object[] args, Locale locale) {
+    if (ObjectUtils.isEmpty(args)) {
+      return args;
+    } else {
+      Object[] resolvedArgs = args;
+
+      for(int i = 0; i < args.length; ++i) {
+        if (args[i] instanceof MessageSourceResolvable) {
+          if (resolvedArgs == args) {
+            resolvedArgs = (Object[])args.clone();
+          }
+
+          resolvedArgs[i] = this.getMessage((MessageSourceResolvable)args[i], locale);
+        }
+      }
+
+      return resolvedArgs;
+    }
+  }
+
+  private String renderDefaultMessage(String defaultMessage, @Nullable Object[] args, Locale locale) {
+    return !this.alwaysUseMessageFormat && ObjectUtils.isEmpty(args) ? defaultMessage : (new CompiledMessageFormat(defaultMessage, locale)).format(this.resolveArguments(args, locale));
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getName() + ": basenames=" + this.basenameSet;
+  }
+}
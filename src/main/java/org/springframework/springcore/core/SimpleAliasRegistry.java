@@ -0,0 +1,133 @@
+package org.springframework.springcore.core;
+
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class SimpleAliasRegistry implements AliasRegistry {
+    private static final String[] NO_ALIASES = new String[0];
+    private final Object aliasMonitor = new Object();
+    private volatile SimpleAliasRegistry.AliasSnapshot aliasSnapshot = new SimpleAliasRegistry.AliasSnapshot(new LinkedHashMap());
+
+    public SimpleAliasRegistry() {
+    }
+
+    public void registerAlias(String name, String alias) {
+        Assert.hasText(name, "'name' must not be empty");
+        Assert.hasText(alias, "'alias' must not be empty");
+        synchronized(this.aliasMonitor) {
+            SimpleAliasRegistry.AliasSnapshot snapshot = this.aliasSnapshot;
+            if (alias.equals(name)) {
+                if (snapshot.aliasMap.containsKey(alias)) {
+                    Map<String, String> aliasMap = new LinkedHashMap(snapshot.aliasMap);
+                    aliasMap.remove(alias);
+                    this.aliasSnapshot = new SimpleAliasRegistry.AliasSnapshot(aliasMap);
+                }
+            } else {
+                String registeredName = (String)snapshot.aliasMap.get(alias);
+                if (registeredName != null) {
+                    if (registeredName.equals(name)) {
+                        return;
+                    }
+
+                    if (!this.allowAliasOverriding()) {
+                        throw new IllegalStateException("Cannot define alias '" + alias + "' for name '" + name + "': It is already registered for name '" + registeredName + "'.");
+                    }
+                }
+
+                this.checkForAliasCircle(name, alias);
+                Map<String, String> aliasMap = new LinkedHashMap(snapshot.aliasMap);
+                aliasMap.put(alias, name);
+                this.aliasSnapshot = new SimpleAliasRegistry.AliasSnapshot(aliasMap);
+            }
+
+        }
+    }
+
+    protected boolean allowAliasOverriding() {
+        return true;
+    }
+
+    public boolean hasAlias(String name, String alias) {
+        Map<String, String> aliasMap = this.aliasSnapshot.aliasMap;
+
+        for(String registeredName = (String)aliasMap.get(alias); registeredName != null; registeredName = (String)aliasMap.get(registeredName)) {
+            if (registeredName.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void removeAlias(String alias) {
+        synchronized(this.aliasMonitor) {
+            SimpleAliasRegistry.AliasSnapshot snapshot = this.aliasSnapshot;
+            if (!snapshot.aliasMap.containsKey(alias)) {
+                throw new IllegalStateException("No alias '" + alias + "' registered");
+            } else {
+                Map<String, String> aliasMap = new LinkedHashMap(snapshot.aliasMap);
+                aliasMap.remove(alias);
+                this.aliasSnapshot = new SimpleAliasRegistry.AliasSnapshot(aliasMap);
+            }
+        }
+    }
+
+    public boolean isAlias(String name) {
+        return this.aliasSnapshot.aliasMap.containsKey(name);
+    }
+
+    public String[] getAliases(String name) {
+        String[] aliases = (String[])this.aliasSnapshot.aliasesByName.get(name);
+        return aliases != null ? (String[])aliases.clone() : NO_ALIASES;
+    }
+
+    protected void checkForAliasCircle(String name, String alias) {
+        if (this.hasAlias(alias, name)) {
+            throw new IllegalStateException("Cannot register alias '" + alias + "' for name '" + name + "': Circular reference - '" + name + "' is a direct or indirect alias for '" + alias + "' already");
+        }
+    }
+
+    public String canonicalName(String name) {
+        String canonicalName = (String)this.aliasSnapshot.canonicalNames.get(name);
+        return canonicalName != null ? canonicalName : name;
+    }
+
+    private static final class AliasSnapshot {
+        private final Map<String, String> aliasMap;
+        private final Map<String, String> canonicalNames;
+        private final Map<String, String[]> aliasesByName;
+
+        AliasSnapshot(Map<String, String> aliasMap) {
+            this.aliasMap = aliasMap;
+            this.canonicalNames = new HashMap((int)((float)aliasMap.size() / 0.75F) + 1);
+            Map<String, Set<String>> aliasSets = new LinkedHashMap();
+            Iterator var3 = aliasMap.keySet().iterator();
+
+            while(var3.hasNext()) {
+                String alias = (String)var3.next();
+                String canonicalName = alias;
+
+                for(String registeredName = (String)aliasMap.get(alias); registeredName != null; registeredName = (String)aliasMap.get(registeredName)) {
+                    ((Set)aliasSets.computeIfAbsent(registeredName, (key) -> {
+                        return new LinkedHashSet(4);
+                    })).add(alias);
+                    canonicalName = registeredName;
+                }
+
+                this.canonicalNames.put(alias, canonicalName);
+            }
+
+            this.aliasesByName = new HashMap((int)((float)aliasSets.size() / 0.75F) + 1);
+            aliasSets.forEach((name, aliases) -> {
+                this.aliasesByName.put(name, StringUtils.toStringArray(aliases));
+            });
+        }
+    }
+}
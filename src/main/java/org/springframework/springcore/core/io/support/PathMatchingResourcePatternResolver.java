@@ -0,0 +1,244 @@
+package org.springframework.springcore.core.io.support;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.core.io.DefaultResourceLoader;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.io.ResourceLoader;
+import org.springframework.springcore.core.io.ResourcePatternResolver;
+import org.springframework.springcore.core.io.UrlResource;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ResourceUtils;
+import org.springframework.springcore.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+public class PathMatchingResourcePatternResolver implements ResourcePatternResolver {
+    private final ResourceLoader resourceLoader;
+
+    public PathMatchingResourcePatternResolver() {
+        this.resourceLoader = new DefaultResourceLoader();
+    }
+
+    public PathMatchingResourcePatternResolver(ResourceLoader resourceLoader) {
+        Assert.notNull(resourceLoader, "ResourceLoader must not be null");
+        this.resourceLoader = resourceLoader;
+    }
+
+    public PathMatchingResourcePatternResolver(@Nullable ClassLoader classLoader) {
+        this.resourceLoader = new DefaultResourceLoader(classLoader);
+    }
+
+    public ResourceLoader getResourceLoader() {
+        return this.resourceLoader;
+    }
+
+    @Nullable
+    public ClassLoader getClassLoader() {
+        return this.resourceLoader.getClassLoader();
+    }
+
+    public Resource getResource(String location) {
+        return this.resourceLoader.getResource(location);
+    }
+
+    public Resource[] getResources(String locationPattern) throws IOException {
+        Assert.notNull(locationPattern, "Location pattern must not be null");
+        if (locationPattern.startsWith(CLASSPATH_ALL_URL_PREFIX)) {
+            String path = locationPattern.substring(CLASSPATH_ALL_URL_PREFIX.length());
+            return isPattern(path) ? this.findPathMatchingResources(locationPattern) : this.findAllClassPathResources(path);
+        } else {
+            int prefixEnd = locationPattern.indexOf(':') + 1;
+            return isPattern(locationPattern.substring(prefixEnd)) ? this.findPathMatchingResources(locationPattern) : new Resource[]{this.getResource(locationPattern)};
+        }
+    }
+
+    protected Resource[] findAllClassPathResources(String location) throws IOException {
+        String path = location.startsWith("/") ? location.substring(1) : location;
+        ClassLoader classLoader = this.getClassLoader();
+        Enumeration<URL> resourceUrls = classLoader != null ? classLoader.getResources(path) : ClassLoader.getSystemResources(path);
+        Set<Resource> result = new LinkedHashSet(16);
+
+        while(resourceUrls.hasMoreElements()) {
+            result.add(new UrlResource((URL)resourceUrls.nextElement()));
+        }
+
+        return (Resource[])result.toArray(new Resource[0]);
+    }
+
+    protected Resource[] findPathMatchingResources(String locationPattern) throws IOException {
+        String rootDirPath = this.determineRootDir(locationPattern);
+        String subPattern = locationPattern.substring(rootDirPath.length());
+        Resource[] rootDirResources = this.getResources(rootDirPath);
+        Set<Resource> result = new LinkedHashSet(16);
+        Resource[] var6 = rootDirResources;
+        int var7 = rootDirResources.length;
+
+        for(int var8 = 0; var8 < var7; ++var8) {
+            Resource rootDirResource = var6[var8];
+            result.addAll(this.doFindPathMatchingResources(rootDirResource, subPattern));
+        }
+
+        return (Resource[])result.toArray(new Resource[0]);
+    }
+
+    protected String determineRootDir(String location) {
+        int prefixEnd = location.indexOf(':') + 1;
+
+        int rootDirEnd;
+        for(rootDirEnd = location.length(); rootDirEnd > prefixEnd && isPattern(location.substring(prefixEnd, rootDirEnd)); rootDirEnd = location.lastIndexOf('/', rootDirEnd - 2) + 1) {
+        }
+
+        if (rootDirEnd == 0) {
+            rootDirEnd = prefixEnd;
+        }
+
+        return location.substring(0, rootDirEnd);
+    }
+
+    protected Set<Resource> doFindPathMatchingResources(Resource rootDirResource, String subPattern) throws IOException {
+        URL rootDirUrl = rootDirResource.getURL();
+        if (ResourceUtils.isJarURL(rootDirUrl)) {
+            return this.doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+        } else if (ResourceUtils.isFileURL(rootDirUrl)) {
+            return this.doFindPathMatchingFileResources(rootDirResource.getFile(), subPattern);
+        } else {
+            return Collections.emptySet();
+        }
+    }
+
+    protected Set<Resource> doFindPathMatchingJarResources(Resource rootDirResource, URL rootDirUrl, String subPattern) throws IOException {
+        URLConnection con = rootDirUrl.openConnection();
+        if (!(con instanceof JarURLConnection)) {
+            return Collections.emptySet();
+        } else {
+            JarURLConnection jarCon = (JarURLConnection)con;
+            ResourceUtils.useCachesIfNecessary(jarCon);
+            String rootEntryPath = jarCon.getEntryName() != null ? jarCon.getEntryName() : "";
+            if (!rootEntryPath.isEmpty() && !rootEntryPath.endsWith("/")) {
+                rootEntryPath = rootEntryPath + "/";
+            }
+
+            JarFile jarFile = jarCon.getJarFile();
+
+            try {
+                Set<Resource> result = new LinkedHashSet(8);
+                Enumeration<JarEntry> entries = jarFile.entries();
+
+                while(entries.hasMoreElements()) {
+                    String entryPath = ((JarEntry)entries.nextElement()).getName();
+                    if (entryPath.startsWith(rootEntryPath)) {
+                        String relativePath = entryPath.substring(rootEntryPath.length());
+                        if (matchPath(subPattern, relativePath)) {
+                            result.add(rootDirResource.createRelative(relativePath));
+                        }
+                    }
+                }
+
+                return result;
+            } finally {
+                if (!jarCon.getUseCaches()) {
+                    jarFile.close();
+                }
+            }
+        }
+    }
+
+    protected Set<Resource> doFindPathMatchingFileResources(File rootDir, String subPattern) throws IOException {
+        if (!rootDir.isDirectory()) {
+            return Collections.emptySet();
+        } else {
+            Path rootPath = rootDir.toPath();
+            List<Path> matchingFiles = new ArrayList();
+
+            try (Stream<Path> files = Files.walk(rootPath)) {
+                Iterator var6 = files.iterator();
+
+                while(var6.hasNext()) {
+                    Path file = (Path)var6.next();
+                    String relativePath = StringUtils.replace(rootPath.relativize(file).toString(), File.separator, "/");
+                    if (matchPath(subPattern, relativePath) && Files.isRegularFile(file)) {
+                        matchingFiles.add(file);
+                    }
+                }
+            }
+
+            Set<Resource> result = new LinkedHashSet(matchingFiles.size() * 2);
+            Iterator var10 = matchingFiles.iterator();
+
+            while(var10.hasNext()) {
+                Path file = (Path)var10.next();
+                result.add(new UrlResource(file.toUri().toURL()));
+            }
+
+            return result;
+        }
+    }
+
+    static boolean isPattern(String path) {
+        return path.indexOf('*') != -1 || path.indexOf('?') != -1;
+    }
+
+    static boolean matchPath(String pattern, String path) {
+        return matchSegments(StringUtils.tokenizeToStringArray(pattern, "/"), 0, StringUtils.tokenizeToStringArray(path, "/"), 0);
+    }
+
+    private static boolean matchSegments(String[] patternSegments, int patternIndex, String[] pathSegments, int pathIndex) {
+        if (patternIndex == patternSegments.length) {
+            return pathIndex == pathSegments.length;
+        } else if ("**".equals(patternSegments[patternIndex])) {
+            for(int i = pathIndex; i <= pathSegments.length; ++i) {
+                if (matchSegments(patternSegments, patternIndex + 1, pathSegments, i)) {
+                    return true;
+                }
+            }
+
+            return false;
+        } else {
+            return pathIndex < pathSegments.length && matchSegment(patternSegments[patternIndex], 0, pathSegments[pathIndex], 0) && matchSegments(patternSegments, patternIndex + 1, pathSegments, pathIndex + 1);
+        }
+    }
+
+    private static boolean matchSegment(String pattern, int patternIndex, String segment, int segmentIndex) {
+        while(patternIndex < pattern.length()) {
+            char c = pattern.charAt(patternIndex);
+            if (c == '*') {
+                for(int i = segmentIndex; i <= segment.length(); ++i) {
+                    if (matchSegment(pattern, patternIndex + 1, segment, i)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            if (segmentIndex == segment.length() || c != '?' && c != segment.charAt(segmentIndex)) {
+                return false;
+            }
+
+            ++patternIndex;
+            ++segmentIndex;
+        }
+
+        return segmentIndex == segment.length();
+    }
+
+    public String toString() {
+        return "PathMatchingResourcePatternResolver with ResourceLoader [" + this.resourceLoader + "]";
+    }
+}
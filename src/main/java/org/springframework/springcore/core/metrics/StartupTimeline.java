@@ -0,0 +1,181 @@
+package org.springframework.springcore.core.metrics;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class StartupTimeline {
+    public static final int DEFAULT_CAPACITY = 8192;
+    private final int mask;
+    private final String[] names;
+    private final String[] details;
+    private final long[] threadIds;
+    private final long[] startNanos;
+    private final long[] durationNanos;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long anchorMillis = System.currentTimeMillis();
+    private volatile long anchorNanos = System.nanoTime();
+
+    public StartupTimeline() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StartupTimeline(int capacity) {
+        Assert.isTrue(capacity > 0, "Capacity must be positive");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.names = new String[size];
+        this.details = new String[size];
+        this.threadIds = new long[size];
+        this.startNanos = new long[size];
+        this.durationNanos = new long[size];
+        this.publishedSequences = new AtomicLongArray(size);
+
+        for(int i = 0; i < size; ++i) {
+            this.publishedSequences.set(i, -1L);
+        }
+
+    }
+
+    public void anchor(long epochMillis) {
+        this.anchorNanos = System.nanoTime();
+        this.anchorMillis = epochMillis;
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void record(String name, @Nullable String detail, long startNanos) {
+        long endNanos = System.nanoTime();
+        long seq = this.sequence.getAndIncrement();
+        int slot = (int)(seq & (long)this.mask);
+        this.publishedSequences.set(slot, -1L);
+        this.names[slot] = name;
+        this.details[slot] = detail;
+        this.threadIds[slot] = Thread.currentThread().getId();
+        this.startNanos[slot] = startNanos;
+        this.durationNanos[slot] = endNanos - startNanos;
+        this.publishedSequences.set(slot, seq);
+    }
+
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    public long getRecordedCount() {
+        return this.sequence.get();
+    }
+
+    public long getDroppedCount() {
+        return Math.max(0L, this.sequence.get() - (long)this.getCapacity());
+    }
+
+    public long getAnchorMillis() {
+        return this.anchorMillis;
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"startupDate\":").append(this.anchorMillis);
+        sb.append(",\"dropped\":").append(this.getDroppedCount());
+        sb.append(",\"events\":[");
+        this.appendEvents(sb, false);
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    public String toChromeTrace() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        this.appendEvents(sb, true);
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private void appendEvents(StringBuilder sb, boolean chromeTrace) {
+        long end = this.sequence.get();
+        long begin = Math.max(0L, end - (long)this.getCapacity());
+        long anchorMicros = TimeUnit.MILLISECONDS.toMicros(this.anchorMillis);
+        long anchorNanos = this.anchorNanos;
+        boolean first = true;
+
+        for(long seq = begin; seq < end; ++seq) {
+            int slot = (int)(seq & (long)this.mask);
+            if (this.publishedSequences.get(slot) == seq) {
+                String name = this.names[slot];
+                String detail = this.details[slot];
+                long threadId = this.threadIds[slot];
+                long offsetMicros = TimeUnit.NANOSECONDS.toMicros(this.startNanos[slot] - anchorNanos);
+                long durationMicros = TimeUnit.NANOSECONDS.toMicros(this.durationNanos[slot]);
+                if (this.publishedSequences.get(slot) == seq) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+
+                    first = false;
+                    if (chromeTrace) {
+                        sb.append("{\"name\":");
+                        appendString(sb, detail != null ? name + " " + detail : name);
+                        sb.append(",\"cat\":");
+                        appendString(sb, name);
+                        sb.append(",\"ph\":\"X\",\"ts\":").append(anchorMicros + offsetMicros);
+                        sb.append(",\"dur\":").append(durationMicros);
+                        sb.append(",\"pid\":1,\"tid\":").append(threadId);
+                        if (detail != null) {
+                            sb.append(",\"args\":{\"detail\":");
+                            appendString(sb, detail);
+                            sb.append('}');
+                        }
+
+                        sb.append('}');
+                    } else {
+                        sb.append("{\"name\":");
+                        appendString(sb, name);
+                        if (detail != null) {
+                            sb.append(",\"detail\":");
+                            appendString(sb, detail);
+                        }
+
+                        sb.append(",\"thread\":").append(threadId);
+                        sb.append(",\"startMicros\":").append(offsetMicros);
+                        sb.append(",\"durationMicros\":").append(durationMicros);
+                        sb.append('}');
+                    }
+                }
+            }
+        }
+
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+
+        for(int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\') {
+                if (c < ' ') {
+                    sb.append(String.format("\\u%04x", Integer.valueOf(c)));
+                } else {
+                    sb.append(c);
+                }
+            } else {
+                sb.append('\\').append(c);
+            }
+        }
+
+        sb.append('"');
+    }
+
+    public String toString() {
+        return "StartupTimeline: " + this.getRecordedCount() + " events recorded, " + this.getDroppedCount() + " dropped, capacity " + this.getCapacity();
+    }
+}
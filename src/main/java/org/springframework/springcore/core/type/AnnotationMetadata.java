@@ -0,0 +1,21 @@
+package org.springframework.springcore.core.type;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.core.annotation.AnnotationAttributes;
+
+import java.util.Set;
+
+public interface AnnotationMetadata extends ClassMetadata {
+    Set<String> getAnnotationTypes();
+
+    Set<String> getMetaAnnotationTypes(String var1);
+
+    boolean hasAnnotation(String var1);
+
+    boolean hasMetaAnnotation(String var1);
+
+    boolean isAnnotated(String var1);
+
+    @Nullable
+    AnnotationAttributes getAnnotationAttributes(String var1);
+}
@@ -0,0 +1,31 @@
+package org.springframework.springcore.core.type;
+
+import org.jetbrains.annotations.Nullable;
+
+public interface ClassMetadata {
+    String getClassName();
+
+    boolean isInterface();
+
+    boolean isAnnotation();
+
+    boolean isAbstract();
+
+    boolean isConcrete();
+
+    boolean isFinal();
+
+    boolean isIndependent();
+
+    boolean hasEnclosingClass();
+
+    @Nullable
+    String getEnclosingClassName();
+
+    boolean hasSuperClass();
+
+    @Nullable
+    String getSuperClassName();
+
+    String[] getInterfaceNames();
+}
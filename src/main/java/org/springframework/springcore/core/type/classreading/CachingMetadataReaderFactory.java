@@ -0,0 +1,75 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.core.io.DefaultResourceLoader;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.io.ResourceLoader;
+import org.springframework.springcore.utils.Assert;
+import org.springframework.springcore.utils.ClassUtils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class CachingMetadataReaderFactory implements MetadataReaderFactory {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private final ResourceLoader resourceLoader;
+    private final ConcurrentMap<String, MetadataReader> metadataReaderCache = new ConcurrentHashMap(256);
+
+    public CachingMetadataReaderFactory() {
+        this.resourceLoader = new DefaultResourceLoader();
+    }
+
+    public CachingMetadataReaderFactory(@Nullable ClassLoader classLoader) {
+        this.resourceLoader = new DefaultResourceLoader(classLoader);
+    }
+
+    public CachingMetadataReaderFactory(ResourceLoader resourceLoader) {
+        Assert.notNull(resourceLoader, "ResourceLoader must not be null");
+        this.resourceLoader = resourceLoader;
+    }
+
+    public final ResourceLoader getResourceLoader() {
+        return this.resourceLoader;
+    }
+
+    public MetadataReader getMetadataReader(String className) throws IOException {
+        MetadataReader metadataReader = (MetadataReader)this.metadataReaderCache.get(className);
+        if (metadataReader == null) {
+            Resource resource = this.resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(className) + CLASS_FILE_SUFFIX);
+            if (!resource.exists()) {
+                int lastDotIndex = className.lastIndexOf('.');
+                if (lastDotIndex == -1) {
+                    throw new FileNotFoundException("Class file for [" + className + "] not found");
+                }
+
+                String innerClassName = className.substring(0, lastDotIndex) + '$' + className.substring(lastDotIndex + 1);
+                resource = this.resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(innerClassName) + CLASS_FILE_SUFFIX);
+                if (!resource.exists()) {
+                    throw new FileNotFoundException("Class file for [" + className + "] not found");
+                }
+            }
+
+            metadataReader = this.getMetadataReader(resource);
+            MetadataReader existing = (MetadataReader)this.metadataReaderCache.putIfAbsent(className, metadataReader);
+            if (existing != null) {
+                metadataReader = existing;
+            }
+        }
+
+        return metadataReader;
+    }
+
+    public MetadataReader getMetadataReader(Resource resource) throws IOException {
+        return new SimpleMetadataReader(resource, this);
+    }
+
+    public int getCacheSize() {
+        return this.metadataReaderCache.size();
+    }
+
+    public void clearCache() {
+        this.metadataReaderCache.clear();
+    }
+}
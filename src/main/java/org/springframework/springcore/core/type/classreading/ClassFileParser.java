@@ -0,0 +1,310 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.springframework.springcore.core.annotation.AnnotationAttributes;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class ClassFileParser {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_STATIC = 0x0008;
+    private final ByteBuffer buffer;
+    private int[] constantOffsets;
+    private String[] utf8Cache;
+
+    ClassFileParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    SimpleAnnotationMetadata parse(MetadataReaderFactory metadataReaderFactory) {
+        if (this.buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file: bad magic number");
+        } else {
+            this.skip(4);
+            this.readConstantPool();
+            int access = this.u2();
+            String className = this.classNameAt(this.u2());
+            int superClassIndex = this.u2();
+            String superClassName = superClassIndex != 0 ? this.classNameAt(superClassIndex) : null;
+            String[] interfaceNames = new String[this.u2()];
+
+            for(int i = 0; i < interfaceNames.length; ++i) {
+                interfaceNames[i] = this.classNameAt(this.u2());
+            }
+
+            this.skipMembers();
+            this.skipMembers();
+            String enclosingClassName = null;
+            boolean independent = true;
+            Map<String, AnnotationAttributes> annotations = new LinkedHashMap(4);
+            int attributeCount = this.u2();
+
+            for(int i = 0; i < attributeCount; ++i) {
+                String attributeName = this.utf8At(this.u2());
+                int attributeEnd = this.buffer.getInt();
+                attributeEnd += this.buffer.position();
+                if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                    int annotationCount = this.u2();
+
+                    for(int j = 0; j < annotationCount; ++j) {
+                        String annotationType = descriptorToClassName(this.utf8At(this.u2()));
+                        annotations.put(annotationType, this.readAnnotationAttributes(annotationType));
+                    }
+                } else if ("InnerClasses".equals(attributeName)) {
+                    int classCount = this.u2();
+
+                    for(int j = 0; j < classCount; ++j) {
+                        int innerClassIndex = this.u2();
+                        int outerClassIndex = this.u2();
+                        this.skip(2);
+                        int innerAccess = this.u2();
+                        if (innerClassIndex != 0 && className.equals(this.classNameAt(innerClassIndex))) {
+                            if (outerClassIndex != 0) {
+                                enclosingClassName = this.classNameAt(outerClassIndex);
+                                independent = (innerAccess & ACC_STATIC) != 0;
+                            } else {
+                                independent = false;
+                            }
+                        }
+                    }
+                } else if ("EnclosingMethod".equals(attributeName)) {
+                    enclosingClassName = this.classNameAt(this.u2());
+                    independent = false;
+                }
+
+                this.buffer.position(attributeEnd);
+            }
+
+            return new SimpleAnnotationMetadata(className, access, enclosingClassName, independent, superClassName, interfaceNames, annotations, metadataReaderFactory);
+        }
+    }
+
+    private void readConstantPool() {
+        int constantCount = this.u2();
+        this.constantOffsets = new int[constantCount];
+        this.utf8Cache = new String[constantCount];
+
+        for(int i = 1; i < constantCount; ++i) {
+            this.constantOffsets[i] = this.buffer.position();
+            int tag = this.u1();
+            switch(tag) {
+                case 1:
+                    this.skip(this.u2());
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    this.skip(4);
+                    break;
+                case 5:
+                case 6:
+                    this.skip(8);
+                    ++i;
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    this.skip(2);
+                    break;
+                case 15:
+                    this.skip(3);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+    }
+
+    private void skipMembers() {
+        int memberCount = this.u2();
+
+        for(int i = 0; i < memberCount; ++i) {
+            this.skip(6);
+            int attributeCount = this.u2();
+
+            for(int j = 0; j < attributeCount; ++j) {
+                this.skip(2);
+                this.skip(this.buffer.getInt());
+            }
+        }
+
+    }
+
+    private AnnotationAttributes readAnnotationAttributes(String annotationType) {
+        AnnotationAttributes attributes = new AnnotationAttributes(annotationType, (ClassLoader)null);
+        int pairCount = this.u2();
+
+        for(int i = 0; i < pairCount; ++i) {
+            String attributeName = this.utf8At(this.u2());
+            attributes.put(attributeName, this.readElementValue());
+        }
+
+        return attributes;
+    }
+
+    private Object readElementValue() {
+        char tag = (char)this.u1();
+        switch(tag) {
+            case '@':
+                return this.readAnnotationAttributes(descriptorToClassName(this.utf8At(this.u2())));
+            case 'B':
+                return (byte)this.intAt(this.u2());
+            case 'C':
+                return (char)this.intAt(this.u2());
+            case 'D':
+                return Double.longBitsToDouble(this.longAt(this.u2()));
+            case 'F':
+                return Float.intBitsToFloat(this.intAt(this.u2()));
+            case 'I':
+                return this.intAt(this.u2());
+            case 'J':
+                return this.longAt(this.u2());
+            case 'S':
+                return (short)this.intAt(this.u2());
+            case 'Z':
+                return this.intAt(this.u2()) != 0;
+            case '[':
+                return this.readArrayValue();
+            case 'c':
+                return descriptorToClassName(this.utf8At(this.u2()));
+            case 'e':
+                this.skip(2);
+                return this.utf8At(this.u2());
+            case 's':
+                return this.utf8At(this.u2());
+            default:
+                throw new IllegalArgumentException("Unknown annotation element tag '" + tag + "'");
+        }
+    }
+
+    private Object readArrayValue() {
+        Object[] values = new Object[this.u2()];
+        boolean allStrings = true;
+
+        for(int i = 0; i < values.length; ++i) {
+            values[i] = this.readElementValue();
+            allStrings &= values[i] instanceof String;
+        }
+
+        if (allStrings) {
+            String[] strings = new String[values.length];
+            System.arraycopy(values, 0, strings, 0, values.length);
+            return strings;
+        } else {
+            return values;
+        }
+    }
+
+    private String classNameAt(int index) {
+        return this.utf8At(this.buffer.getShort(this.constantOffsets[index] + 1) & 0xFFFF).replace('/', '.');
+    }
+
+    private int intAt(int index) {
+        return this.buffer.getInt(this.constantOffsets[index] + 1);
+    }
+
+    private long longAt(int index) {
+        return this.buffer.getLong(this.constantOffsets[index] + 1);
+    }
+
+    private String utf8At(int index) {
+        String value = this.utf8Cache[index];
+        if (value == null) {
+            int offset = this.constantOffsets[index] + 1;
+            int length = this.buffer.getShort(offset) & 0xFFFF;
+            int position = offset + 2;
+            int end = position + length;
+            char[] chars = new char[length];
+            int count = 0;
+
+            while(position < end) {
+                int c = this.buffer.get(position++) & 0xFF;
+                if (c < 0x80) {
+                    chars[count++] = (char)c;
+                } else if ((c & 0xE0) == 0xC0) {
+                    chars[count++] = (char)((c & 0x1F) << 6 | this.buffer.get(position++) & 0x3F);
+                } else {
+                    chars[count++] = (char)((c & 0x0F) << 12 | (this.buffer.get(position++) & 0x3F) << 6 | this.buffer.get(position++) & 0x3F);
+                }
+            }
+
+            value = new String(chars, 0, count);
+            this.utf8Cache[index] = value;
+        }
+
+        return value;
+    }
+
+    private int u1() {
+        return this.buffer.get() & 0xFF;
+    }
+
+    private int u2() {
+        return this.buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int length) {
+        this.buffer.position(this.buffer.position() + length);
+    }
+
+    static String descriptorToClassName(String descriptor) {
+        int dimensions = 0;
+
+        while(descriptor.charAt(dimensions) == '[') {
+            ++dimensions;
+        }
+
+        String className;
+        switch(descriptor.charAt(dimensions)) {
+            case 'B':
+                className = "byte";
+                break;
+            case 'C':
+                className = "char";
+                break;
+            case 'D':
+                className = "double";
+                break;
+            case 'F':
+                className = "float";
+                break;
+            case 'I':
+                className = "int";
+                break;
+            case 'J':
+                className = "long";
+                break;
+            case 'L':
+                className = descriptor.substring(dimensions + 1, descriptor.length() - 1).replace('/', '.');
+                break;
+            case 'S':
+                className = "short";
+                break;
+            case 'V':
+                className = "void";
+                break;
+            case 'Z':
+                className = "boolean";
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid type descriptor [" + descriptor + "]");
+        }
+
+        StringBuilder sb = new StringBuilder(className);
+
+        for(int i = 0; i < dimensions; ++i) {
+            sb.append("[]");
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.core.type.ClassMetadata;
+
+public interface MetadataReader {
+    Resource getResource();
+
+    ClassMetadata getClassMetadata();
+
+    AnnotationMetadata getAnnotationMetadata();
+}
@@ -0,0 +1,11 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.springframework.springcore.core.io.Resource;
+
+import java.io.IOException;
+
+public interface MetadataReaderFactory {
+    MetadataReader getMetadataReader(String var1) throws IOException;
+
+    MetadataReader getMetadataReader(Resource var1) throws IOException;
+}
@@ -0,0 +1,190 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.springcore.core.annotation.AnnotationAttributes;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+final class SimpleAnnotationMetadata implements AnnotationMetadata {
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final String JAVA_LANG_ANNOTATION_PREFIX = "java.lang.annotation.";
+    private final String className;
+    private final int access;
+    @Nullable
+    private final String enclosingClassName;
+    private final boolean independent;
+    @Nullable
+    private final String superClassName;
+    private final String[] interfaceNames;
+    private final Map<String, AnnotationAttributes> annotations;
+    private final MetadataReaderFactory metadataReaderFactory;
+    @Nullable
+    private volatile Map<String, Map<String, AnnotationAttributes>> metaAnnotations;
+
+    SimpleAnnotationMetadata(String className, int access, @Nullable String enclosingClassName, boolean independent, @Nullable String superClassName, String[] interfaceNames, Map<String, AnnotationAttributes> annotations, MetadataReaderFactory metadataReaderFactory) {
+        this.className = className;
+        this.access = access;
+        this.enclosingClassName = enclosingClassName;
+        this.independent = independent;
+        this.superClassName = superClassName;
+        this.interfaceNames = interfaceNames;
+        this.annotations = annotations;
+        this.metadataReaderFactory = metadataReaderFactory;
+    }
+
+    public String getClassName() {
+        return this.className;
+    }
+
+    public boolean isInterface() {
+        return (this.access & ACC_INTERFACE) != 0;
+    }
+
+    public boolean isAnnotation() {
+        return (this.access & ACC_ANNOTATION) != 0;
+    }
+
+    public boolean isAbstract() {
+        return (this.access & ACC_ABSTRACT) != 0;
+    }
+
+    public boolean isConcrete() {
+        return !this.isInterface() && !this.isAbstract();
+    }
+
+    public boolean isFinal() {
+        return (this.access & ACC_FINAL) != 0;
+    }
+
+    public boolean isIndependent() {
+        return this.independent;
+    }
+
+    public boolean hasEnclosingClass() {
+        return this.enclosingClassName != null;
+    }
+
+    @Nullable
+    public String getEnclosingClassName() {
+        return this.enclosingClassName;
+    }
+
+    public boolean hasSuperClass() {
+        return this.superClassName != null;
+    }
+
+    @Nullable
+    public String getSuperClassName() {
+        return this.superClassName;
+    }
+
+    public String[] getInterfaceNames() {
+        return (String[])this.interfaceNames.clone();
+    }
+
+    public Set<String> getAnnotationTypes() {
+        return Collections.unmodifiableSet(this.annotations.keySet());
+    }
+
+    public Set<String> getMetaAnnotationTypes(String annotationName) {
+        Map<String, AnnotationAttributes> metaAnnotations = (Map)this.getMetaAnnotations().get(annotationName);
+        return metaAnnotations != null ? Collections.unmodifiableSet(metaAnnotations.keySet()) : Collections.emptySet();
+    }
+
+    public boolean hasAnnotation(String annotationName) {
+        return this.annotations.containsKey(annotationName);
+    }
+
+    public boolean hasMetaAnnotation(String metaAnnotationName) {
+        Iterator var2 = this.getMetaAnnotations().values().iterator();
+
+        Map metaAnnotations;
+        do {
+            if (!var2.hasNext()) {
+                return false;
+            }
+
+            metaAnnotations = (Map)var2.next();
+        } while(!metaAnnotations.containsKey(metaAnnotationName));
+
+        return true;
+    }
+
+    public boolean isAnnotated(String annotationName) {
+        return this.hasAnnotation(annotationName) || this.hasMetaAnnotation(annotationName);
+    }
+
+    @Nullable
+    public AnnotationAttributes getAnnotationAttributes(String annotationName) {
+        AnnotationAttributes attributes = (AnnotationAttributes)this.annotations.get(annotationName);
+        if (attributes != null) {
+            return new AnnotationAttributes(attributes);
+        } else {
+            Iterator var3 = this.getMetaAnnotations().values().iterator();
+
+            do {
+                if (!var3.hasNext()) {
+                    return null;
+                }
+
+                attributes = (AnnotationAttributes)((Map)var3.next()).get(annotationName);
+            } while(attributes == null);
+
+            return new AnnotationAttributes(attributes);
+        }
+    }
+
+    private Map<String, Map<String, AnnotationAttributes>> getMetaAnnotations() {
+        Map<String, Map<String, AnnotationAttributes>> result = this.metaAnnotations;
+        if (result == null) {
+            result = new LinkedHashMap(this.annotations.size() * 2);
+            Iterator var2 = this.annotations.keySet().iterator();
+
+            while(var2.hasNext()) {
+                String annotationType = (String)var2.next();
+                Map<String, AnnotationAttributes> metaAnnotations = new LinkedHashMap(4);
+                this.collectMetaAnnotations(annotationType, metaAnnotations);
+                result.put(annotationType, metaAnnotations);
+            }
+
+            this.metaAnnotations = result;
+        }
+
+        return result;
+    }
+
+    private void collectMetaAnnotations(String annotationType, Map<String, AnnotationAttributes> result) {
+        if (!annotationType.startsWith(JAVA_LANG_ANNOTATION_PREFIX)) {
+            AnnotationMetadata annotationMetadata;
+            try {
+                annotationMetadata = this.metadataReaderFactory.getMetadataReader(annotationType).getAnnotationMetadata();
+            } catch (IOException ex) {
+                return;
+            }
+
+            Iterator var4 = annotationMetadata.getAnnotationTypes().iterator();
+
+            while(var4.hasNext()) {
+                String metaAnnotationType = (String)var4.next();
+                if (!metaAnnotationType.startsWith(JAVA_LANG_ANNOTATION_PREFIX) && !result.containsKey(metaAnnotationType)) {
+                    result.put(metaAnnotationType, annotationMetadata.getAnnotationAttributes(metaAnnotationType));
+                    this.collectMetaAnnotations(metaAnnotationType, result);
+                }
+            }
+
+        }
+    }
+
+    public String toString() {
+        return this.className;
+    }
+}
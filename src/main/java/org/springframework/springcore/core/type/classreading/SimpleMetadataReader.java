@@ -0,0 +1,61 @@
+package org.springframework.springcore.core.type.classreading;
+
+import org.springframework.springcore.core.NestedIOException;
+import org.springframework.springcore.core.io.Resource;
+import org.springframework.springcore.core.type.AnnotationMetadata;
+import org.springframework.springcore.core.type.ClassMetadata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+final class SimpleMetadataReader implements MetadataReader {
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+    private final Resource resource;
+    private final SimpleAnnotationMetadata annotationMetadata;
+
+    SimpleMetadataReader(Resource resource, MetadataReaderFactory metadataReaderFactory) throws IOException {
+        ByteBuffer classFile = readClassFile(resource);
+
+        try {
+            this.annotationMetadata = (new ClassFileParser(classFile)).parse(metadataReaderFactory);
+        } catch (RuntimeException ex) {
+            throw new NestedIOException("Failed to parse class file of " + resource.getDescription(), ex);
+        }
+
+        this.resource = resource;
+    }
+
+    private static ByteBuffer readClassFile(Resource resource) throws IOException {
+        try (ReadableByteChannel channel = resource.readableChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocate(channel instanceof FileChannel ? (int)((FileChannel)channel).size() + 1 : DEFAULT_BUFFER_SIZE);
+
+            while(true) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+
+                if (channel.read(buffer) == -1) {
+                    buffer.flip();
+                    return buffer;
+                }
+            }
+        }
+    }
+
+    public Resource getResource() {
+        return this.resource;
+    }
+
+    public ClassMetadata getClassMetadata() {
+        return this.annotationMetadata;
+    }
+
+    public AnnotationMetadata getAnnotationMetadata() {
+        return this.annotationMetadata;
+    }
+}
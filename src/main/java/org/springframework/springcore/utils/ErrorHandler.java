@@ -0,0 +1,6 @@
+package org.springframework.springcore.utils;
+
+@FunctionalInterface
+public interface ErrorHandler {
+    void handleError(Throwable var1);
+}
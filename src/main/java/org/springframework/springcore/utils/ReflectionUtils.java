@@ -108,7 +108,7 @@ public abstract class ReflectionUtils {
 
     @Nullable
     public static Object invokeMethod(Method method, @Nullable Object target) {
-        return invokeMethod(method, target);
+        return invokeMethod(method, target, new Object[0]);
     }
 
     @Nullable
@@ -0,0 +1,159 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultSingletonBeanRegistryTests {
+    private final DefaultSingletonBeanRegistry registry = new DefaultSingletonBeanRegistry();
+
+    @Test
+    void concurrentCreatorsShareOneInstance() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for(int round = 0; round < 200; ++round) {
+                String beanName = "bean" + round;
+                AtomicInteger created = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Object>> futures = new ArrayList();
+
+                for(int t = 0; t < 8; ++t) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return this.registry.getSingleton(beanName, () -> {
+                            created.incrementAndGet();
+                            return new Object();
+                        });
+                    }));
+                }
+
+                start.countDown();
+                Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap());
+
+                for (Future<Object> future : futures) {
+                    instances.add(future.get(5L, TimeUnit.SECONDS));
+                }
+
+                assertEquals(1, created.get());
+                assertEquals(1, instances.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void creationLockIsEvictedWhenSingletonIsDestroyed() throws Exception {
+        Object bean = this.registry.getSingleton("bean", Object::new);
+        assertSame(bean, this.registry.getSingleton("bean"));
+        this.registry.destroySingleton("bean");
+        assertEquals(0, this.getCreationLocks().size());
+    }
+
+    @Test
+    void creationLockIsEvictedWhenCreationFails() throws Exception {
+        for(int i = 0; i < 100; ++i) {
+            String beanName = "failing" + i;
+            assertThrows(IllegalArgumentException.class, () -> {
+                this.registry.getSingleton(beanName, () -> {
+                    throw new IllegalArgumentException("boom");
+                });
+            });
+        }
+
+        assertEquals(0, this.getCreationLocks().size());
+        assertEquals(0, this.registry.getSingletonCount());
+    }
+
+    @Test
+    void creationLocksDoNotLeakUnderConcurrentCreateAndDestroy() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for(int round = 0; round < 500; ++round) {
+                String beanName = "bean" + round % 5;
+                List<Future<?>> futures = new ArrayList();
+
+                for(int t = 0; t < 6; ++t) {
+                    futures.add(executor.submit(() -> {
+                        return this.registry.getSingleton(beanName, Object::new);
+                    }));
+                }
+
+                futures.add(executor.submit(() -> {
+                    this.registry.destroySingleton(beanName);
+                }));
+
+                for (Future<?> future : futures) {
+                    future.get(5L, TimeUnit.SECONDS);
+                }
+
+                this.registry.destroySingleton(beanName);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, this.getCreationLocks().size());
+    }
+
+    @Test
+    void destroySingletonsEvictsAllCreationLocks() throws Exception {
+        for(int i = 0; i < 50; ++i) {
+            this.registry.getSingleton("bean" + i, Object::new);
+        }
+
+        this.registry.destroySingletons();
+        assertEquals(0, this.getCreationLocks().size());
+        assertEquals(0, this.registry.getSingletonCount());
+    }
+
+    @Test
+    void destroySingletonsDestroysDependentsFirst() {
+        List<String> destroyed = Collections.synchronizedList(new ArrayList());
+        this.registry.setDestructionParallelism(4);
+
+        for(int i = 0; i < 20; ++i) {
+            String beanName = "bean" + i;
+            this.registry.registerSingleton(beanName, new Object());
+            this.registry.registerDisposableBean(beanName, () -> {
+                destroyed.add(beanName);
+            });
+            if (i > 0) {
+                this.registry.registerDependentBean("bean" + (i - 1), beanName);
+            }
+        }
+
+        this.registry.destroySingletons();
+        assertEquals(20, destroyed.size());
+        for(int i = 0; i < 20; ++i) {
+            assertEquals("bean" + (19 - i), destroyed.get(i));
+        }
+
+        assertTrue(this.registry.getDestructionReport().isClean());
+    }
+
+    private Map<?, ?> getCreationLocks() throws Exception {
+        Field field = DefaultSingletonBeanRegistry.class.getDeclaredField("singletonCreationLocks");
+        field.setAccessible(true);
+        return (Map)field.get(this.registry);
+    }
+}
@@ -0,0 +1,94 @@
+package org.springframework.springbean.beans.factory.support;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.springbean.beans.factory.config.BeanDefinition;
+import org.springframework.springbean.beans.factory.config.ConstructorArgumentValues;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrototypeCreationBenchmark {
+    private static final int PROTOTYPE_COUNT = 1000000;
+    private DefaultListableBeanFactory beanFactory;
+
+    @Setup
+    public void setUp() {
+        this.beanFactory = new DefaultListableBeanFactory();
+        ConstructorArgumentValues cargs = new ConstructorArgumentValues();
+        cargs.addIndexedArgumentValue(0, "prototype");
+        cargs.addIndexedArgumentValue(1, "42");
+        RootBeanDefinition bd = new RootBeanDefinition(PrototypeCreationBenchmark.PrototypeBean.class, cargs, null);
+        bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        this.beanFactory.registerBeanDefinition("prototypeBean", bd);
+        RootBeanDefinition argsBd = new RootBeanDefinition(PrototypeCreationBenchmark.PrototypeBean.class);
+        argsBd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        this.beanFactory.registerBeanDefinition("argsPrototypeBean", argsBd);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROTOTYPE_COUNT)
+    public void getBeanWithConstructorArgumentValues(Blackhole blackhole) {
+        for(int i = 0; i < PROTOTYPE_COUNT; ++i) {
+            blackhole.consume(this.beanFactory.getBean("prototypeBean"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROTOTYPE_COUNT)
+    public void getBeanWithExplicitArgs(Blackhole blackhole) {
+        for(int i = 0; i < PROTOTYPE_COUNT; ++i) {
+            blackhole.consume(this.beanFactory.getBean("argsPrototypeBean", "prototype", 42));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROTOTYPE_COUNT)
+    public void createBean(Blackhole blackhole) {
+        for(int i = 0; i < PROTOTYPE_COUNT; ++i) {
+            blackhole.consume(this.beanFactory.createBean(PrototypeCreationBenchmark.DefaultConstructorBean.class));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        (new Runner((new OptionsBuilder()).include(PrototypeCreationBenchmark.class.getSimpleName()).build())).run();
+    }
+
+    public static class PrototypeBean {
+        private final String name;
+        private final int age;
+
+        public PrototypeBean(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public int getAge() {
+            return this.age;
+        }
+    }
+
+    public static class DefaultConstructorBean {
+    }
+}
@@ -0,0 +1,96 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.springbean.beans.factory.config.SingletonDestructionReport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingletonDestructionGraphTests {
+
+    @Test
+    void destroysDependentsBeforeTheirDependencies() {
+        Map<String, Collection<String>> dependents = new HashMap();
+        dependents.put("dataSource", Arrays.asList("repository", "auditLog"));
+        dependents.put("repository", Collections.singletonList("service"));
+        dependents.put("auditLog", Collections.singletonList("service"));
+        dependents.put("service", Collections.emptyList());
+        List<String> destroyed = Collections.synchronizedList(new ArrayList());
+        SingletonDestructionGraph graph = SingletonDestructionGraph.build(Arrays.asList("dataSource", "repository", "auditLog", "service"), dependents::get);
+        SingletonDestructionReport report = graph.execute(4, 5000L, destroyed::add);
+        assertEquals(4, destroyed.size());
+        assertEquals("service", destroyed.get(0));
+        assertEquals("dataSource", destroyed.get(3));
+        assertTrue(report.isClean());
+    }
+
+    @Test
+    void destroysEveryMemberOfACycleExactlyOnce() {
+        Map<String, Collection<String>> dependents = new HashMap();
+        dependents.put("a", Collections.singletonList("b"));
+        dependents.put("b", Collections.singletonList("c"));
+        dependents.put("c", Arrays.asList("a", "d"));
+        dependents.put("d", Collections.emptyList());
+        dependents.put("e", Collections.singletonList("a"));
+        List<String> destroyed = Collections.synchronizedList(new ArrayList());
+        SingletonDestructionGraph graph = SingletonDestructionGraph.build(Arrays.asList("a", "b", "c", "d", "e"), dependents::get);
+        SingletonDestructionReport report = graph.execute(2, 5000L, destroyed::add);
+        assertEquals(5, destroyed.size());
+        assertEquals(5, (int)destroyed.stream().distinct().count());
+        assertEquals("d", destroyed.get(0));
+        assertTrue(destroyed.indexOf("a") < destroyed.indexOf("e"));
+        assertTrue(destroyed.indexOf("c") < destroyed.indexOf("b"));
+        assertTrue(report.isClean());
+    }
+
+    @Test
+    void failuresAreReportedWithoutBlockingDependencies() {
+        Map<String, Collection<String>> dependents = new HashMap();
+        dependents.put("a", Collections.singletonList("b"));
+        dependents.put("b", Collections.emptyList());
+        List<String> destroyed = Collections.synchronizedList(new ArrayList());
+        SingletonDestructionGraph graph = SingletonDestructionGraph.build(Arrays.asList("a", "b"), dependents::get);
+        SingletonDestructionReport report = graph.execute(1, 5000L, (beanName) -> {
+            destroyed.add(beanName);
+            if ("b".equals(beanName)) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        assertEquals(Arrays.asList("b", "a"), destroyed);
+        assertEquals(Collections.singleton("b"), report.getFailedDestroyers().keySet());
+        assertEquals("boom", report.getFailedDestroyers().get("b").getMessage());
+    }
+
+    @Test
+    void timedOutDestroyerReleasesItsDependencies() throws Exception {
+        Map<String, Collection<String>> dependents = new HashMap();
+        dependents.put("a", Collections.singletonList("slow"));
+        dependents.put("slow", Collections.emptyList());
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> destroyed = Collections.synchronizedList(new ArrayList());
+        SingletonDestructionGraph graph = SingletonDestructionGraph.build(Arrays.asList("a", "slow"), dependents::get);
+
+        try {
+            SingletonDestructionReport report = graph.execute(1, 100L, (beanName) -> {
+                if ("slow".equals(beanName)) {
+                    release.await();
+                }
+
+                destroyed.add(beanName);
+            });
+            assertEquals(Collections.singletonList("a"), destroyed);
+            assertEquals(Collections.singletonList("slow"), report.getTimedOutDestroyers());
+        } finally {
+            release.countDown();
+        }
+    }
+}
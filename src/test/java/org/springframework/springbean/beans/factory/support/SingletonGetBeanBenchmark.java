@@ -0,0 +1,62 @@
+package org.springframework.springbean.beans.factory.support;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonGetBeanBenchmark {
+    private DefaultListableBeanFactory beanFactory;
+
+    @Setup
+    public void setUp() {
+        this.beanFactory = new DefaultListableBeanFactory();
+        this.beanFactory.registerBeanDefinition("simpleBean", new RootBeanDefinition(SingletonGetBeanBenchmark.SimpleBean.class));
+        this.beanFactory.registerAlias("simpleBean", "simpleAlias");
+        this.beanFactory.preInstantiateSingletons();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.beanFactory.destroySingletons();
+    }
+
+    @Benchmark
+    public Object getBeanByName() {
+        return this.beanFactory.getBean("simpleBean");
+    }
+
+    @Benchmark
+    public Object getBeanByAlias() {
+        return this.beanFactory.getBean("simpleAlias");
+    }
+
+    @Benchmark
+    public boolean containsBean() {
+        return this.beanFactory.containsBean("simpleBean");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        (new Runner((new OptionsBuilder()).include(SingletonGetBeanBenchmark.class.getSimpleName()).build())).run();
+    }
+
+    public static class SimpleBean {
+    }
+}
@@ -0,0 +1,114 @@
+package org.springframework.springbean.beans.factory.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.springbean.beans.factory.config.SingletonPreInstantiationReport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingletonPreInstantiationGraphTests {
+
+    @Test
+    void instantiatesDependenciesBeforeDependents() {
+        Map<String, Collection<String>> dependencies = new HashMap();
+        List<String> beanNames = new ArrayList();
+
+        for(int i = 0; i < 200; ++i) {
+            String beanName = "bean" + i;
+            beanNames.add(beanName);
+            List<String> nodeDependencies = new ArrayList();
+            if (i >= 2) {
+                nodeDependencies.add("bean" + i / 2);
+                nodeDependencies.add("bean" + (i - 1));
+            }
+
+            dependencies.put(beanName, nodeDependencies);
+        }
+
+        Collections.shuffle(beanNames);
+        Map<String, Integer> completionOrder = new ConcurrentHashMap();
+        AtomicInteger sequence = new AtomicInteger();
+        SingletonPreInstantiationGraph graph = SingletonPreInstantiationGraph.build(beanNames, dependencies::get);
+        SingletonPreInstantiationReport report = graph.execute(4, (beanName) -> {
+            for (String dependency : dependencies.get(beanName)) {
+                assertTrue(completionOrder.containsKey(dependency), beanName + " instantiated before " + dependency);
+            }
+
+            completionOrder.put(beanName, sequence.incrementAndGet());
+        });
+        assertEquals(200, completionOrder.size());
+        assertEquals(200, report.getBeanCount());
+        assertEquals(4, report.getParallelism());
+        assertEquals("bean199", report.getCriticalPath().get(report.getCriticalPathLength() - 1));
+    }
+
+    @Test
+    void independentBeansRunInParallel() {
+        List<String> beanNames = Arrays.asList("a", "b", "c", "d");
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        SingletonPreInstantiationGraph graph = SingletonPreInstantiationGraph.build(beanNames, (beanName) -> {
+            return Collections.emptyList();
+        });
+        graph.execute(4, (beanName) -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            active.decrementAndGet();
+        });
+        assertTrue(maxActive.get() > 1);
+    }
+
+    @Test
+    void cyclicBeansAreInstantiatedAfterAcyclicOnes() {
+        Map<String, Collection<String>> dependencies = new HashMap();
+        dependencies.put("a", Collections.emptyList());
+        dependencies.put("b", Arrays.asList("a", "c"));
+        dependencies.put("c", Collections.singletonList("b"));
+        dependencies.put("d", Collections.singletonList("a"));
+        List<String> instantiated = Collections.synchronizedList(new ArrayList());
+        SingletonPreInstantiationGraph graph = SingletonPreInstantiationGraph.build(Arrays.asList("b", "c", "a", "d"), dependencies::get);
+        graph.execute(2, instantiated::add);
+        assertEquals(4, instantiated.size());
+        assertEquals(Arrays.asList("b", "c"), instantiated.subList(2, 4));
+    }
+
+    @Test
+    void failurePropagatesAndStopsScheduling() {
+        Map<String, Collection<String>> dependencies = new HashMap();
+        dependencies.put("a", Collections.emptyList());
+        dependencies.put("b", Collections.singletonList("a"));
+        dependencies.put("c", Collections.singletonList("b"));
+        List<String> instantiated = Collections.synchronizedList(new ArrayList());
+        IllegalStateException failure = new IllegalStateException("boom");
+        SingletonPreInstantiationGraph graph = SingletonPreInstantiationGraph.build(Arrays.asList("a", "b", "c"), dependencies::get);
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> {
+            graph.execute(2, (beanName) -> {
+                if ("b".equals(beanName)) {
+                    throw failure;
+                } else {
+                    instantiated.add(beanName);
+                }
+            });
+        });
+        assertSame(failure, thrown);
+        assertEquals(Collections.singletonList("a"), instantiated);
+    }
+}
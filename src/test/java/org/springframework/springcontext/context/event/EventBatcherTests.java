@@ -0,0 +1,184 @@
+package org.springframework.springcontext.context.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.springcontext.context.ApplicationEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventBatcherTests {
+  private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterEach
+  void shutdownScheduler() {
+    this.flushScheduler.shutdownNow();
+  }
+
+  @Test
+  void deliversFullBatchesInPublicationOrder() {
+    EventBatcherTests.RecordingListener listener = new EventBatcherTests.RecordingListener(10, 60000L);
+    EventBatcher batcher = new EventBatcher(listener, this.flushScheduler, null);
+
+    for(int i = 0; i < 1000; ++i) {
+      batcher.add(new EventBatcherTests.TestEvent(i));
+    }
+
+    assertEquals(100, listener.batchCount.get());
+    assertEquals(10, listener.maxBatchSize.get());
+    for(int i = 0; i < 1000; ++i) {
+      assertEquals(i, (int)listener.delivered.get(i));
+    }
+  }
+
+  @Test
+  void flushesPartialBatchAfterMaxDelay() throws Exception {
+    EventBatcherTests.RecordingListener listener = new EventBatcherTests.RecordingListener(10, 20L);
+    EventBatcher batcher = new EventBatcher(listener, this.flushScheduler, null);
+
+    for(int i = 0; i < 3; ++i) {
+      batcher.add(new EventBatcherTests.TestEvent(i));
+    }
+
+    assertEquals(0, listener.delivered.size());
+    assertTrue(listener.awaitDelivered(3, 5000L));
+    assertEquals(1, listener.batchCount.get());
+  }
+
+  @Test
+  void flushDeliversEverythingBuffered() {
+    EventBatcherTests.RecordingListener listener = new EventBatcherTests.RecordingListener(10, 60000L);
+    EventBatcher batcher = new EventBatcher(listener, this.flushScheduler, null);
+
+    for(int i = 0; i < 25; ++i) {
+      batcher.add(new EventBatcherTests.TestEvent(i));
+    }
+
+    batcher.flush();
+    assertEquals(25, listener.delivered.size());
+    assertEquals(3, listener.batchCount.get());
+  }
+
+  @Test
+  void listenerFailuresAreReportedAndDeliveryContinues() {
+    AtomicInteger errors = new AtomicInteger();
+    EventBatcherTests.RecordingListener listener = new EventBatcherTests.RecordingListener(10, 60000L) {
+      @Override
+      public void onApplicationEvents(List<EventBatcherTests.TestEvent> events) {
+        super.onApplicationEvents(events);
+        if (events.get(0).sequence % 20 == 0) {
+          throw new IllegalStateException("boom");
+        }
+      }
+    };
+    EventBatcher batcher = new EventBatcher(listener, this.flushScheduler, (ex) -> {
+      errors.incrementAndGet();
+    });
+
+    for(int i = 0; i < 100; ++i) {
+      batcher.add(new EventBatcherTests.TestEvent(i));
+    }
+
+    assertEquals(100, listener.delivered.size());
+    assertEquals(5, errors.get());
+  }
+
+  @Test
+  void concurrentPublishersNeverExceedMaxBatchSize() throws Exception {
+    int threads = 8;
+    int eventsPerThread = 1003;
+    EventBatcherTests.RecordingListener listener = new EventBatcherTests.RecordingListener(10, 20L);
+    EventBatcher batcher = new EventBatcher(listener, this.flushScheduler, null);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      for(int t = 0; t < threads; ++t) {
+        executor.submit(() -> {
+          start.await();
+
+          for(int i = 0; i < eventsPerThread; ++i) {
+            batcher.add(new EventBatcherTests.TestEvent(i));
+          }
+
+          return null;
+        });
+      }
+
+      start.countDown();
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(listener.awaitDelivered(threads * eventsPerThread, 5000L));
+    assertTrue(listener.maxBatchSize.get() <= 10);
+  }
+
+  static class TestEvent extends ApplicationEvent {
+    final int sequence;
+
+    TestEvent(int sequence) {
+      super("test");
+      this.sequence = sequence;
+    }
+  }
+
+  static class RecordingListener implements BatchingApplicationListener<EventBatcherTests.TestEvent> {
+    final List<Integer> delivered = Collections.synchronizedList(new ArrayList());
+    final AtomicInteger batchCount = new AtomicInteger();
+    final AtomicInteger maxBatchSize = new AtomicInteger();
+    private final int batchSize;
+    private final long batchDelay;
+
+    RecordingListener(int batchSize, long batchDelay) {
+      this.batchSize = batchSize;
+      this.batchDelay = batchDelay;
+    }
+
+    @Override
+    public void onApplicationEvents(List<EventBatcherTests.TestEvent> events) {
+      this.batchCount.incrementAndGet();
+      this.maxBatchSize.accumulateAndGet(events.size(), Math::max);
+
+      for (EventBatcherTests.TestEvent event : events) {
+        this.delivered.add(event.sequence);
+      }
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+      return this.batchSize;
+    }
+
+    @Override
+    public long getMaxBatchDelay() {
+      return this.batchDelay;
+    }
+
+    boolean awaitDelivered(int count, long timeoutMillis) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + timeoutMillis;
+
+      while(this.delivered.size() < count) {
+        if (System.currentTimeMillis() > deadline) {
+          return false;
+        }
+
+        Thread.sleep(5L);
+      }
+
+      return this.delivered.size() == count;
+    }
+  }
+}
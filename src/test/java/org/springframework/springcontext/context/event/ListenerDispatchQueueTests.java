@@ -0,0 +1,201 @@
+package org.springframework.springcontext.context.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.springcontext.context.ApplicationEvent;
+import org.springframework.springcontext.context.ApplicationListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListenerDispatchQueueTests {
+  private final ApplicationListener<ListenerDispatchQueueTests.TestEvent> listener = (event) -> {
+  };
+
+  @Test
+  void dispatchesEventsInSubmissionOrderOnWorker() throws Exception {
+    List<Integer> delivered = Collections.synchronizedList(new ArrayList());
+    CountDownLatch done = new CountDownLatch(100);
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 16, ListenerDispatchQueue.OverflowPolicy.BLOCK, (listener, event) -> {
+      delivered.add(((ListenerDispatchQueueTests.TestEvent)event).sequence);
+      done.countDown();
+    });
+
+    for(int i = 0; i < 100; ++i) {
+      queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(i));
+    }
+
+    assertTrue(done.await(5L, TimeUnit.SECONDS));
+    assertTrue(queue.shutdown(5000L));
+    for(int i = 0; i < 100; ++i) {
+      assertEquals(i, (int)delivered.get(i));
+    }
+
+    assertEquals(100L, queue.getCompletedCount());
+    assertEquals(0L, queue.getLag());
+  }
+
+  @Test
+  void dropOldestDiscardsOldestPendingEvents() throws Exception {
+    ListenerDispatchQueueTests.BlockingInvoker invoker = new ListenerDispatchQueueTests.BlockingInvoker();
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 2, ListenerDispatchQueue.OverflowPolicy.DROP_OLDEST, invoker);
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(0));
+    assertTrue(invoker.blocked.await(5L, TimeUnit.SECONDS));
+
+    for(int i = 1; i <= 4; ++i) {
+      queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(i));
+    }
+
+    assertEquals(2L, queue.getDroppedCount());
+    assertEquals(2, queue.getPendingCount());
+    invoker.release.countDown();
+    assertTrue(queue.shutdown(5000L));
+    assertEquals(Arrays.asList(0, 3, 4), invoker.delivered);
+    assertEquals(0L, queue.getLag());
+  }
+
+  @Test
+  void callerRunsInvokesListenerOnSubmittingThreadWhenFull() throws Exception {
+    ListenerDispatchQueueTests.BlockingInvoker invoker = new ListenerDispatchQueueTests.BlockingInvoker();
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 1, ListenerDispatchQueue.OverflowPolicy.CALLER_RUNS, invoker);
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(0));
+    assertTrue(invoker.blocked.await(5L, TimeUnit.SECONDS));
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(1));
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(2));
+    assertEquals(1L, queue.getCallerRunsCount());
+    assertSame(Thread.currentThread(), invoker.threads.get(1));
+    invoker.release.countDown();
+    assertTrue(queue.shutdown(5000L));
+    assertEquals(Arrays.asList(0, 2, 1), invoker.delivered);
+    assertEquals(0L, queue.getDroppedCount());
+  }
+
+  @Test
+  void blockWaitsForCapacity() throws Exception {
+    ListenerDispatchQueueTests.BlockingInvoker invoker = new ListenerDispatchQueueTests.BlockingInvoker();
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 1, ListenerDispatchQueue.OverflowPolicy.BLOCK, invoker);
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(0));
+    assertTrue(invoker.blocked.await(5L, TimeUnit.SECONDS));
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(1));
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<?> blockedSubmit = executor.submit(() -> {
+        queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(2));
+      });
+      Thread.sleep(200L);
+      assertFalse(blockedSubmit.isDone());
+      invoker.release.countDown();
+      blockedSubmit.get(5L, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(queue.shutdown(5000L));
+    assertEquals(Arrays.asList(0, 1, 2), invoker.delivered);
+    assertEquals(0L, queue.getCallerRunsCount());
+  }
+
+  @Test
+  void submissionsRacingShutdownAreNeitherLostNorDuplicated() throws Exception {
+    int threads = 8;
+    int eventsPerThread = 2000;
+    AtomicInteger delivered = new AtomicInteger();
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 64, ListenerDispatchQueue.OverflowPolicy.BLOCK, (listener, event) -> {
+      delivered.incrementAndGet();
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList();
+
+    try {
+      for(int t = 0; t < threads; ++t) {
+        futures.add(executor.submit(() -> {
+          start.await();
+
+          for(int i = 0; i < eventsPerThread; ++i) {
+            queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(i));
+          }
+
+          return null;
+        }));
+      }
+
+      start.countDown();
+      Thread.sleep(5L);
+      assertTrue(queue.shutdown(5000L));
+
+      for (Future<?> future : futures) {
+        future.get(10L, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(threads * eventsPerThread, delivered.get());
+    assertEquals(0, queue.getPendingCount());
+  }
+
+  @Test
+  void listenerFailuresAreReportedToErrorHandler() throws Exception {
+    AtomicReference<Throwable> reported = new AtomicReference();
+    CountDownLatch handled = new CountDownLatch(1);
+    ListenerDispatchQueue queue = new ListenerDispatchQueue("group", 4, ListenerDispatchQueue.OverflowPolicy.BLOCK, (listener, event) -> {
+      throw new IllegalStateException("boom");
+    }, (ex) -> {
+      reported.set(ex);
+      handled.countDown();
+    });
+    queue.submit(this.listener, new ListenerDispatchQueueTests.TestEvent(0));
+    assertTrue(handled.await(5L, TimeUnit.SECONDS));
+    assertTrue(queue.shutdown(5000L));
+    assertEquals("boom", reported.get().getMessage());
+    assertEquals(1L, queue.getFailedCount());
+    assertEquals(1L, queue.getCompletedCount());
+  }
+
+  static class TestEvent extends ApplicationEvent {
+    final int sequence;
+
+    TestEvent(int sequence) {
+      super("test");
+      this.sequence = sequence;
+    }
+  }
+
+  static class BlockingInvoker implements BiConsumer<ApplicationListener<?>, ApplicationEvent> {
+    final CountDownLatch blocked = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<Integer> delivered = Collections.synchronizedList(new ArrayList());
+    final List<Thread> threads = Collections.synchronizedList(new ArrayList());
+
+    @Override
+    public void accept(ApplicationListener<?> listener, ApplicationEvent event) {
+      this.delivered.add(((ListenerDispatchQueueTests.TestEvent)event).sequence);
+      this.threads.add(Thread.currentThread());
+      if (this.blocked.getCount() > 0L) {
+        this.blocked.countDown();
+
+        try {
+          this.release.await();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+}
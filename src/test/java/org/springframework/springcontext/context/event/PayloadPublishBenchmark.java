@@ -0,0 +1,79 @@
+package org.springframework.springcontext.context.event;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadPublishBenchmark {
+  private final PayloadPublishBenchmark.OrderPlaced payload = new PayloadPublishBenchmark.OrderPlaced(42L);
+
+  private SimpleApplicationEventMulticaster multicaster;
+
+  private PayloadPublishBenchmark.OrderListener firstListener;
+
+  private PayloadPublishBenchmark.OrderListener secondListener;
+
+  @Setup
+  public void setUp() {
+    this.multicaster = new SimpleApplicationEventMulticaster();
+    this.firstListener = new PayloadPublishBenchmark.OrderListener();
+    this.secondListener = new PayloadPublishBenchmark.OrderListener();
+    this.multicaster.addApplicationListener(this.firstListener);
+    this.multicaster.addApplicationListener(this.secondListener);
+    if (!this.multicaster.multicastPayload(this.payload)) {
+      throw new IllegalStateException("Payload fast path not taken");
+    }
+  }
+
+  @Benchmark
+  public boolean publishPayload() {
+    return this.multicaster.multicastPayload(this.payload);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    (new Runner((new OptionsBuilder()).include(PayloadPublishBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build())).run();
+  }
+
+  public static class OrderPlaced {
+    private final long orderId;
+
+    public OrderPlaced(long orderId) {
+      this.orderId = orderId;
+    }
+
+    public long getOrderId() {
+      return this.orderId;
+    }
+  }
+
+  public static class OrderListener implements PayloadApplicationListener<PayloadPublishBenchmark.OrderPlaced> {
+    private long lastOrderId;
+
+    @Override
+    public void onPayload(PayloadPublishBenchmark.OrderPlaced event) {
+      this.lastOrderId = event.getOrderId();
+    }
+
+    public long getLastOrderId() {
+      return this.lastOrderId;
+    }
+  }
+}
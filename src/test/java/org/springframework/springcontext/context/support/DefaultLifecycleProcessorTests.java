@@ -0,0 +1,175 @@
+package org.springframework.springcontext.context.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.springbean.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.springcontext.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultLifecycleProcessorTests {
+  private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+  private final List<String> events = Collections.synchronizedList(new ArrayList());
+
+  @Test
+  void startsPhasesInAscendingAndStopsInDescendingOrder() {
+    this.register("late", 10);
+    this.register("early", -10);
+    this.register("middle", 0);
+    DefaultLifecycleProcessor processor = new DefaultLifecycleProcessor(this.beanFactory);
+    processor.onRefresh();
+    assertTrue(processor.isRunning());
+    assertEquals(Arrays.asList("start:early", "start:middle", "start:late"), this.events);
+    this.events.clear();
+    processor.onClose();
+    assertFalse(processor.isRunning());
+    assertEquals(Arrays.asList("stop:late", "stop:middle", "stop:early"), this.events);
+  }
+
+  @Test
+  void beansInOnePhaseStartConcurrently() throws Exception {
+    CountDownLatch bothStarting = new CountDownLatch(2);
+    this.beanFactory.registerSingleton("first", new DefaultLifecycleProcessorTests.RendezvousLifecycle(bothStarting));
+    this.beanFactory.registerSingleton("second", new DefaultLifecycleProcessorTests.RendezvousLifecycle(bothStarting));
+    DefaultLifecycleProcessor processor = new DefaultLifecycleProcessor(this.beanFactory);
+    processor.setConcurrency(2);
+    processor.setTimeoutPerPhase(5000L);
+    processor.onRefresh();
+    assertEquals(0L, bothStarting.getCount());
+  }
+
+  @Test
+  void startFailureStopsAlreadyStartedPhasesAndRethrows() {
+    DefaultLifecycleProcessorTests.RecordingLifecycle early = this.register("early", -10);
+    DefaultLifecycleProcessorTests.RecordingLifecycle middle = this.register("middle", 0);
+    IllegalStateException failure = new IllegalStateException("boom");
+    this.beanFactory.registerSingleton("failing", new DefaultLifecycleProcessorTests.RecordingLifecycle("failing", 10, this.events) {
+      @Override
+      public void start() {
+        throw failure;
+      }
+    });
+    DefaultLifecycleProcessor processor = new DefaultLifecycleProcessor(this.beanFactory);
+    IllegalStateException thrown = assertThrows(IllegalStateException.class, processor::onRefresh);
+    assertSame(failure, thrown.getCause());
+    assertFalse(processor.isRunning());
+    assertFalse(early.isRunning());
+    assertFalse(middle.isRunning());
+    assertEquals(Arrays.asList("start:early", "start:middle", "stop:middle", "stop:early"), this.events);
+  }
+
+  @Test
+  void stopTimeoutIsReported() {
+    CountDownLatch release = new CountDownLatch(1);
+    this.register("fast", 0);
+    this.beanFactory.registerSingleton("slow", new DefaultLifecycleProcessorTests.RecordingLifecycle("slow", 0, this.events) {
+      @Override
+      public void stop() {
+        try {
+          release.await();
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+
+        super.stop();
+      }
+    });
+    DefaultLifecycleProcessor processor = new DefaultLifecycleProcessor(this.beanFactory);
+    processor.setTimeoutPerPhase(100L);
+    processor.onRefresh();
+
+    try {
+      processor.onClose();
+      assertEquals(Collections.singletonList("slow"), processor.getLastStopTimedOutBeans());
+      assertTrue(this.events.contains("stop:fast"));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private DefaultLifecycleProcessorTests.RecordingLifecycle register(String beanName, int phase) {
+    DefaultLifecycleProcessorTests.RecordingLifecycle bean = new DefaultLifecycleProcessorTests.RecordingLifecycle(beanName, phase, this.events);
+    this.beanFactory.registerSingleton(beanName, bean);
+    return bean;
+  }
+
+  static class RecordingLifecycle implements SmartLifecycle {
+    private final String name;
+    private final int phase;
+    private final List<String> events;
+    private volatile boolean running;
+
+    RecordingLifecycle(String name, int phase, List<String> events) {
+      this.name = name;
+      this.phase = phase;
+      this.events = events;
+    }
+
+    @Override
+    public void start() {
+      this.events.add("start:" + this.name);
+      this.running = true;
+    }
+
+    @Override
+    public void stop() {
+      this.events.add("stop:" + this.name);
+      this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+      return this.running;
+    }
+
+    @Override
+    public int getPhase() {
+      return this.phase;
+    }
+  }
+
+  static class RendezvousLifecycle implements SmartLifecycle {
+    private final CountDownLatch starting;
+    private volatile boolean running;
+
+    RendezvousLifecycle(CountDownLatch starting) {
+      this.starting = starting;
+    }
+
+    @Override
+    public void start() {
+      this.starting.countDown();
+
+      try {
+        if (!this.starting.await(5L, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Peer lifecycle bean did not start concurrently");
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+
+      this.running = true;
+    }
+
+    @Override
+    public void stop() {
+      this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+      return this.running;
+    }
+  }
+}